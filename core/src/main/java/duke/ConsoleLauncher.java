@@ -0,0 +1,69 @@
+package duke;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+
+import duke.dispatch.CommandDispatcher;
+import duke.dispatch.CommandServer;
+
+/**
+ * Launcher class used to run Duke without the GUI, reading inputs from the standard input and
+ * printing the replies. Nothing of JavaFX is loaded, so it starts faster and runs where there is
+ * no display, such as on a server or in scripts.
+ */
+public class ConsoleLauncher {
+    private static final String END_COMMAND = "bye";
+    private static final String RELOAD_COMMAND = "reload";
+
+    /**
+     * Runs Duke on the standard input: ConsoleLauncher [DATA_DIR]. Inputs are run by a
+     * CommandDispatcher, so a CommandServer started with the "duke.server.port" system property
+     * shares it, as in the GUI. Reminders are printed when they are due, and edits made to the save
+     * files outside Duke are reloaded and printed when they are seen.
+     * @param args optionally the data directory, otherwise the default data directory is used.
+     */
+    public static void main(String[] args) throws IOException {
+        Controller controller = args.length > 0 ? new Controller(Paths.get(args[0])) : new Controller();
+        System.out.println(controller.initialise());
+        controller.addReminderListener(System.out::println);
+        try (CommandDispatcher dispatcher = new CommandDispatcher(controller)) {
+            try {
+                controller.startWatching(() -> dispatcher.submit(RELOAD_COMMAND).thenAccept(System.out::println));
+            } catch (IOException e) {
+                // Edits made outside Duke are then only seen after a restart or the reload command.
+            }
+            CommandServer server = startServer(dispatcher, controller);
+            try {
+                BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+                String input;
+                while ((input = in.readLine()) != null) {
+                    System.out.println(dispatcher.submit(input).join());
+                    if (input.equals(END_COMMAND)) {
+                        break;
+                    }
+                }
+            } finally {
+                if (server != null) {
+                    server.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts a CommandServer if the "duke.server.port" system property is set. Its token is
+     * written to the data directory of the Controller.
+     * @return the started CommandServer, or null if no port is set or Duke could not start.
+     */
+    private static CommandServer startServer(CommandDispatcher dispatcher, Controller controller)
+            throws IOException {
+        Integer port = Integer.getInteger(CommandServer.PORT_PROPERTY);
+        if (port == null || controller.getDataDir() == null) {
+            return null;
+        }
+        return CommandServer.start(dispatcher, port, controller.getDataDir());
+    }
+}
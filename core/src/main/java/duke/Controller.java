@@ -0,0 +1,729 @@
+package duke;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import duke.autocomplete.Autocomplete;
+import duke.commands.BasicCommandType;
+import duke.exceptions.DukeArchiveException;
+import duke.exceptions.DukeCorruptedStorageException;
+import duke.exceptions.DukeCreateDirectoryException;
+import duke.exceptions.DukeCreateFileException;
+import duke.exceptions.DukeEmptyListException;
+import duke.exceptions.DukeNoDescriptionException;
+import duke.exceptions.DukeNotDoneException;
+import duke.exceptions.DukeReadOnlyException;
+import duke.exceptions.DukeReloadException;
+import duke.exceptions.DukeReplicationException;
+import duke.exceptions.DukeSaveFileException;
+import duke.exceptions.DukeSyncException;
+import duke.exceptions.DukeSyncInUseException;
+import duke.exceptions.DukeTransferFileException;
+import duke.exceptions.DukeUnknownArgumentsException;
+import duke.exceptions.DukeUnknownFormatException;
+import duke.exceptions.DukeWorkspaceException;
+import duke.jfr.CommandEvent;
+import duke.reminders.ReminderScheduler;
+import duke.replication.ReplicationLog;
+import duke.storage.SaveFileWatcher;
+import duke.storage.Storage;
+import duke.sync.TaskDigest;
+import duke.sync.TaskSync;
+import duke.tasks.Task;
+import duke.tasks.TaskList;
+import duke.tasks.TaskListListener;
+import duke.transfer.TaskExporter;
+import duke.transfer.TaskImporter;
+import duke.ui.Message;
+import duke.workspaces.Workspace;
+import duke.workspaces.Workspaces;
+
+/**
+ * Represents the Controller used to control the logic of the duke.gui.Duke program. Controller contains
+ * the TaskList, Storage, and Ui.
+ */
+public class Controller {
+    private static final String END_COMMAND = "bye";
+    private static final String RELOAD_INPUT = "reload";
+    private static final String REPLICATION_PROPERTY = "duke.replication.spool";
+    private final Path dataDir;
+    private TaskList tasks;
+    private Storage storage;
+    private ReplicationLog replicationLog;
+    private Workspaces workspaces;
+    private final ReminderScheduler reminders = new ReminderScheduler(this::remind);
+    private final CopyOnWriteArrayList<Consumer<String>> reminderListeners =
+            new CopyOnWriteArrayList<>();
+    private final ArrayList<TaskListListener> taskListListeners = new ArrayList<>();
+    private final TaskDigest digest = new TaskDigest();
+    private Batch batch;
+    private SaveFileWatcher saveFileWatcher;
+    private Autocomplete autocomplete;
+    private Runnable saveFileListener;
+    private boolean isArchivingOnStart = true;
+    private int numArchivedOnStart = 0;
+
+    /**
+     * Constructs a Controller that saves the tasks in the default data directory.
+     */
+    public Controller() {
+        this(null);
+    }
+
+    /**
+     * Constructs a Controller that saves the tasks in the data directory.
+     * @param dataDir directory the save files are kept in, or null for the default data directory.
+     */
+    public Controller(Path dataDir) {
+        this.dataDir = dataDir;
+    }
+
+    /**
+     * Initialises the new Controller for the logic of the Duke application. Commands are also
+     * written to a replication log if the "duke.replication.spool" system property is set.
+     * @return Error messages if there are issues present, else returns the starting message.
+     */
+    public String initialise() {
+        try {
+            storage = dataDir == null ? Storage.getInstance() : Storage.open(dataDir);
+            lockStorage();
+            tasks = new TaskList(storage);
+            workspaces = new Workspaces(new Workspace(Workspaces.DEFAULT_WORKSPACE, storage, tasks));
+            if (!storage.isReadOnly()) {
+                if (isArchivingOnStart) {
+                    numArchivedOnStart = tasks.archiveOldTasks(LocalDate.now());
+                }
+                tasks.updateSave(storage);
+            }
+        } catch (DukeArchiveException | DukeSaveFileException e) {
+            startReminders();
+            return Message.getErrorMsg(e);
+        } catch (DukeCreateFileException e) {
+            return Message.getErrorMsg(e);
+        } catch (DukeCreateDirectoryException e) {
+            return Message.getErrorMsg(e);
+        }
+        startReminders();
+        String spoolDir = System.getProperty(REPLICATION_PROPERTY);
+        if (spoolDir != null) {
+            try {
+                startReplication(Paths.get(spoolDir));
+            } catch (DukeReplicationException e) {
+                return Message.getStartMsg() + Message.getErrorMsg(e);
+            }
+        }
+        if (storage.getQuarantinedRecords() > 0) {
+            return Message.getStartMsg() + Message.getSalvageMsg(tasks.size(),
+                    storage.getQuarantinedRecords(), storage.getQuarantineFile());
+        }
+        if (storage.isReadOnly()) {
+            return Message.getStartMsg() + Message.getReadOnlyMsg(storage.getDataDir().toString());
+        }
+        return Message.getStartMsg();
+    }
+
+    /**
+     * Takes ownership of the data directory, so that only one Duke saves to it. If another Duke
+     * owns it, this one only shows the tasks, and sees the saves of the other Duke before each
+     * command. A data directory whose lock file cannot be opened is used without the lock, as
+     * before.
+     */
+    private void lockStorage() {
+        try {
+            storage.lock();
+        } catch (IOException e) {
+            // The tasks are still loaded and saved, but other instances are not kept out.
+        }
+    }
+
+    /**
+     * Returns the data directory of the default workspace, which holds the files of the other
+     * workspaces too.
+     * @return the data directory, or null if the Controller could not be initialised.
+     */
+    public Path getDataDir() {
+        return workspaces == null ? null : workspaces.getDataDir();
+    }
+
+    /**
+     * Sets whether done tasks that are more than 30 days old are archived when the Controller is
+     * initialised. A replication follower leaves this to its primary, whose archived tasks reach
+     * the follower through the replication log.
+     * @param isArchivingOnStart true if old tasks are archived on start.
+     */
+    public void setArchivingOnStart(boolean isArchivingOnStart) {
+        this.isArchivingOnStart = isArchivingOnStart;
+    }
+
+    /**
+     * Starts writing each command that changes the TaskList to the replication log in the spool
+     * directory, so that followers can apply the same commands. A snapshot of the data directory
+     * is saved with the log for new followers to start from. If old tasks were archived on start,
+     * the snapshot is also logged, so followers that are already running archive them too.
+     * @param spoolDir directory shared with the followers.
+     * @throws DukeReplicationException when the replication log or snapshot cannot be written.
+     */
+    public void startReplication(Path spoolDir) throws DukeReplicationException {
+        try {
+            replicationLog = ReplicationLog.open(spoolDir);
+            if (numArchivedOnStart > 0) {
+                replicationLog.appendSnapshot(workspaces.getDataDir(), workspaces.getActive().getName());
+                numArchivedOnStart = 0;
+            } else {
+                replicationLog.writeSnapshot(workspaces.getDataDir(), workspaces.getActive().getName());
+            }
+        } catch (IOException e) {
+            throw new DukeReplicationException();
+        }
+    }
+
+    /**
+     * Adds a listener that is given the reminder messages of tasks that are due soon. Reminders
+     * are printed to the console if there are no listeners.
+     * @param listener listener called on the reminder thread with the reminder message.
+     */
+    public void addReminderListener(Consumer<String> listener) {
+        reminderListeners.add(listener);
+    }
+
+    /**
+     * Adds a listener that is told of each change to the TaskList. The listener is first given
+     * all the tasks in the TaskList.
+     * @param listener listener of the changes to the TaskList.
+     */
+    public void addTaskListListener(TaskListListener listener) {
+        taskListListeners.add(listener);
+        if (tasks != null) {
+            tasks.addListener(listener);
+        }
+    }
+
+    /**
+     * Starts keeping the descriptions of the tasks for autocomplete, and returns the Autocomplete
+     * that suggests completions from them. The Autocomplete moves with the active workspace. Call
+     * before commands are run on other threads; the Autocomplete itself can then be used from any
+     * thread.
+     * @return the Autocomplete of the tasks.
+     */
+    public Autocomplete startAutocomplete() {
+        if (autocomplete == null) {
+            autocomplete = new Autocomplete();
+            if (tasks != null) {
+                tasks.addListener(autocomplete);
+            }
+        }
+        return autocomplete;
+    }
+
+    /**
+     * Starts watching the save files of the active workspace for edits made outside Duke. Saves
+     * are held off once an edit is seen, and the edited records are reloaded before the next
+     * command is run.
+     * @param listener listener called on the watcher thread when the save files are edited.
+     * @throws IOException when the save files cannot be watched.
+     */
+    public synchronized void startWatching(Runnable listener) throws IOException {
+        saveFileListener = listener;
+        if (saveFileWatcher != null) {
+            saveFileWatcher.close();
+        }
+        saveFileWatcher = SaveFileWatcher.start(storage, listener);
+    }
+
+    private void startReminders() {
+        for (TaskListListener listener : taskListListeners) {
+            tasks.addListener(listener);
+        }
+        tasks.addListener(reminders);
+        tasks.addListener(digest);
+        reminders.start();
+    }
+
+    private void remind(Task task) {
+        String msg = Message.getReminderMsg(task);
+        if (reminderListeners.isEmpty()) {
+            System.out.println(msg);
+            return;
+        }
+        for (Consumer<String> listener : reminderListeners) {
+            listener.accept(msg);
+        }
+    }
+
+    /**
+     * Starts the program and accepting user inputs.
+     */
+    public String run(String input) {
+        if (input.equals(END_COMMAND)) {
+            reminders.stop();
+            stopWatching();
+            unlockStorage();
+            return Message.getByeMsg();
+        }
+
+        return handleInput(input);
+    }
+
+    /**
+     * Runs the inputs in order and saves the TaskList once after all of them, instead of once
+     * after each input. Commands that changed the TaskList are written to the replication log
+     * only after the save, in the order they were run. If the save fails, the reply to each of
+     * those commands is the error message.
+     * @param inputs user inputs in the order they are run.
+     * @return reply to each input, in the same order.
+     */
+    public List<String> runBatch(List<String> inputs) {
+        batch = new Batch(inputs.size());
+        try {
+            for (String input : inputs) {
+                batch.outputs.add(run(input));
+            }
+        } finally {
+            batch.isRunning = false;
+        }
+        Batch finished = batch;
+        batch = null;
+        if (finished.inputs.isEmpty()) {
+            return finished.outputs;
+        }
+        try {
+            tasks.updateSave(storage);
+        } catch (DukeSaveFileException e) {
+            if (e instanceof DukeReadOnlyException) {
+                discardChanges();
+            }
+            for (int index : finished.indexes) {
+                finished.outputs.set(index, Message.getErrorMsg(e));
+            }
+            return finished.outputs;
+        }
+        if (!finished.commands.stream().allMatch(BasicCommandType::isReplayable)) {
+            try {
+                replicateSnapshot();
+            } catch (DukeReplicationException e) {
+                for (int index : finished.indexes) {
+                    finished.outputs.set(index, Message.getErrorMsg(e));
+                }
+            }
+            return finished.outputs;
+        }
+        for (int i = 0; i < finished.inputs.size(); i++) {
+            try {
+                replicate(finished.inputs.get(i), finished.commands.get(i));
+            } catch (DukeReplicationException e) {
+                finished.outputs.set(finished.indexes.get(i), Message.getErrorMsg(e));
+            }
+        }
+        return finished.outputs;
+    }
+
+    /**
+     * Handles inputs from user. If the save files were edited outside Duke, or saved by another
+     * Duke using the same data directory, the edits are reloaded before the input is run, so the
+     * input is never run on tasks that are out of date.
+     * @param input User inputs.
+     */
+    public String handleInput(String input) {
+        BasicCommandType command = Parser.parseCommand(input);
+        if (storage != null) {
+            storage.checkGeneration();
+        }
+        if (command != BasicCommandType.RELOAD && storage != null && storage.hasExternalEdits()) {
+            return executeCommand(RELOAD_INPUT, BasicCommandType.RELOAD) + System.lineSeparator()
+                    + executeCommand(input, command);
+        }
+        return executeCommand(input, command);
+    }
+
+    /**
+     * Executes User inputs based on the commandType. Each command is recorded as a CommandEvent
+     * when Flight Recorder is running.
+     * @param input user input used based on commandType.
+     * @param command commandType used to differentiate how input is used.
+     */
+    private String executeCommand(String input, BasicCommandType command) {
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        Exception failure = null;
+        try {
+            String output;
+            switch (command) {
+            case DONE:
+                output = doneTask(input);
+                break;
+            case LIST:
+                output = printList(input);
+                break;
+            case DELETE:
+                output = tasks.deleteTask(input);
+                break;
+            case ADD:
+                output = specificTask(input);
+                break;
+            case IMPORT:
+                output = importTasks(input);
+                break;
+            case EXPORT:
+                output = exportTasks(input);
+                break;
+            case ARCHIVE:
+                output = tasks.archive(input);
+                break;
+            case SUMMARY:
+                output = tasks.summarise();
+                break;
+            case SYNC:
+                output = syncTasks(input);
+                break;
+            case NEXT:
+                output = tasks.next(input);
+                break;
+            case USE:
+                output = useWorkspace(input);
+                break;
+            case WORKSPACES:
+                output = Message.getWorkspacesMsg(workspaces);
+                break;
+            case RELOAD:
+                output = Message.getReloadMsg(tasks.reload(), tasks.size());
+                break;
+            case READY:
+                output = tasks.ready();
+                break;
+            default:
+                throw new DukeUnknownArgumentsException();
+            }
+            if (batch != null && batch.isRunning) {
+                batch.defer(input, command);
+            } else {
+                tasks.updateSave(storage);
+                replicate(input, command);
+            }
+            return output;
+        } catch (DukeUnknownArgumentsException | DukeEmptyListException e) {
+            failure = e;
+            return Message.getErrorMsg(e);
+        } catch (DukeReadOnlyException e) {
+            failure = e;
+            discardChanges();
+            return Message.getErrorMsg(e);
+        } catch (DukeSaveFileException e) {
+            failure = e;
+            return Message.getErrorMsg(e);
+        } catch (DukeNoDescriptionException e) {
+            failure = e;
+            return Message.getErrorMsg(e);
+        } catch (DukeUnknownFormatException | DukeTransferFileException e) {
+            failure = e;
+            return Message.getErrorMsg(e);
+        } catch (DukeArchiveException | DukeNotDoneException e) {
+            failure = e;
+            return Message.getErrorMsg(e);
+        } catch (DukeReplicationException | DukeSyncException | DukeWorkspaceException e) {
+            failure = e;
+            return Message.getErrorMsg(e);
+        } catch (DukeReloadException e) {
+            failure = e;
+            return Message.getErrorMsg(e);
+        } catch (NumberFormatException e) {
+            failure = e;
+            return Message.getErrorMsg(e);
+        } catch (IndexOutOfBoundsException e) {
+            failure = e;
+            return Message.getErrorMsg(e, tasks);
+        } finally {
+            commitEvent(event, input, command, failure);
+        }
+    }
+
+    /**
+     * Undoes the changes made to the tasks of a read-only Duke, which could not be saved, by
+     * reading the changed segments again.
+     */
+    private void discardChanges() {
+        try {
+            tasks.reload();
+        } catch (DukeReloadException e) {
+            // The changed segments are read again before the next command.
+        }
+    }
+
+    /**
+     * Commits the Flight Recorder event of the command if it is being recorded. The fields are
+     * only filled in then, so commands cost nothing extra when no recording is running.
+     */
+    private void commitEvent(CommandEvent event, String input, BasicCommandType command, Exception failure) {
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.type = command.name();
+        event.inputLength = input.length();
+        event.outcome = failure == null ? CommandEvent.OK : failure.getClass().getSimpleName();
+        event.isBatched = batch != null;
+        event.commit();
+    }
+
+    /**
+     * Writes the input to the replication log if replication is started and the command can
+     * change the TaskList. Only commands that were applied and saved are written. Commands that
+     * cannot be replayed are written as a snapshot of the data directory instead.
+     * @param input input of the command.
+     * @param command commandType of the input.
+     * @throws DukeReplicationException when the replication log cannot be written.
+     */
+    private void replicate(String input, BasicCommandType command) throws DukeReplicationException {
+        if (replicationLog == null || !command.isMutating()) {
+            return;
+        }
+        if (!command.isReplayable()) {
+            replicateSnapshot();
+            return;
+        }
+        try {
+            replicationLog.append(input);
+        } catch (IOException e) {
+            throw new DukeReplicationException();
+        }
+    }
+
+    /**
+     * Writes a snapshot of the saved data directory to the replication log, for followers to load
+     * in place of the changes they cannot replay.
+     * @throws DukeReplicationException when the snapshot cannot be written.
+     */
+    private void replicateSnapshot() throws DukeReplicationException {
+        if (replicationLog == null) {
+            return;
+        }
+        try {
+            replicationLog.appendSnapshot(workspaces.getDataDir(), workspaces.getActive().getName());
+        } catch (IOException e) {
+            throw new DukeReplicationException();
+        }
+    }
+
+    /**
+     * Marks specified task based on input as done.
+     * @param input input used to get index to be marked as done.
+     */
+    private String doneTask(String input) {
+        return tasks.done(input);
+    }
+
+    /**
+     * Adds task based on input to the TaskList.
+     * @param input input used to get specific information of the task to be added.
+     * @throws DukeUnknownArgumentsException if the input contains an unknown command.
+     */
+    private String specificTask(String input) throws DukeUnknownArgumentsException {
+        return tasks.run(input);
+    }
+
+    /**
+     * Imports the tasks from the file given in the input. The tasks are only added once the whole
+     * file is read, so a file that cannot be read to the end adds none of them. The tasks are
+     * saved once after all of them are added.
+     * @param input input containing the file and optionally its format.
+     */
+    private String importTasks(String input) throws DukeNoDescriptionException,
+            DukeUnknownFormatException, DukeTransferFileException {
+        Parser.TransferInput transferInput = Parser.parseTransferInput(input);
+        Path file = Paths.get(transferInput.getFile());
+        try {
+            ArrayList<Task> imported = new ArrayList<>();
+            TaskImporter.ImportResult result = TaskImporter.importTasks(file, transferInput.getFormat(),
+                    imported::addAll);
+            tasks.importAll(imported);
+            return Message.getImportMsg(result.getImported(), result.getSkipped(),
+                    transferInput.getFile(), tasks.size());
+        } catch (IOException e) {
+            throw new DukeTransferFileException(transferInput.getFile());
+        }
+    }
+
+    /**
+     * Exports the tasks to the file given in the input.
+     * @param input input containing the file and optionally its format.
+     */
+    private String exportTasks(String input) throws DukeNoDescriptionException,
+            DukeUnknownFormatException, DukeTransferFileException {
+        Parser.TransferInput transferInput = Parser.parseTransferInput(input);
+        Path file = Paths.get(transferInput.getFile());
+        try {
+            long numExported = TaskExporter.export(tasks.getTasks(), file, transferInput.getFormat());
+            return Message.getExportMsg(numExported, transferInput.getFile(),
+                    transferInput.getFormat().getName());
+        } catch (IOException e) {
+            throw new DukeTransferFileException(transferInput.getFile());
+        }
+    }
+
+    /**
+     * Syncs the tasks with the data directory given in the input, so that both hold the same
+     * tasks. Both data directories are saved before the synced records are kept as the base of
+     * the next sync. The other data directory is locked while it is synced, so no other Duke
+     * saves to it meanwhile.
+     * @param input input containing the other data directory.
+     * @throws DukeReadOnlyException when another Duke owns this data directory.
+     * @throws DukeSyncInUseException when another Duke owns the other data directory.
+     * @throws DukeSyncException when the other data directory cannot be read or saved.
+     */
+    private String syncTasks(String input) throws DukeNoDescriptionException, DukeSyncException,
+            DukeReadOnlyException {
+        String otherDir = Parser.parseSyncInput(input);
+        if (storage.isReadOnly()) {
+            throw new DukeReadOnlyException();
+        }
+        Storage otherStorage = null;
+        try {
+            otherStorage = Storage.open(Paths.get(otherDir));
+            if (otherStorage.getDataDir().equals(storage.getDataDir())) {
+                throw new DukeSyncException(otherDir);
+            }
+            if (!otherStorage.lock()) {
+                throw new DukeSyncInUseException(otherDir);
+            }
+            TaskList otherTasks = new TaskList(otherStorage);
+            TaskDigest otherDigest = new TaskDigest();
+            otherTasks.addListener(otherDigest);
+            String otherId = otherStorage.getSyncId();
+            TaskSync.SyncResult result = TaskSync.sync(tasks, digest, otherTasks, otherDigest,
+                    storage.loadSyncBase(otherId));
+            otherTasks.updateSave(otherStorage);
+            tasks.updateSave(storage);
+            long[] hashes = digest.getHashes();
+            storage.saveSyncBase(otherId, hashes);
+            otherStorage.saveSyncBase(storage.getSyncId(), hashes);
+            return Message.getSyncMsg(result, otherDir, tasks.size());
+        } catch (IOException | DukeCreateDirectoryException | DukeCreateFileException
+                | DukeSaveFileException | DukeCorruptedStorageException e) {
+            throw new DukeSyncException(otherDir);
+        } finally {
+            unlock(otherStorage);
+        }
+    }
+
+    private static void unlock(Storage otherStorage) {
+        if (otherStorage == null) {
+            return;
+        }
+        try {
+            otherStorage.unlock();
+        } catch (IOException e) {
+            // The lock is released by the operating system when the application exits.
+        }
+    }
+
+    /**
+     * Makes the workspace given in the input the active workspace. The listeners of the
+     * Controller are moved to the TaskList of the workspace, and the reminders of the previous
+     * workspace are cancelled. The previous workspace is saved first, as its changes may not have
+     * been saved yet when the input is run in a batch.
+     * @param input input containing the name of the workspace.
+     * @throws DukeWorkspaceException when the name is invalid or the workspace cannot be loaded.
+     */
+    private String useWorkspace(String input) throws DukeNoDescriptionException, DukeWorkspaceException,
+            DukeSaveFileException {
+        String name = Parser.parseUseInput(input);
+        tasks.updateSave(storage);
+        Workspace workspace = workspaces.use(name);
+        if (workspace.getTasks() != tasks) {
+            for (TaskListListener listener : taskListListeners) {
+                tasks.removeListener(listener);
+            }
+            tasks.removeListener(reminders);
+            tasks.removeListener(digest);
+            reminders.cancelAll();
+            if (autocomplete != null) {
+                tasks.removeListener(autocomplete);
+            }
+            tasks = workspace.getTasks();
+            storage = workspace.getStorage();
+            startReminders();
+            if (autocomplete != null) {
+                tasks.addListener(autocomplete);
+            }
+            watchWorkspace();
+        }
+        return Message.getUseMsg(name, tasks.size());
+    }
+
+    /**
+     * Moves the watcher of the save files to the active workspace, if the save files are being
+     * watched. The workspace is still used if its save files cannot be watched.
+     */
+    private synchronized void watchWorkspace() {
+        if (saveFileListener == null) {
+            return;
+        }
+        try {
+            startWatching(saveFileListener);
+        } catch (IOException e) {
+            saveFileWatcher = null;
+        }
+    }
+
+    private void unlockStorage() {
+        if (storage == null) {
+            return;
+        }
+        try {
+            storage.unlock();
+        } catch (IOException e) {
+            // The lock is released by the operating system when the application exits.
+        }
+    }
+
+    private synchronized void stopWatching() {
+        if (saveFileWatcher == null) {
+            return;
+        }
+        try {
+            saveFileWatcher.close();
+        } catch (IOException e) {
+            // The watcher thread stops once the watch service is closed, even if closing fails.
+        }
+        saveFileWatcher = null;
+    }
+
+    /**
+     * Prints the string representation of the TaskList, or of the archived tasks if the input is
+     * "list archived".
+     * @param input list input.
+     * @throws DukeArchiveException when the archive cannot be read.
+     */
+    private String printList(String input) throws DukeArchiveException {
+        if (Parser.isListArchivedInput(input)) {
+            return tasks.printArchived();
+        }
+        return tasks.print();
+    }
+
+    /**
+     * Keeps the replies of a batch of inputs and the commands whose save was deferred to the end
+     * of the batch.
+     */
+    private static class Batch {
+        private final ArrayList<String> outputs;
+        private final ArrayList<String> inputs = new ArrayList<>();
+        private final ArrayList<BasicCommandType> commands = new ArrayList<>();
+        private final ArrayList<Integer> indexes = new ArrayList<>();
+        private boolean isRunning = true;
+
+        Batch(int size) {
+            outputs = new ArrayList<>(size);
+        }
+
+        void defer(String input, BasicCommandType command) {
+            inputs.add(input);
+            commands.add(command);
+            indexes.add(outputs.size());
+        }
+    }
+}
@@ -0,0 +1,806 @@
+package duke;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import duke.calendar.TimeRange;
+import duke.commands.BasicCommandType;
+import duke.commands.SpecificCommandType;
+import duke.exceptions.DukeCorruptedStorageException;
+import duke.exceptions.DukeInvalidViewException;
+import duke.exceptions.DukeNoDescriptionException;
+import duke.exceptions.DukeUnknownArgumentsException;
+import duke.exceptions.DukeUnknownFormatException;
+import duke.exceptions.DukeWorkspaceException;
+import duke.transfer.TransferFormat;
+
+/**
+ * Represents a Parser class to parse input to specified outputs based on inputs.
+ */
+public class Parser {
+    private static final String DEADLINE_COMMAND = "deadline";
+    private static final String DONE_COMMAND = "done";
+    private static final String LIST_COMMAND = "list";
+    private static final String DELETE_COMMAND = "delete";
+    private static final String TODO_COMMAND = "todo";
+    private static final String EVENT_COMMAND = "event";
+    private static final String FIND_COMMAND = "find";
+    private static final String FILTER_COMMAND = "filter";
+    private static final String QUERY_COMMAND = "query";
+    private static final String IMPORT_COMMAND = "import";
+    private static final String EXPORT_COMMAND = "export";
+    private static final String ARCHIVE_COMMAND = "archive";
+    private static final String LIST_ARCHIVED_COMMAND = "list archived";
+    private static final String SUMMARY_COMMAND = "summary";
+    private static final String SYNC_COMMAND = "sync";
+    private static final String NEXT_COMMAND = "next";
+    private static final String SAVE_VIEW_COMMAND = "save-view";
+    private static final String VIEW_COMMAND = "view";
+    private static final String CONFLICTS_COMMAND = "conflicts";
+    private static final String FREE_COMMAND = "free";
+    private static final String USE_COMMAND = "use";
+    private static final String WORKSPACES_COMMAND = "workspaces";
+    private static final String RELOAD_COMMAND = "reload";
+    private static final String READY_COMMAND = "ready";
+    private static final List<String> COMMAND_KEYWORDS = List.of(TODO_COMMAND, DEADLINE_COMMAND,
+            EVENT_COMMAND, LIST_COMMAND, FIND_COMMAND, DONE_COMMAND, DELETE_COMMAND, FILTER_COMMAND,
+            QUERY_COMMAND, NEXT_COMMAND, CONFLICTS_COMMAND, FREE_COMMAND, SAVE_VIEW_COMMAND, VIEW_COMMAND,
+            ARCHIVE_COMMAND, SUMMARY_COMMAND, IMPORT_COMMAND, EXPORT_COMMAND, SYNC_COMMAND, USE_COMMAND,
+            WORKSPACES_COMMAND, RELOAD_COMMAND, READY_COMMAND);
+    private static final int TODO_MIN_ARGUMENTS = 2;
+    private static final int TODO_DESCRIPTION = 5;
+    private static final int ENCODE_DATE_PARAM = 3;
+    private static final int DESCRIPTION_PARAM = 0;
+    private static final String DATE_SEPARATOR = "/";
+    private static final int DATE_INPUT_MIN_ARGUMENTS = 4;
+    private static final int INDEX_PADDING = 1;
+    private static final int MAX_FAST_INDEX_DIGITS = 9;
+    private static final String TODO_COMMAND_TYPE = "T";
+    private static final String DEADLINE_COMMAND_TYPE = "D";
+    private static final String EVENT_COMMAND_TYPE = "E";
+    private static final String DATA_SEPARATOR = " \\| ";
+    private static final int TODO_COMMAND_TYPE_PARAM = 0;
+    private static final int TODO_DESCRIPTION_PARAM = 2;
+    private static final int IS_DONE_PARAM = 1;
+    private static final String DONE_ENCODING = "1";
+    private static final String NOT_DONE_ENCODING = "0";
+    private static final int DATE_PARAM = 1;
+    private static final int DATE_POSTFIX = 3;
+    private static final int FIND_MIN_ARGUMENTS = 2;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMM dd yyyy");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final String RANGE_SEPARATOR = " to ";
+    private static final String TIME_SEPARATOR = ":";
+    private static final int DEFAULT_EVENT_HOURS = 1;
+    private static final Pattern TAG_PATTERN = Pattern.compile("#[A-Za-z][\\w-]*");
+    private static final String TAG_PREFIX = "#";
+    private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9_-]+");
+    private static final Pattern PRIORITY_PATTERN = Pattern.compile("\\s*/p\\s+(\\d+)");
+    private static final Pattern DEPENDENCIES_PATTERN =
+            Pattern.compile("\\s+after\\s+(#\\d+(?:\\s*,\\s*#\\d+)*)");
+    private static final String DEPENDENCY_SEPARATOR = "\\s*,\\s*";
+    private static final int DEFAULT_NEXT_TASKS = 1;
+    private static final String FIELD_SEPARATOR = ":";
+    private static final int TODO_DATA_FIELDS = 3;
+    private static final int DATE_DATA_FIELDS = 4;
+
+    /**
+     * Returns a string representation based on LocalDate.
+     * @param date date used to create the string representation.
+     * @return the date with "MMM dd yyyy".
+     */
+    public static String localDateToString(LocalDate date) {
+        return date.format(DATE_FORMATTER);
+    }
+
+    /**
+     * Appends the date in the "MMM dd yyyy" format to the builder.
+     * @param output builder the date is appended to.
+     * @param date date to be appended.
+     */
+    public static void appendLocalDate(StringBuilder output, LocalDate date) {
+        DATE_FORMATTER.formatTo(date, output);
+    }
+
+    /**
+     * Appends the string representation of a TimeRange, such as "Mar 12 2021 14:00 to 15:30", or
+     * only its days if it takes up whole days, such as "Mar 12 2021 to Mar 14 2021".
+     * @param output builder the TimeRange is appended to.
+     * @param range TimeRange to be appended.
+     */
+    public static void appendTimeRange(StringBuilder output, TimeRange range) {
+        LocalDate startDay = range.getStart().toLocalDate();
+        appendLocalDate(output, startDay);
+        if (range.isAllDay()) {
+            if (!range.getLastDay().equals(startDay)) {
+                appendLocalDate(output.append(RANGE_SEPARATOR), range.getLastDay());
+            }
+            return;
+        }
+        TIME_FORMATTER.formatTo(range.getStart(), output.append(' '));
+        output.append(RANGE_SEPARATOR);
+        if (!range.getEnd().toLocalDate().equals(startDay)) {
+            appendLocalDate(output, range.getEnd().toLocalDate());
+            output.append(' ');
+        }
+        TIME_FORMATTER.formatTo(range.getEnd(), output);
+    }
+
+    /**
+     * Returns the string representation of a time of day, such as "14:00".
+     * @param time time to be formatted.
+     * @return string representation of the time.
+     */
+    public static String localTimeToString(LocalDateTime time) {
+        return time.format(TIME_FORMATTER);
+    }
+
+    /**
+     * Returns BasicCommandType based on input.
+     * @param input user input used to return a BasicCommandType.
+     * @return BasicCommandType.
+     */
+    static BasicCommandType parseCommand(String input) {
+        if (input.startsWith(DONE_COMMAND)) {
+            return BasicCommandType.DONE;
+        } else if (input.startsWith(LIST_COMMAND)) {
+            return BasicCommandType.LIST;
+        } else if (input.startsWith(DELETE_COMMAND)) {
+            return BasicCommandType.DELETE;
+        } else if (input.startsWith(IMPORT_COMMAND)) {
+            return BasicCommandType.IMPORT;
+        } else if (input.startsWith(EXPORT_COMMAND)) {
+            return BasicCommandType.EXPORT;
+        } else if (input.startsWith(ARCHIVE_COMMAND)) {
+            return BasicCommandType.ARCHIVE;
+        } else if (input.startsWith(SUMMARY_COMMAND)) {
+            return BasicCommandType.SUMMARY;
+        } else if (input.startsWith(SYNC_COMMAND)) {
+            return BasicCommandType.SYNC;
+        } else if (input.startsWith(NEXT_COMMAND)) {
+            return BasicCommandType.NEXT;
+        } else if (input.startsWith(WORKSPACES_COMMAND)) {
+            return BasicCommandType.WORKSPACES;
+        } else if (input.equals(USE_COMMAND) || input.startsWith(USE_COMMAND + " ")) {
+            return BasicCommandType.USE;
+        } else if (input.startsWith(RELOAD_COMMAND)) {
+            return BasicCommandType.RELOAD;
+        } else if (input.startsWith(READY_COMMAND)) {
+            return BasicCommandType.READY;
+        } else {
+            return BasicCommandType.ADD;
+        }
+    }
+
+    /**
+     * Returns true if the input is to list the archived tasks.
+     * @param input list input.
+     * @return true if the input is "list archived".
+     */
+    public static boolean isListArchivedInput(String input) {
+        return input.trim().equals(LIST_ARCHIVED_COMMAND);
+    }
+
+    /**
+     * Returns index based on string input. Short indexes are read in place without creating a
+     * substring, as this is done for every done and delete command.
+     * @param input input used to get index.
+     * @param i when the string representation of the index starts.
+     * @return index based on the input.
+     */
+    public static int stringToIndex(String input, int i) {
+        int end = input.length();
+        if (i >= end || end - i > MAX_FAST_INDEX_DIGITS) {
+            return Integer.parseInt(input.substring(i)) - INDEX_PADDING;
+        }
+        int index = 0;
+        for (int j = i; j < end; j++) {
+            int digit = Character.digit(input.charAt(j), 10);
+            if (digit < 0) {
+                return Integer.parseInt(input.substring(i)) - INDEX_PADDING;
+            }
+            index = index * 10 + digit;
+        }
+        return index - INDEX_PADDING;
+    }
+
+    /**
+     * Returns the keywords of the commands, such as "todo" and "find", in the order they are
+     * suggested when completing a command.
+     * @return keywords of the commands.
+     */
+    public static List<String> getCommandKeywords() {
+        return COMMAND_KEYWORDS;
+    }
+
+    /**
+     * Returns true if the input has an argument after the command.
+     * @param input user input.
+     * @return true if there is an argument after the first word of the input.
+     */
+    public static boolean hasIndex(String input) {
+        int space = input.indexOf(' ');
+        return space >= 0 && !input.substring(space).isBlank();
+    }
+
+    /**
+     * Returns SpecificCommandType based on input: TODO, DEADLINE, EVENT, FIND.
+     * @param input user input used to get SpecificCommandType.
+     * @return SpecificCommandType based on input.
+     * @throws DukeUnknownArgumentsException when the input contains an unknown command.
+     */
+    public static SpecificCommandType inputToSpecificCommand(String input)
+            throws DukeUnknownArgumentsException {
+        if (input.startsWith(TODO_COMMAND)) {
+            return SpecificCommandType.TODO;
+        } else if (input.startsWith(DEADLINE_COMMAND)) {
+            return SpecificCommandType.DEADLINE;
+        } else if (input.startsWith(EVENT_COMMAND)) {
+            return SpecificCommandType.EVENT;
+        } else if (input.startsWith(FIND_COMMAND)) {
+            return SpecificCommandType.FIND;
+        } else if (input.startsWith(FILTER_COMMAND)) {
+            return SpecificCommandType.FILTER;
+        } else if (input.startsWith(QUERY_COMMAND)) {
+            return SpecificCommandType.QUERY;
+        } else if (input.startsWith(CONFLICTS_COMMAND)) {
+            return SpecificCommandType.CONFLICTS;
+        } else if (input.startsWith(FREE_COMMAND)) {
+            return SpecificCommandType.FREE;
+        } else if (input.startsWith(SAVE_VIEW_COMMAND)) {
+            return SpecificCommandType.SAVE_VIEW;
+        } else if (input.startsWith(VIEW_COMMAND)) {
+            return SpecificCommandType.VIEW;
+        } else {
+            throw new DukeUnknownArgumentsException();
+        }
+    }
+
+    /**
+     * Returns number of words in the input when split on single spaces, the same as
+     * input.split(" ").length, without creating the words.
+     * @param input user input.
+     * @return number of words in the input.
+     */
+    static int countWords(String input) {
+        int last = input.length() - 1;
+        while (last >= 0 && input.charAt(last) == ' ') {
+            last--;
+        }
+        if (last < 0) {
+            return input.isEmpty() ? 1 : 0;
+        }
+        int words = 1;
+        for (int i = 0; i < last; i++) {
+            if (input.charAt(i) == ' ') {
+                words++;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns description of the Todo based on input.
+     * @param input user input to get description of Todo.
+     * @return description of Todo based on input.
+     * @throws DukeNoDescriptionException when the description is empty.
+     */
+    public static String parseTodoInput(String input) throws DukeNoDescriptionException {
+        if (countWords(input) < TODO_MIN_ARGUMENTS) {
+            throw new DukeNoDescriptionException(TODO_COMMAND);
+        } else {
+            return input.substring(TODO_DESCRIPTION).trim();
+        }
+    }
+
+    /**
+     * Returns description from the find input.
+     * @param input find input used to get the description.
+     * @return the description of the find input.
+     * @throws DukeNoDescriptionException if there is no description.
+     */
+    public static String parseFindInput(String input) throws DukeNoDescriptionException {
+        if (countWords(input) < FIND_MIN_ARGUMENTS) {
+            throw new DukeNoDescriptionException(SpecificCommandType.FIND.getName());
+        } else {
+            return input.substring(SpecificCommandType.FIND.getPostfix());
+        }
+    }
+
+    /**
+     * Returns the tag expression of a filter input.
+     * @param input filter input.
+     * @return the tag expression.
+     * @throws DukeNoDescriptionException if the tag expression is empty.
+     */
+    public static String parseFilterInput(String input) throws DukeNoDescriptionException {
+        String expression = input.substring(FILTER_COMMAND.length()).trim();
+        if (expression.isEmpty()) {
+            throw new DukeNoDescriptionException(FILTER_COMMAND);
+        }
+        return expression;
+    }
+
+    /**
+     * Returns the query of a query input.
+     * @param input query input.
+     * @return the query.
+     * @throws DukeNoDescriptionException if the query is empty.
+     */
+    public static String parseQueryInput(String input) throws DukeNoDescriptionException {
+        String query = input.substring(QUERY_COMMAND.length()).trim();
+        if (query.isEmpty()) {
+            throw new DukeNoDescriptionException(QUERY_COMMAND);
+        }
+        return query;
+    }
+
+    /**
+     * Returns the priority given by "/p N" in the input of a new task.
+     * @param input input of a new task.
+     * @return the priority, or 0 if no priority is given.
+     * @throws NumberFormatException if the priority is not a positive number.
+     */
+    public static int obtainPriority(String input) {
+        Matcher matcher = PRIORITY_PATTERN.matcher(input);
+        if (!matcher.find()) {
+            return 0;
+        }
+        int priority = Integer.parseInt(matcher.group(1));
+        if (priority < 1) {
+            throw new NumberFormatException(matcher.group(1));
+        }
+        return priority;
+    }
+
+    /**
+     * Returns the input of a new task without its "/p N" priority.
+     * @param input input of a new task.
+     * @return the input without the priority.
+     */
+    public static String removePriority(String input) {
+        return PRIORITY_PATTERN.matcher(input).replaceFirst("");
+    }
+
+    /**
+     * Returns the indexes of the tasks given by "after #N,#M" in the input of a new task, which
+     * the new task depends on.
+     * @param input input of a new task.
+     * @return the indexes of the tasks, or an empty list if no tasks are given.
+     * @throws NumberFormatException if an index is too large.
+     */
+    public static List<Integer> obtainDependencies(String input) {
+        Matcher matcher = DEPENDENCIES_PATTERN.matcher(input);
+        if (!matcher.find()) {
+            return Collections.emptyList();
+        }
+        ArrayList<Integer> indexes = new ArrayList<>();
+        for (String dependency : matcher.group(1).split(DEPENDENCY_SEPARATOR)) {
+            indexes.add(stringToIndex(dependency, TAG_PREFIX.length()));
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns the input of a new task without its "after #N,#M" dependencies.
+     * @param input input of a new task.
+     * @return the input without the dependencies.
+     */
+    public static String removeDependencies(String input) {
+        return DEPENDENCIES_PATTERN.matcher(input).replaceFirst("");
+    }
+
+    /**
+     * Returns the number of tasks asked for by a next input.
+     * @param input next input, optionally followed by the number of tasks.
+     * @return the number of tasks, or 1 if no number is given.
+     * @throws NumberFormatException if the number of tasks is not a number.
+     */
+    public static int parseNextInput(String input) {
+        String count = input.substring(NEXT_COMMAND.length()).trim();
+        return count.isEmpty() ? DEFAULT_NEXT_TASKS : Integer.parseInt(count);
+    }
+
+    /**
+     * Returns the tags in the description, which are the words starting with '#' and a letter.
+     * @param description description of a task given by the user.
+     * @return tags in the description, without the leading '#'.
+     */
+    public static List<String> obtainTags(String description) {
+        if (description.indexOf(TAG_PREFIX) < 0) {
+            return Collections.emptyList();
+        }
+        ArrayList<String> tags = new ArrayList<>();
+        for (String word : description.trim().split("\\s+")) {
+            if (TAG_PATTERN.matcher(word).matches()) {
+                tags.add(word.substring(TAG_PREFIX.length()));
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the description without its tags.
+     * @param description description of a task given by the user.
+     * @param command name of the command the description is from.
+     * @return the description without its tags, or the description itself if it has no tags.
+     * @throws DukeNoDescriptionException if the description has only tags.
+     */
+    public static String removeTags(String description, String command) throws DukeNoDescriptionException {
+        if (description.indexOf(TAG_PREFIX) < 0 || obtainTags(description).isEmpty()) {
+            return description;
+        }
+        StringBuilder untagged = new StringBuilder();
+        for (String word : description.trim().split("\\s+")) {
+            if (!TAG_PATTERN.matcher(word).matches()) {
+                untagged.append(untagged.length() == 0 ? "" : " ").append(word);
+            }
+        }
+        if (untagged.length() == 0) {
+            throw new DukeNoDescriptionException(command);
+        }
+        return untagged.toString();
+    }
+
+    /**
+     * Returns the data directory of a sync input.
+     * @param input sync input.
+     * @return the data directory to sync with.
+     * @throws DukeNoDescriptionException if there is no data directory.
+     */
+    public static String parseSyncInput(String input) throws DukeNoDescriptionException {
+        String dataDir = input.substring(SYNC_COMMAND.length()).trim();
+        if (dataDir.isEmpty()) {
+            throw new DukeNoDescriptionException(SYNC_COMMAND);
+        }
+        return dataDir;
+    }
+
+    /**
+     * Returns the name and find command of a save-view input, such as "save-view urgent find
+     * urgent".
+     * @param input save-view input.
+     * @return the name and definition of the view.
+     * @throws DukeNoDescriptionException if there is no name or find command.
+     * @throws DukeInvalidViewException if the name is invalid or the definition is not a find
+     *     command.
+     */
+    public static ViewInput parseSaveViewInput(String input) throws DukeNoDescriptionException,
+            DukeInvalidViewException {
+        String view = input.substring(SAVE_VIEW_COMMAND.length()).trim();
+        int separator = view.indexOf(' ');
+        if (separator < 0) {
+            throw new DukeNoDescriptionException(SAVE_VIEW_COMMAND);
+        }
+        String name = view.substring(0, separator);
+        String definition = view.substring(separator + 1).trim();
+        if (!NAME_PATTERN.matcher(name).matches()) {
+            throw new DukeInvalidViewException("names may only contain letters, digits, '-' and '_'");
+        }
+        if (!definition.startsWith(FIND_COMMAND + " ")) {
+            throw new DukeInvalidViewException("a view must be a find command");
+        }
+        return new ViewInput(name, definition);
+    }
+
+    /**
+     * Returns the name of the view of a view input.
+     * @param input view input.
+     * @return the name of the view.
+     * @throws DukeNoDescriptionException if there is no name.
+     */
+    public static String parseViewInput(String input) throws DukeNoDescriptionException {
+        String name = input.substring(VIEW_COMMAND.length()).trim();
+        if (name.isEmpty()) {
+            throw new DukeNoDescriptionException(VIEW_COMMAND);
+        }
+        return name;
+    }
+
+    /**
+     * Represents the name and find command given to a save-view command.
+     */
+    public static class ViewInput {
+        private final String name;
+        private final String definition;
+
+        ViewInput(String name, String definition) {
+            this.name = name;
+            this.definition = definition;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDefinition() {
+            return definition;
+        }
+    }
+
+    /**
+     * Returns the name of the workspace of a use input.
+     * @param input use input.
+     * @return the name of the workspace.
+     * @throws DukeNoDescriptionException if there is no name.
+     * @throws DukeWorkspaceException if the name has characters other than letters, digits, '-'
+     *     and '_'.
+     */
+    public static String parseUseInput(String input) throws DukeNoDescriptionException,
+            DukeWorkspaceException {
+        String name = input.substring(USE_COMMAND.length()).trim();
+        if (name.isEmpty()) {
+            throw new DukeNoDescriptionException(USE_COMMAND);
+        }
+        if (!NAME_PATTERN.matcher(name).matches()) {
+            throw new DukeWorkspaceException(name);
+        }
+        return name;
+    }
+
+    /**
+     * Returns the file and format of an import or export input. The format is the last word of
+     * the input if it is a known format, otherwise it is taken from the extension of the file.
+     * @param input import or export input.
+     * @return the file and the format of the file.
+     * @throws DukeNoDescriptionException if there is no file.
+     * @throws DukeUnknownFormatException if the format is unknown.
+     */
+    public static TransferInput parseTransferInput(String input)
+            throws DukeNoDescriptionException, DukeUnknownFormatException {
+        String command = input.startsWith(IMPORT_COMMAND) ? IMPORT_COMMAND : EXPORT_COMMAND;
+        String arguments = input.substring(command.length()).trim();
+        if (arguments.isEmpty()) {
+            throw new DukeNoDescriptionException(command);
+        }
+        int lastSpace = arguments.lastIndexOf(' ');
+        if (lastSpace > 0) {
+            try {
+                TransferFormat format = TransferFormat.fromName(arguments.substring(lastSpace + 1));
+                return new TransferInput(arguments.substring(0, lastSpace).trim(), format);
+            } catch (DukeUnknownFormatException e) {
+                // The last word is part of the file name.
+            }
+        }
+        return new TransferInput(arguments, TransferFormat.fromFileName(arguments));
+    }
+
+    /**
+     * Represents the file and format given to an import or export command.
+     */
+    public static class TransferInput {
+        private final String file;
+        private final TransferFormat format;
+
+        TransferInput(String file, TransferFormat format) {
+            this.file = file;
+            this.format = format;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public TransferFormat getFormat() {
+            return format;
+        }
+    }
+
+    /**
+     * Returns LocalDate based on input and AddCommandType's postfix.
+     * @param input user input to get Task date representation.
+     * @param command AddCommandType to be used to distinguish how to get the LocalDate.
+     * @return LocalDate based on the string representation of the date.
+     */
+    public static LocalDate obtainDate(String input, SpecificCommandType command) {
+        input = input.substring(command.getPostfix());
+        String[] inputs = input.split(DATE_SEPARATOR);
+        return LocalDate.parse(inputs[DATE_PARAM].substring(DATE_POSTFIX));
+    }
+
+    /**
+     * Returns the TimeRange of the Event based on input, such as "event meeting /at 2021-03-12
+     * 14:00 to 15:30".
+     * @param input user input to get the time of the Event.
+     * @return TimeRange of the Event.
+     * @throws DateTimeParseException if the time is not of the format of parseTimeRange.
+     */
+    public static TimeRange obtainTimeRange(String input) {
+        input = input.substring(SpecificCommandType.EVENT.getPostfix());
+        String[] inputs = input.split(DATE_SEPARATOR);
+        return parseTimeRange(inputs[DATE_PARAM].substring(DATE_POSTFIX));
+    }
+
+    /**
+     * Returns the TimeRange of the text, which is a day, optionally with a start time, optionally
+     * followed by "to" and the end: "2021-03-12" is the whole day, "2021-03-12 14:00" is an hour,
+     * "2021-03-12 14:00 to 15:30" ends on the same day, "2021-03-12 14:00 to 2021-03-13 09:00"
+     * ends on another day, and "2021-03-12 to 2021-03-14" is three whole days.
+     * @param text string representation of the TimeRange.
+     * @return TimeRange of the text.
+     * @throws DateTimeParseException if the text is not of the format or does not end after it
+     *     starts.
+     */
+    public static TimeRange parseTimeRange(String text) {
+        String[] ends = text.trim().split(RANGE_SEPARATOR, 2);
+        String[] start = ends[0].trim().split(" ");
+        if (start.length > 2) {
+            throw new DateTimeParseException("Unknown start", text, 0);
+        }
+        LocalDate startDay = LocalDate.parse(start[0]);
+        boolean hasStartTime = start.length == 2;
+        LocalDateTime startTime = hasStartTime ? startDay.atTime(LocalTime.parse(start[1]))
+                : startDay.atStartOfDay();
+        if (ends.length == 1) {
+            return hasStartTime ? new TimeRange(startTime, startTime.plusHours(DEFAULT_EVENT_HOURS))
+                    : TimeRange.ofDay(startDay);
+        }
+        String[] end = ends[1].trim().split(" ");
+        LocalDateTime endTime;
+        if (end.length == 2) {
+            endTime = LocalDate.parse(end[0]).atTime(LocalTime.parse(end[1]));
+        } else if (end.length == 1 && end[0].contains(TIME_SEPARATOR)) {
+            endTime = startDay.atTime(LocalTime.parse(end[0]));
+        } else if (end.length == 1) {
+            endTime = LocalDate.parse(end[0]).plusDays(1).atStartOfDay();
+        } else {
+            throw new DateTimeParseException("Unknown end", text, 0);
+        }
+        if (!endTime.isAfter(startTime)) {
+            throw new DateTimeParseException("End is not after start", text, 0);
+        }
+        return new TimeRange(startTime, endTime);
+    }
+
+    /**
+     * Returns the TimeRange of a conflicts input.
+     * @param input conflicts input, such as "conflicts 2021-03-01 to 2021-03-31".
+     * @return TimeRange to be searched for overlapping events.
+     * @throws DukeNoDescriptionException if there is no range.
+     * @throws DateTimeParseException if the range is not of the format of parseTimeRange.
+     */
+    public static TimeRange parseConflictsInput(String input) throws DukeNoDescriptionException {
+        String range = input.substring(CONFLICTS_COMMAND.length()).trim();
+        if (range.isEmpty()) {
+            throw new DukeNoDescriptionException(CONFLICTS_COMMAND);
+        }
+        return parseTimeRange(range);
+    }
+
+    /**
+     * Returns the day of a free input.
+     * @param input free input, such as "free 2021-03-12".
+     * @return day to be searched for free time.
+     * @throws DukeNoDescriptionException if there is no day.
+     * @throws DateTimeParseException if the day is not of format: YYYY-MM-DD.
+     */
+    public static LocalDate parseFreeInput(String input) throws DukeNoDescriptionException {
+        String day = input.substring(FREE_COMMAND.length()).trim();
+        if (day.isEmpty()) {
+            throw new DukeNoDescriptionException(FREE_COMMAND);
+        }
+        return LocalDate.parse(day);
+    }
+
+    /**
+     * Returns description of the Event and Deadline Task, depending on the command.
+     * @param input user input to get the description of the Event or Deadline.
+     * @param command AddCommandType used to differentiate the Event and Deadline.
+     * @return description of either Event or Deadline.
+     * @throws DukeNoDescriptionException when the description of the input is empty.
+     */
+    public static String obtainDescription(String input, SpecificCommandType command)
+            throws DukeNoDescriptionException {
+        if (countWords(input) < DATE_INPUT_MIN_ARGUMENTS) {
+            throw new DukeNoDescriptionException(command.getName());
+        } else {
+            input = input.substring(command.getPostfix());
+            String[] inputs = input.split(DATE_SEPARATOR);
+            return inputs[DESCRIPTION_PARAM];
+        }
+    }
+
+    /**
+     * Returns AddCommandType based on encoded input.
+     * @param input used to get encoded representation to get the AddCommandType.
+     * @return TODO if "T", DEADLINE if "D", EVENT if "E".
+     * @throws DukeCorruptedStorageException when the encoded command is unknown.
+     */
+    public static SpecificCommandType parseCommandType(String input)
+            throws DukeCorruptedStorageException {
+        String[] separatedInput = input.split(DATA_SEPARATOR);
+        String command = separatedInput[TODO_COMMAND_TYPE_PARAM];
+        switch (command) {
+        case TODO_COMMAND_TYPE:
+            return SpecificCommandType.TODO;
+        case DEADLINE_COMMAND_TYPE:
+            return SpecificCommandType.DEADLINE;
+        case EVENT_COMMAND_TYPE:
+            return SpecificCommandType.EVENT;
+        default:
+            throw new DukeCorruptedStorageException();
+        }
+    }
+
+    /**
+     * Returns description of task based on encoded input.
+     * @param input encoded input from save file.
+     * @return description of task.
+     * @throws DukeCorruptedStorageException when the encoded input is not of the right format.
+     */
+    public static String obtainEncodedDescription(String input)
+            throws DukeCorruptedStorageException {
+        String[] separatedInput = input.split(DATA_SEPARATOR);
+        if (separatedInput[TODO_DESCRIPTION_PARAM].isBlank()) {
+            throw new DukeCorruptedStorageException();
+        }
+        return separatedInput[TODO_DESCRIPTION_PARAM];
+    }
+
+    /**
+     * Returns true if encoded task is marked as done, otherwise false.
+     * @param input encoded task from save file.
+     * @return true if encoded task is marked as done.
+     * @throws DukeCorruptedStorageException when the encoded task is not of the right format.
+     */
+    public static boolean isEncodedTaskDone(String input) throws DukeCorruptedStorageException {
+        String[] separatedInput = input.split(DATA_SEPARATOR);
+        String isDone = separatedInput[IS_DONE_PARAM];
+        if (isDone.equals(DONE_ENCODING)) {
+            return true;
+        } else if (isDone.equals(NOT_DONE_ENCODING)) {
+            return false;
+        } else {
+            throw new DukeCorruptedStorageException();
+        }
+    }
+
+    /**
+     * Returns LocalDate of either the Event's date or Deadline's date.
+     * @param input encoded task used to get the LocalDate.
+     * @return LocalDate based on input.
+     * @throws DukeCorruptedStorageException when the encoded task is not of the right format.
+     */
+    public static LocalDate obtainEncodedDate(String input) throws DukeCorruptedStorageException {
+        String[] separatedInput = input.split(DATA_SEPARATOR);
+        String date = separatedInput[ENCODE_DATE_PARAM];
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new DukeCorruptedStorageException();
+        }
+    }
+
+    /**
+     * Returns the optional "key:value" fields saved after the fields of the type of the task.
+     * @param input encoded task from save file.
+     * @param command type of the encoded task.
+     * @return the optional fields in the order they were saved.
+     * @throws DukeCorruptedStorageException when an optional field has no key.
+     */
+    public static Map<String, String> obtainEncodedFields(String input, SpecificCommandType command)
+            throws DukeCorruptedStorageException {
+        String[] separatedInput = input.split(DATA_SEPARATOR);
+        int firstField = command == SpecificCommandType.TODO ? TODO_DATA_FIELDS : DATE_DATA_FIELDS;
+        LinkedHashMap<String, String> fields = new LinkedHashMap<>();
+        for (int i = firstField; i < separatedInput.length; i++) {
+            int separator = separatedInput[i].indexOf(FIELD_SEPARATOR);
+            if (separator <= 0) {
+                throw new DukeCorruptedStorageException();
+            }
+            String key = separatedInput[i].substring(0, separator);
+            fields.put(key, separatedInput[i].substring(separator + 1));
+        }
+        return fields;
+    }
+}
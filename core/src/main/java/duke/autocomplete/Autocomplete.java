@@ -0,0 +1,116 @@
+package duke.autocomplete;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import duke.Parser;
+import duke.tasks.Task;
+import duke.tasks.TaskListListener;
+
+/**
+ * Represents the Autocomplete that suggests completions of a partly typed input. The first word is
+ * completed from the command keywords, and the keyword of find is completed from the descriptions
+ * of the tasks.
+ * The descriptions are kept sorted ignoring case in a skip list, so the descriptions starting with
+ * a prefix are found in O(log n + k) time. The skip list is kept up to date by listening to the
+ * TaskList, and can be read from any thread while the TaskList changes.
+ */
+public class Autocomplete implements TaskListListener {
+    private static final String COMPLETED_COMMAND = "find ";
+    private final ConcurrentSkipListMap<String, Integer> descriptions =
+            new ConcurrentSkipListMap<>(String.CASE_INSENSITIVE_ORDER);
+    private int numTasks = 0;
+    private long identitySum = 0;
+
+    /**
+     * Returns up to limit completions of the input, each of which is the whole input after the
+     * completion. Descriptions are suggested in the order they sort, ignoring case, and a
+     * description is suggested once even if several tasks have it. Safe to call from any thread.
+     * @param input partly typed input.
+     * @param limit most completions returned.
+     * @return completions of the input.
+     */
+    public List<String> suggest(String input, int limit) {
+        ArrayList<String> suggestions = new ArrayList<>();
+        if (input.isBlank()) {
+            return suggestions;
+        }
+        int space = input.indexOf(' ');
+        if (space < 0) {
+            for (String keyword : Parser.getCommandKeywords()) {
+                if (suggestions.size() < limit && keyword.startsWith(input) && !keyword.equals(input)) {
+                    suggestions.add(keyword);
+                }
+            }
+            return suggestions;
+        }
+        String command = input.substring(0, space + 1);
+        String prefix = input.substring(space + 1).stripLeading();
+        if (!command.equals(COMPLETED_COMMAND) || prefix.isEmpty()) {
+            return suggestions;
+        }
+        for (String description : descriptions.tailMap(prefix).keySet()) {
+            if (suggestions.size() >= limit || !description.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                break;
+            }
+            if (!description.equalsIgnoreCase(prefix)) {
+                suggestions.add(command + description);
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Returns the number of different descriptions, ignoring case.
+     * @return number of descriptions kept.
+     */
+    public int size() {
+        return descriptions.size();
+    }
+
+    @Override
+    public void onTaskAdded(int index, Task task) {
+        descriptions.merge(task.getDescription().strip(), 1, Integer::sum);
+        numTasks++;
+        identitySum += System.identityHashCode(task);
+    }
+
+    @Override
+    public void onTaskRemoved(int index, Task task) {
+        descriptions.computeIfPresent(task.getDescription().strip(), (description, count) ->
+                count == 1 ? null : count - 1);
+        numTasks--;
+        identitySum -= System.identityHashCode(task);
+    }
+
+    /**
+     * Rebuilds the descriptions, unless the tasks are the ones already kept, such as when the
+     * Autocomplete is added again to the same TaskList. The tasks are compared by their number
+     * and the sum of their identity hashes, so an unchanged TaskList is checked in one pass
+     * without comparing strings.
+     */
+    @Override
+    public void onTasksReset(List<Task> tasks) {
+        long sum = 0;
+        for (Task task : tasks) {
+            sum += System.identityHashCode(task);
+        }
+        if (tasks.size() == numTasks && sum == identitySum) {
+            return;
+        }
+        descriptions.clear();
+        numTasks = 0;
+        identitySum = 0;
+        for (Task task : tasks) {
+            onTaskAdded(0, task);
+        }
+    }
+
+    /**
+     * Does nothing, as the descriptions are kept in their own order.
+     */
+    @Override
+    public void onTasksReordered(List<Task> tasks) {
+    }
+}
@@ -0,0 +1,69 @@
+package duke.autocomplete;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+/**
+ * Represents the SuggestionWorker that computes the suggestions of the Autocomplete on its own
+ * thread, so typing in the GUI is never held up by them. Inputs given while the suggestions of an
+ * earlier input are computed are coalesced, so only the latest input is completed after a burst of
+ * keystrokes. Unlike debouncing with a timer, the first keystroke after a pause is completed at
+ * once, which keeps the time from a keystroke to its suggestions to the time of one suggest call.
+ */
+public class SuggestionWorker implements AutoCloseable {
+    private final Autocomplete autocomplete;
+    private final int limit;
+    private final BiConsumer<String, List<String>> listener;
+    private final AtomicReference<String> latestInput = new AtomicReference<>();
+    private final Thread thread;
+    private volatile boolean isClosed = false;
+
+    /**
+     * Constructs a SuggestionWorker and starts its thread.
+     * @param autocomplete autocomplete the suggestions are computed by.
+     * @param limit most suggestions computed for an input.
+     * @param listener listener called on the worker thread with each completed input and its
+     *     suggestions.
+     */
+    public SuggestionWorker(Autocomplete autocomplete, int limit, BiConsumer<String, List<String>> listener) {
+        this.autocomplete = autocomplete;
+        this.limit = limit;
+        this.listener = listener;
+        thread = new Thread(this::run, "duke-autocomplete");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Asks for the suggestions of the input, replacing any input that is not completed yet. Safe
+     * to call from any thread.
+     * @param input partly typed input.
+     */
+    public void update(String input) {
+        if (latestInput.getAndSet(input) == null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void run() {
+        while (!isClosed) {
+            String input = latestInput.getAndSet(null);
+            if (input == null) {
+                LockSupport.park(this);
+                continue;
+            }
+            listener.accept(input, autocomplete.suggest(input, limit));
+        }
+    }
+
+    /**
+     * Stops the worker thread. Inputs that are not completed yet are dropped.
+     */
+    @Override
+    public void close() {
+        isClosed = true;
+        LockSupport.unpark(thread);
+    }
+}
@@ -0,0 +1,126 @@
+package duke.calendar;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.tasks.Event;
+import duke.tasks.Task;
+import duke.tasks.TaskListListener;
+
+/**
+ * Represents the EventIndex that keeps the events of a TaskList that are not done in an
+ * IntervalTree, so overlapping events and free time are found without comparing every pair of
+ * events. The index is kept up to date by listening to the TaskList.
+ */
+public class EventIndex implements TaskListListener {
+    private final IntervalTree<Event> tree = new IntervalTree<>();
+
+    /**
+     * Returns the events that overlap the range, in the order of their start.
+     * @param range range to be searched.
+     * @return events that overlap the range.
+     */
+    public List<Event> getOverlapping(TimeRange range) {
+        ArrayList<Event> events = new ArrayList<>();
+        tree.forEachOverlapping(range, events::add);
+        return events;
+    }
+
+    /**
+     * Returns each pair of events that overlap each other during the range. The events of the
+     * range are found in the tree and then swept in the order of their start, keeping the events
+     * that have not ended yet, so only pairs that overlap are compared.
+     * @param range range to be searched.
+     * @return pairs of overlapping events, each in the order of their start.
+     */
+    public List<Event[]> getConflicts(TimeRange range) {
+        ArrayList<Event[]> conflicts = new ArrayList<>();
+        ArrayList<Event> active = new ArrayList<>();
+        for (Event event : getOverlapping(range)) {
+            LocalDateTime start = event.getRange().getStart();
+            active.removeIf(activeEvent -> !activeEvent.getRange().getEnd().isAfter(start));
+            for (Event activeEvent : active) {
+                conflicts.add(new Event[] {activeEvent, event});
+            }
+            active.add(event);
+        }
+        return conflicts;
+    }
+
+    /**
+     * Returns the times of the day that no event takes up.
+     * @param day day to be searched.
+     * @return ranges of free time in the order they start.
+     */
+    public List<TimeRange> getFreeTime(LocalDate day) {
+        TimeRange wholeDay = TimeRange.ofDay(day);
+        ArrayList<TimeRange> freeTime = new ArrayList<>();
+        LocalDateTime freeFrom = wholeDay.getStart();
+        for (Event event : getOverlapping(wholeDay)) {
+            TimeRange range = event.getRange();
+            if (range.getStart().isAfter(freeFrom)) {
+                freeTime.add(new TimeRange(freeFrom, range.getStart()));
+            }
+            if (range.getEnd().isAfter(freeFrom)) {
+                freeFrom = range.getEnd();
+            }
+        }
+        if (freeFrom.isBefore(wholeDay.getEnd())) {
+            freeTime.add(new TimeRange(freeFrom, wholeDay.getEnd()));
+        }
+        return freeTime;
+    }
+
+    public int size() {
+        return tree.size();
+    }
+
+    @Override
+    public void onTaskAdded(int index, Task task) {
+        if (task instanceof Event && !task.isDone()) {
+            tree.add((Event) task, ((Event) task).getRange());
+        }
+    }
+
+    @Override
+    public void onTaskRemoved(int index, Task task) {
+        if (task instanceof Event) {
+            tree.remove((Event) task);
+        }
+    }
+
+    @Override
+    public void onTaskUpdated(int index, Task task) {
+        if (task instanceof Event && task.isDone()) {
+            tree.remove((Event) task);
+        }
+    }
+
+    @Override
+    public void onTasksReset(List<Task> tasks) {
+        int openEvents = 0;
+        boolean isIndexed = true;
+        for (Task task : tasks) {
+            if (task instanceof Event && !task.isDone()) {
+                openEvents++;
+                isIndexed = isIndexed && tree.contains((Event) task);
+            }
+        }
+        if (isIndexed && openEvents == tree.size()) {
+            return;
+        }
+        tree.clear();
+        for (Task task : tasks) {
+            onTaskAdded(0, task);
+        }
+    }
+
+    /**
+     * Does nothing, as the events are kept in the order of their times.
+     */
+    @Override
+    public void onTasksReordered(List<Task> tasks) {
+    }
+}
@@ -0,0 +1,196 @@
+package duke.calendar;
+
+import java.time.LocalDateTime;
+import java.util.IdentityHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Represents an interval tree of values by their TimeRange. The tree is a treap ordered by the
+ * start of the ranges, and each node also keeps the latest end of the ranges below it, so a search
+ * can skip every subtree whose ranges all end before the searched range starts. Finding the k
+ * ranges that overlap a range takes O(log n + k) time, and adding or removing a range takes
+ * O(log n) time, as expected for a treap.
+ * @param <T> type of the values, which are told apart by identity.
+ */
+public class IntervalTree<T> {
+    private final IdentityHashMap<T, Node<T>> nodes = new IdentityHashMap<>();
+    private Node<T> root;
+    private long nextOrder = 0;
+    private long seed = 0x9e3779b97f4a7c15L;
+
+    /**
+     * Adds the value with its range. A value that is already in the tree is moved to the range.
+     * @param value value to be added.
+     * @param range range of the value.
+     */
+    public void add(T value, TimeRange range) {
+        remove(value);
+        Node<T> node = new Node<>(value, range, nextOrder++, nextPriority());
+        nodes.put(value, node);
+        root = insert(root, node);
+    }
+
+    /**
+     * Removes the value from the tree, if it is in the tree.
+     * @param value value to be removed.
+     */
+    public void remove(T value) {
+        Node<T> node = nodes.remove(value);
+        if (node != null) {
+            root = delete(root, node);
+        }
+    }
+
+    public boolean contains(T value) {
+        return nodes.containsKey(value);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Removes all the values.
+     */
+    public void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    /**
+     * Passes each value whose range overlaps the range to the action, in the order of the start
+     * of their ranges.
+     * @param range range to be searched.
+     * @param action action performed on each overlapping value.
+     */
+    public void forEachOverlapping(TimeRange range, Consumer<T> action) {
+        search(root, range, action);
+    }
+
+    private void search(Node<T> node, TimeRange range, Consumer<T> action) {
+        if (node == null || !node.maxEnd.isAfter(range.getStart())) {
+            return;
+        }
+        search(node.left, range, action);
+        if (!node.range.getStart().isBefore(range.getEnd())) {
+            return;
+        }
+        if (node.range.getEnd().isAfter(range.getStart())) {
+            action.accept(node.value);
+        }
+        search(node.right, range, action);
+    }
+
+    private Node<T> insert(Node<T> tree, Node<T> node) {
+        if (tree == null) {
+            return node;
+        }
+        if (node.priority > tree.priority) {
+            split(tree, node);
+            update(node);
+            return node;
+        }
+        if (node.compareTo(tree) < 0) {
+            tree.left = insert(tree.left, node);
+        } else {
+            tree.right = insert(tree.right, node);
+        }
+        update(tree);
+        return tree;
+    }
+
+    /**
+     * Splits the tree into the nodes before the node, which become its left subtree, and the nodes
+     * after the node, which become its right subtree.
+     */
+    private void split(Node<T> tree, Node<T> node) {
+        if (tree == null) {
+            node.left = null;
+            node.right = null;
+            return;
+        }
+        if (tree.compareTo(node) < 0) {
+            split(tree.right, node);
+            tree.right = node.left;
+            update(tree);
+            node.left = tree;
+        } else {
+            split(tree.left, node);
+            tree.left = node.right;
+            update(tree);
+            node.right = tree;
+        }
+    }
+
+    private Node<T> delete(Node<T> tree, Node<T> node) {
+        if (tree == node) {
+            return merge(tree.left, tree.right);
+        }
+        if (node.compareTo(tree) < 0) {
+            tree.left = delete(tree.left, node);
+        } else {
+            tree.right = delete(tree.right, node);
+        }
+        update(tree);
+        return tree;
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private void update(Node<T> node) {
+        LocalDateTime maxEnd = node.range.getEnd();
+        if (node.left != null && node.left.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private long nextPriority() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 7;
+        seed ^= seed << 17;
+        return seed;
+    }
+
+    private static class Node<T> implements Comparable<Node<T>> {
+        private final T value;
+        private final TimeRange range;
+        private final long order;
+        private final long priority;
+        private LocalDateTime maxEnd;
+        private Node<T> left;
+        private Node<T> right;
+
+        Node(T value, TimeRange range, long order, long priority) {
+            this.value = value;
+            this.range = range;
+            this.order = order;
+            this.priority = priority;
+            maxEnd = range.getEnd();
+        }
+
+        @Override
+        public int compareTo(Node<T> otherNode) {
+            int byStart = range.getStart().compareTo(otherNode.range.getStart());
+            return byStart != 0 ? byStart : Long.compare(order, otherNode.order);
+        }
+    }
+}
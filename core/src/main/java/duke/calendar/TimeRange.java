@@ -0,0 +1,93 @@
+package duke.calendar;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Represents the time an event takes up, from its start up to but not including its end. An event
+ * that takes up whole days starts and ends at midnight.
+ */
+public class TimeRange {
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Constructs a TimeRange from the start up to the end.
+     * @param start start of the range.
+     * @param end end of the range, which must be after the start.
+     */
+    public TimeRange(LocalDateTime start, LocalDateTime end) {
+        assert start.isBefore(end);
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns the TimeRange of the whole days from the first day to the last day.
+     * @param firstDay first day of the range.
+     * @param lastDay last day of the range, which must not be before the first day.
+     * @return range from the start of the first day to the end of the last day.
+     */
+    public static TimeRange ofDays(LocalDate firstDay, LocalDate lastDay) {
+        return new TimeRange(firstDay.atStartOfDay(), lastDay.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Returns the TimeRange of a whole day.
+     * @param day day of the range.
+     * @return range from the start to the end of the day.
+     */
+    public static TimeRange ofDay(LocalDate day) {
+        return ofDays(day, day);
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns true if the range starts and ends at midnight, so it takes up whole days.
+     * @return true if the range takes up whole days.
+     */
+    public boolean isAllDay() {
+        return start.toLocalTime().equals(LocalTime.MIDNIGHT) && end.toLocalTime().equals(LocalTime.MIDNIGHT);
+    }
+
+    /**
+     * Returns the last day of the range, which is the day before the end if the range ends at
+     * midnight.
+     * @return last day the range takes up.
+     */
+    public LocalDate getLastDay() {
+        LocalDate endDay = end.toLocalDate();
+        return end.toLocalTime().equals(LocalTime.MIDNIGHT) ? endDay.minusDays(1) : endDay;
+    }
+
+    /**
+     * Returns true if the two ranges share any time. Ranges that only touch do not overlap.
+     * @param otherRange range to be compared with.
+     * @return true if the ranges overlap.
+     */
+    public boolean overlaps(TimeRange otherRange) {
+        return start.isBefore(otherRange.end) && otherRange.start.isBefore(end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof TimeRange)) {
+            return false;
+        }
+        TimeRange otherRange = (TimeRange) other;
+        return start.equals(otherRange.start) && end.equals(otherRange.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * start.hashCode() + end.hashCode();
+    }
+}
@@ -0,0 +1,42 @@
+package duke.commands;
+
+/**
+ * BasicCommandType contains basic commands that do not require additional inputs apart from
+ * command type and without a date input.
+ */
+public enum BasicCommandType {
+    DONE(true), LIST(true), DELETE(true), ADD(true), IMPORT(true, false), EXPORT(false), ARCHIVE(true),
+    SUMMARY(false), SYNC(true, false), NEXT(false), USE(true), WORKSPACES(false),
+    RELOAD(true, false), READY(false);
+
+    private final boolean isMutating;
+    private final boolean isReplayable;
+
+    BasicCommandType(boolean isMutating) {
+        this(isMutating, true);
+    }
+
+    BasicCommandType(boolean isMutating, boolean isReplayable) {
+        this.isMutating = isMutating;
+        this.isReplayable = isReplayable;
+    }
+
+    /**
+     * Returns true if the command can change the TaskList, including the order of its tasks.
+     * @return true if the command can change the TaskList.
+     */
+    public boolean isMutating() {
+        return isMutating;
+    }
+
+    /**
+     * Returns true if running the input again on a copy of the TaskList makes the same changes,
+     * so followers can replay it. Commands that read or write files outside the data directory,
+     * such as import and sync, cannot be replayed, and neither can reload, which reads edits
+     * made to the save files outside Duke.
+     * @return true if the input of the command can be replayed.
+     */
+    public boolean isReplayable() {
+        return isReplayable;
+    }
+}
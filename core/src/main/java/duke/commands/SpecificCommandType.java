@@ -4,7 +4,8 @@ package duke.commands;
  * AddCommandType contains command type for adding command types.
  */
 public enum SpecificCommandType {
-    TODO("todo", 2), DEADLINE("deadline", 9), EVENT("event", 6), FIND("find", 5);
+    TODO("todo", 2), DEADLINE("deadline", 9), EVENT("event", 6), FIND("find", 5), FILTER("filter", 7), QUERY("query", 6),
+    SAVE_VIEW("save-view", 10), VIEW("view", 5), CONFLICTS("conflicts", 10), FREE("free", 5);
 
     private final String name;
     private final int addCommandPostfix;
@@ -0,0 +1,177 @@
+package duke.dispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import duke.Controller;
+
+/**
+ * Represents the CommandDispatcher that lets several threads, such as the GUI and socket clients,
+ * run commands on one Controller at the same time. Submitted inputs are put in a MpscRingBuffer,
+ * and a single mutator thread takes them out in batches and runs each batch on the Controller, so
+ * the Controller and its TaskList are only used by one thread and the tasks are saved once per
+ * batch instead of once per command. Each submitter is given a future that is completed with the
+ * reply to its input. Inputs from one thread are run in the order they were submitted.
+ */
+public class CommandDispatcher implements AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final int DEFAULT_MAX_BATCH = 256;
+    private static final long IDLE_PARK_NANOS = 1_000_000L;
+    private static final long FULL_PARK_NANOS = 10_000L;
+    private final Controller controller;
+    private final MpscRingBuffer<Command> ring;
+    private final int maxBatch;
+    private final Thread mutator;
+    private final AtomicInteger submitting = new AtomicInteger();
+    private volatile boolean isClosed = false;
+    private volatile boolean isWaiting = false;
+    private volatile long batches = 0;
+    private volatile long commands = 0;
+
+    /**
+     * Constructs a CommandDispatcher for the Controller with the default capacity and batch size.
+     * @param controller initialised Controller the inputs are run on.
+     */
+    public CommandDispatcher(Controller controller) {
+        this(controller, DEFAULT_CAPACITY, DEFAULT_MAX_BATCH);
+    }
+
+    /**
+     * Constructs a CommandDispatcher for the Controller and starts its mutator thread. The
+     * Controller must not be used by any other thread afterwards.
+     * @param controller initialised Controller the inputs are run on.
+     * @param capacity most inputs waiting to be run, which must be a power of two.
+     * @param maxBatch most inputs run in one batch.
+     */
+    public CommandDispatcher(Controller controller, int capacity, int maxBatch) {
+        this.controller = controller;
+        this.ring = new MpscRingBuffer<>(capacity);
+        this.maxBatch = maxBatch;
+        mutator = new Thread(this::runMutator, "duke-mutator");
+        mutator.setDaemon(true);
+        mutator.start();
+    }
+
+    /**
+     * Submits the input to be run on the Controller. Safe to call from any thread. If the ring
+     * buffer is full, the caller waits until the mutator thread has made room.
+     * @param input user input.
+     * @return future completed with the reply to the input, or completed exceptionally with an
+     *     IllegalStateException if the dispatcher is closed.
+     */
+    public CompletableFuture<String> submit(String input) {
+        Command command = new Command(input);
+        submitting.incrementAndGet();
+        try {
+            if (isClosed) {
+                command.reply.completeExceptionally(new IllegalStateException("Dispatcher is closed"));
+                return command.reply;
+            }
+            while (!ring.offer(command)) {
+                wakeMutator();
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+            }
+        } finally {
+            submitting.decrementAndGet();
+        }
+        wakeMutator();
+        return command.reply;
+    }
+
+    /**
+     * Stops accepting inputs and waits for the mutator thread to run the inputs already submitted.
+     */
+    @Override
+    public void close() {
+        isClosed = true;
+        LockSupport.unpark(mutator);
+        boolean isInterrupted = false;
+        while (mutator.isAlive()) {
+            try {
+                mutator.join();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getBatches() {
+        return batches;
+    }
+
+    public long getCommands() {
+        return commands;
+    }
+
+    private void wakeMutator() {
+        if (isWaiting) {
+            LockSupport.unpark(mutator);
+        }
+    }
+
+    /**
+     * Runs the inputs in the ring buffer in batches until the dispatcher is closed and every
+     * submitted input has been run. The mutator thread parks when there are no inputs, after
+     * telling submitters to wake it, and checks the ring buffer again before parking so an input
+     * submitted in between is not missed.
+     */
+    private void runMutator() {
+        ArrayList<Command> drained = new ArrayList<>(maxBatch);
+        ArrayList<String> inputs = new ArrayList<>(maxBatch);
+        while (true) {
+            ring.drain(drained::add, maxBatch);
+            if (drained.isEmpty()) {
+                if (isClosed && submitting.get() == 0 && ring.isEmpty()) {
+                    return;
+                }
+                isWaiting = true;
+                if (ring.isEmpty() && !isClosed) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                isWaiting = false;
+                continue;
+            }
+            for (int i = 0; i < drained.size(); i++) {
+                inputs.add(drained.get(i).input);
+            }
+            runBatch(drained, inputs);
+            drained.clear();
+            inputs.clear();
+        }
+    }
+
+    private void runBatch(List<Command> drained, List<String> inputs) {
+        List<String> outputs;
+        try {
+            outputs = controller.runBatch(inputs);
+        } catch (RuntimeException e) {
+            for (Command command : drained) {
+                command.reply.completeExceptionally(e);
+            }
+            return;
+        }
+        batches++;
+        commands += drained.size();
+        for (int i = 0; i < drained.size(); i++) {
+            drained.get(i).reply.complete(outputs.get(i));
+        }
+    }
+
+    /**
+     * Represents an input waiting to be run and the future of its reply.
+     */
+    private static class Command {
+        private final String input;
+        private final CompletableFuture<String> reply = new CompletableFuture<>();
+
+        Command(String input) {
+            this.input = input;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package duke.dispatch;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Represents the CommandServer that lets local clients, such as scripts piped through a socket,
+ * submit inputs to a CommandDispatcher. The server only listens on the loopback address, and
+ * since other users of the computer can connect to it too, the first line a client sends must be
+ * the token the server writes to a file only the owner of the data directory can read. A client
+ * that sends another line is told so and disconnected. After the token, each line a client sends
+ * is one input, and each reply is sent back followed by a line containing only ".", in the order
+ * the inputs were sent. A client may send more inputs before reading the
+ * replies, so they can be run in the same batch. The connection is closed after the input "bye"
+ * or when the client closes its side.
+ */
+public class CommandServer implements AutoCloseable {
+    public static final String PORT_PROPERTY = "duke.server.port";
+    public static final String END_OF_REPLY = ".";
+    public static final String TOKEN_FILE = "server.token";
+    private static final String END_COMMAND = "bye";
+    private static final String WRONG_TOKEN_REPLY = "The first line must be the token in " + TOKEN_FILE + ".";
+    private static final int TOKEN_BYTES = 32;
+    private static final CompletableFuture<String> END_OF_INPUT = CompletableFuture.completedFuture(null);
+    private final CommandDispatcher dispatcher;
+    private final ServerSocket serverSocket;
+    private final Path tokenFile;
+    private final byte[] token;
+
+    private CommandServer(CommandDispatcher dispatcher, ServerSocket serverSocket, Path tokenFile, String token) {
+        this.dispatcher = dispatcher;
+        this.serverSocket = serverSocket;
+        this.tokenFile = tokenFile;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Starts a CommandServer listening on the port of the loopback address. A new token is written
+     * to the token file in the data directory each time, readable and writable only by its owner.
+     * @param dispatcher dispatcher the inputs of the clients are submitted to.
+     * @param port port listened on, or 0 for any free port.
+     * @param dataDir directory the token file is written in.
+     * @return the started CommandServer.
+     * @throws IOException when the token cannot be written or the port cannot be listened on.
+     */
+    public static CommandServer start(CommandDispatcher dispatcher, int port, Path dataDir) throws IOException {
+        Path tokenFile = dataDir.resolve(TOKEN_FILE);
+        String token = writeToken(tokenFile);
+        ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        CommandServer server = new CommandServer(dispatcher, serverSocket, tokenFile, token);
+        startDaemon(server::acceptClients, "duke-server");
+        return server;
+    }
+
+    /**
+     * Writes a new random token to the file. The file is created again so that it only has the
+     * permissions given here, even if an older token file was readable by others.
+     */
+    private static String writeToken(Path tokenFile) throws IOException {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder token = new StringBuilder();
+        for (byte b : bytes) {
+            token.append(String.format("%02x", b));
+        }
+        Files.deleteIfExists(tokenFile);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(tokenFile, PosixFilePermissions.asFileAttribute(
+                    PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(tokenFile);
+        }
+        Files.write(tokenFile, token.toString().getBytes(StandardCharsets.UTF_8));
+        return token.toString();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Stops accepting clients and deletes the token file. Clients that are already connected are
+     * served until they close.
+     * @throws IOException when the server socket cannot be closed or the token file deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        Files.deleteIfExists(tokenFile);
+    }
+
+    private void acceptClients() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                startDaemon(() -> serve(socket), "duke-client");
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks the token the client sends first, then submits each line read from the client and
+     * hands the futures of the replies to a writer thread, which sends the replies back in order as
+     * they complete.
+     */
+    private void serve(Socket socket) {
+        BlockingQueue<CompletableFuture<String>> replies = new LinkedBlockingQueue<>();
+        startDaemon(() -> writeReplies(socket, replies), "duke-client-writer");
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.UTF_8));
+            String line = reader.readLine();
+            if (line != null && isToken(line)) {
+                while ((line = reader.readLine()) != null && !line.equals(END_COMMAND)) {
+                    replies.add(dispatcher.submit(line));
+                }
+            } else if (line != null) {
+                replies.add(CompletableFuture.completedFuture(WRONG_TOKEN_REPLY));
+            }
+        } catch (IOException e) {
+            // The client is gone, so only the replies already submitted are written.
+        }
+        replies.add(END_OF_INPUT);
+    }
+
+    /**
+     * Returns true if the line is the token. The bytes are compared in constant time, so the time
+     * taken does not tell a client how much of the token it has guessed.
+     */
+    private boolean isToken(String line) {
+        return MessageDigest.isEqual(token, line.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeReplies(Socket socket, BlockingQueue<CompletableFuture<String>> replies) {
+        try (socket) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(),
+                    StandardCharsets.UTF_8));
+            CompletableFuture<String> reply;
+            while ((reply = replies.take()) != END_OF_INPUT) {
+                writer.write(getReply(reply));
+                writer.write('\n');
+                writer.write(END_OF_REPLY);
+                writer.write('\n');
+                if (replies.isEmpty()) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException | InterruptedException e) {
+            // The client is gone, so its remaining replies are dropped.
+        }
+    }
+
+    private static String getReply(CompletableFuture<String> reply) throws InterruptedException {
+        try {
+            return reply.get();
+        } catch (ExecutionException e) {
+            return e.getCause().getMessage();
+        }
+    }
+
+    private static void startDaemon(Runnable task, String name) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
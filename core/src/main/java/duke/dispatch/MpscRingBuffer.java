@@ -0,0 +1,108 @@
+package duke.dispatch;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Represents a bounded ring buffer that any number of threads can offer to and a single thread
+ * polls from, without locks. Each slot has a sequence number: a producer claims the next position
+ * with a compare-and-set on the tail, writes its element and then publishes the slot by moving its
+ * sequence on, and the consumer only reads a slot once its sequence shows it was published. The
+ * consumer frees the slot for the next lap of the ring the same way.
+ * @param <E> type of the elements.
+ */
+public class MpscRingBuffer<E> {
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Constructs an empty MpscRingBuffer.
+     * @param capacity most elements the buffer holds, which must be a power of two.
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        slots = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds the element at the tail of the buffer. Safe to call from any thread.
+     * @param element element to be added.
+     * @return false if the buffer is full.
+     */
+    public boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Removes the element at the head of the buffer. Must only be called by the consumer thread.
+     * @return the element, or null if the buffer is empty or the next element is not published.
+     */
+    public E poll() {
+        long position = head.get();
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = slots.get(index);
+        slots.lazySet(index, null);
+        sequences.set(index, position + mask + 1);
+        head.lazySet(position + 1);
+        return element;
+    }
+
+    /**
+     * Removes up to limit elements from the head of the buffer and passes them to the action in
+     * order. Must only be called by the consumer thread.
+     * @param action action performed on each element.
+     * @param limit most elements to be removed.
+     * @return number of elements removed.
+     */
+    public int drain(Consumer<E> action, int limit) {
+        int drained = 0;
+        E element;
+        while (drained < limit && (element = poll()) != null) {
+            action.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Returns true if no element has been offered that was not polled.
+     * @return true if the buffer is empty.
+     */
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
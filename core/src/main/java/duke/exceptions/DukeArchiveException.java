@@ -0,0 +1,16 @@
+package duke.exceptions;
+
+/**
+ * Represents the exception when the archive file cannot be read or written.
+ */
+public class DukeArchiveException extends DukeException {
+
+    /**
+     * Returns string representation for the cause of DukeArchiveException.
+     * @return string representation for the cause of the exception.
+     */
+    @Override
+    public String toString() {
+        return "Failed to read or update archive file: archive.txt.";
+    }
+}
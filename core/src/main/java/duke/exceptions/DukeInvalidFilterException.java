@@ -0,0 +1,26 @@
+package duke.exceptions;
+
+/**
+ * Represents the exception when a filter expression cannot be understood.
+ */
+public class DukeInvalidFilterException extends DukeException {
+    private final String expression;
+
+    /**
+     * Constructs a DukeInvalidFilterException containing the filter expression.
+     * @param expression filter expression given by the user.
+     */
+    public DukeInvalidFilterException(String expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * Returns string representation for the cause of the DukeInvalidFilterException.
+     * @return string representation for the cause of the exception.
+     */
+    @Override
+    public String toString() {
+        return String.format("OOPS!!! I don't understand the filter '%s'. "
+                + "Try tags joined by &, | and !, e.g. #work & !#done.", expression);
+    }
+}
@@ -0,0 +1,25 @@
+package duke.exceptions;
+
+/**
+ * Represents the exception when a query cannot be understood.
+ */
+public class DukeInvalidQueryException extends DukeException {
+    private final String reason;
+
+    /**
+     * Constructs a DukeInvalidQueryException containing the reason the query cannot be understood.
+     * @param reason string representation of what is wrong with the query.
+     */
+    public DukeInvalidQueryException(String reason) {
+        this.reason = reason;
+    }
+
+    /**
+     * Returns string representation for the cause of the DukeInvalidQueryException.
+     * @return string representation for the cause of the exception.
+     */
+    @Override
+    public String toString() {
+        return String.format("OOPS!!! I don't understand the query: %s.", reason);
+    }
+}
@@ -0,0 +1,25 @@
+package duke.exceptions;
+
+/**
+ * Represents the exception when a saved view cannot be saved or opened.
+ */
+public class DukeInvalidViewException extends DukeException {
+    private final String reason;
+
+    /**
+     * Constructs a DukeInvalidViewException containing the reason the view cannot be used.
+     * @param reason string representation of what is wrong with the view.
+     */
+    public DukeInvalidViewException(String reason) {
+        this.reason = reason;
+    }
+
+    /**
+     * Returns string representation for the cause of the DukeInvalidViewException.
+     * @return string representation for the cause of the exception.
+     */
+    @Override
+    public String toString() {
+        return String.format("OOPS!!! I can't use the view: %s.", reason);
+    }
+}
@@ -0,0 +1,16 @@
+package duke.exceptions;
+
+/**
+ * Represents the exception when a task that is not done is archived.
+ */
+public class DukeNotDoneException extends DukeException {
+
+    /**
+     * Returns string representation for the cause of DukeNotDoneException.
+     * @return string representation for the cause of the exception.
+     */
+    @Override
+    public String toString() {
+        return "Only tasks that are done can be archived.";
+    }
+}
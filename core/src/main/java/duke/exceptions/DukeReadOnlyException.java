@@ -0,0 +1,18 @@
+package duke.exceptions;
+
+/**
+ * Represents the exception when the tasks are changed in a Duke that cannot save them, as another
+ * Duke is using the same data folder.
+ */
+public class DukeReadOnlyException extends DukeSaveFileException {
+
+    /**
+     * Returns a string representation for the cause of DukeReadOnlyException.
+     * @return string representation for the cause of the exception.
+     */
+    @Override
+    public String toString() {
+        return "Another Duke is using this data folder, so tasks can only be viewed here. Make the"
+                + " change there, or close it first.";
+    }
+}
@@ -0,0 +1,17 @@
+package duke.exceptions;
+
+/**
+ * Represents the exception when save files edited outside Duke cannot be reloaded.
+ */
+public class DukeReloadException extends DukeException {
+
+    /**
+     * Returns a string representation for the cause of DukeReloadException.
+     * @return string representation for the cause of the exception.
+     */
+    @Override
+    public String toString() {
+        return "Failed to reload the save files edited outside Duke. Your changes are not saved until they"
+                + " can be reloaded.";
+    }
+}
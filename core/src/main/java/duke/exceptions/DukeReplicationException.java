@@ -0,0 +1,16 @@
+package duke.exceptions;
+
+/**
+ * Represents the exception when a command cannot be written to the replication log.
+ */
+public class DukeReplicationException extends DukeException {
+
+    /**
+     * Returns string representation for the cause of DukeReplicationException.
+     * @return string representation for the cause of the exception.
+     */
+    @Override
+    public String toString() {
+        return "Failed to write to the replication log. The standby may be out of date.";
+    }
+}
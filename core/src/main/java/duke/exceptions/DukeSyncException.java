@@ -0,0 +1,29 @@
+package duke.exceptions;
+
+/**
+ * Represents the exception when the tasks cannot be synced with another data directory.
+ */
+public class DukeSyncException extends DukeException {
+    private final String dataDir;
+
+    /**
+     * Constructs a DukeSyncException containing the data directory that could not be synced with.
+     * @param dataDir string representation of the other data directory.
+     */
+    public DukeSyncException(String dataDir) {
+        this.dataDir = dataDir;
+    }
+
+    protected String getDataDir() {
+        return dataDir;
+    }
+
+    /**
+     * Returns string representation for the cause of the DukeSyncException.
+     * @return string representation for the cause of the exception.
+     */
+    @Override
+    public String toString() {
+        return String.format("Failed to sync with data directory: '%s'.", dataDir);
+    }
+}
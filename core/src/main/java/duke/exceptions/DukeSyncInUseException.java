@@ -0,0 +1,26 @@
+package duke.exceptions;
+
+/**
+ * Represents the exception when the tasks cannot be synced with another data directory, as
+ * another Duke is using that data directory.
+ */
+public class DukeSyncInUseException extends DukeSyncException {
+
+    /**
+     * Constructs a DukeSyncInUseException containing the data directory that is in use.
+     * @param dataDir string representation of the other data directory.
+     */
+    public DukeSyncInUseException(String dataDir) {
+        super(dataDir);
+    }
+
+    /**
+     * Returns string representation for the cause of the DukeSyncInUseException.
+     * @return string representation for the cause of the exception.
+     */
+    @Override
+    public String toString() {
+        return String.format("Another Duke is using data directory: '%s'. Close it before syncing with it.",
+                getDataDir());
+    }
+}
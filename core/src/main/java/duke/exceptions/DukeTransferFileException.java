@@ -0,0 +1,25 @@
+package duke.exceptions;
+
+/**
+ * Represents the exception when a file cannot be imported or exported.
+ */
+public class DukeTransferFileException extends DukeException {
+    private final String file;
+
+    /**
+     * Constructs a DukeTransferFileException containing the file that could not be read or written.
+     * @param file string representation of the file.
+     */
+    public DukeTransferFileException(String file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns string representation for the cause of the DukeTransferFileException.
+     * @return string representation for the cause of the exception.
+     */
+    @Override
+    public String toString() {
+        return String.format("Failed to read or write file: '%s'.", file);
+    }
+}
@@ -0,0 +1,25 @@
+package duke.exceptions;
+
+/**
+ * Represents the exception when the format of an imported or exported file is unknown.
+ */
+public class DukeUnknownFormatException extends DukeException {
+    private final String format;
+
+    /**
+     * Constructs a DukeUnknownFormatException containing the unknown format.
+     * @param format string representation of the unknown format.
+     */
+    public DukeUnknownFormatException(String format) {
+        this.format = format;
+    }
+
+    /**
+     * Returns string representation for the cause of the DukeUnknownFormatException.
+     * @return string representation for the cause of the exception.
+     */
+    @Override
+    public String toString() {
+        return String.format("Unknown format: '%s'. Use csv, jsonl or ics.", format);
+    }
+}
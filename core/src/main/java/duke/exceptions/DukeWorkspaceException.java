@@ -0,0 +1,26 @@
+package duke.exceptions;
+
+/**
+ * Represents the exception when a workspace has an invalid name or cannot be loaded.
+ */
+public class DukeWorkspaceException extends DukeException {
+    private final String name;
+
+    /**
+     * Constructs a DukeWorkspaceException containing the name of the workspace.
+     * @param name name of the workspace that could not be used.
+     */
+    public DukeWorkspaceException(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns string representation for the cause of the DukeWorkspaceException.
+     * @return string representation for the cause of the exception.
+     */
+    @Override
+    public String toString() {
+        return String.format("Failed to use workspace '%s'. Names may only contain letters, digits, "
+                + "'-' and '_'.", name);
+    }
+}
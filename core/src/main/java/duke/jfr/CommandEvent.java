@@ -0,0 +1,34 @@
+package duke.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Represents the Flight Recorder event of one command run by the Controller, from parsing the
+ * input to saving the changes.
+ */
+@Name("duke.Command")
+@Label("Command")
+@Category("Duke")
+@Description("A command run by the Controller")
+@StackTrace(false)
+public class CommandEvent extends jdk.jfr.Event {
+    public static final String OK = "ok";
+
+    @Label("Command Type")
+    public String type;
+
+    @Label("Input Length")
+    public int inputLength;
+
+    @Label("Outcome")
+    @Description("\"ok\", or the name of the exception the command failed with")
+    public String outcome;
+
+    @Label("Batched")
+    @Description("True if the save was deferred to the end of a batch of commands")
+    public boolean isBatched;
+}
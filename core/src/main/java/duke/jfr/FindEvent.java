@@ -0,0 +1,27 @@
+package duke.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Represents the Flight Recorder event of a search of the task descriptions by TaskList.find.
+ */
+@Name("duke.Find")
+@Label("Find")
+@Category("Duke")
+@Description("A search of the task descriptions")
+@StackTrace(false)
+public class FindEvent extends jdk.jfr.Event {
+    @Label("Term")
+    public String term;
+
+    @Label("Matches")
+    public int matches;
+
+    @Label("Scanned")
+    @Description("Tasks compared with the term, including archived tasks")
+    public int scanned;
+}
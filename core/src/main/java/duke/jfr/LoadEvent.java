@@ -0,0 +1,26 @@
+package duke.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Represents the Flight Recorder event of loading the tasks by Storage.load.
+ */
+@Name("duke.Load")
+@Label("Load")
+@Category("Duke")
+@Description("Tasks loaded by Storage.load")
+@StackTrace(false)
+public class LoadEvent extends jdk.jfr.Event {
+    @Label("Segments")
+    public int segments;
+
+    @Label("Tasks")
+    public int tasks;
+
+    @Label("Quarantined Records")
+    public int quarantined;
+}
@@ -0,0 +1,32 @@
+package duke.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Represents the Flight Recorder event of a save of the changed segments by Storage.update.
+ */
+@Name("duke.Save")
+@Label("Save")
+@Category("Duke")
+@Description("Changed segments written by Storage.update")
+@StackTrace(false)
+public class SaveEvent extends jdk.jfr.Event {
+    @Label("Record Bytes")
+    @Description("Bytes of records written, before compression")
+    @DataAmount
+    public long bytes;
+
+    @Label("Segments Written")
+    public int segments;
+
+    @Label("Tasks Written")
+    public int tasks;
+
+    @Label("Compressed")
+    public boolean isCompressed;
+}
@@ -0,0 +1,338 @@
+package duke.query;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import duke.tags.RoaringBitmap;
+import duke.tasks.Task;
+
+/**
+ * Represents a condition of a query that a task either matches or not. Conditions that can be
+ * answered from the QueryIndex also give the ordinals of the tasks that can match them, which the
+ * QueryPlan uses instead of checking every task.
+ */
+abstract class Condition {
+
+    /**
+     * Returns true if the task matches this condition.
+     * @param task task to be checked.
+     * @return true if the task matches.
+     */
+    abstract boolean test(Task task);
+
+    /**
+     * Returns the ordinals of the tasks that can match this condition, which may include tasks
+     * that do not match it, or null if the QueryIndex cannot answer this condition.
+     * @param index QueryIndex of the tasks.
+     * @return ordinals of the candidate tasks, or null.
+     */
+    RoaringBitmap getCandidates(QueryIndex index) {
+        return null;
+    }
+
+    /**
+     * Returns number of tasks that getCandidates would give, without building the bitmap.
+     * @param index QueryIndex of the tasks.
+     * @return number of candidate tasks, or Integer.MAX_VALUE if the condition is not indexed.
+     */
+    int estimate(QueryIndex index) {
+        return Integer.MAX_VALUE;
+    }
+
+    static class And extends Condition {
+        private final Condition left;
+        private final Condition right;
+
+        And(Condition left, Condition right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        Condition getLeft() {
+            return left;
+        }
+
+        Condition getRight() {
+            return right;
+        }
+
+        @Override
+        boolean test(Task task) {
+            return left.test(task) && right.test(task);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " and " + right + ")";
+        }
+    }
+
+    static class Or extends Condition {
+        private final Condition left;
+        private final Condition right;
+
+        Or(Condition left, Condition right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        boolean test(Task task) {
+            return left.test(task) || right.test(task);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " or " + right + ")";
+        }
+    }
+
+    static class Not extends Condition {
+        private final Condition condition;
+
+        Not(Condition condition) {
+            this.condition = condition;
+        }
+
+        @Override
+        boolean test(Task task) {
+            return !condition.test(task);
+        }
+
+        @Override
+        RoaringBitmap getCandidates(QueryIndex index) {
+            if (condition instanceof Done) {
+                return index.getAll().andNot(index.getDone());
+            }
+            return null;
+        }
+
+        @Override
+        int estimate(QueryIndex index) {
+            if (condition instanceof Done) {
+                return index.getAll().getCardinality() - index.getDone().getCardinality();
+            }
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public String toString() {
+            return "!" + condition;
+        }
+    }
+
+    static class All extends Condition {
+        @Override
+        boolean test(Task task) {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "all";
+        }
+    }
+
+    static class Done extends Condition {
+        @Override
+        boolean test(Task task) {
+            return task.isDone();
+        }
+
+        @Override
+        RoaringBitmap getCandidates(QueryIndex index) {
+            return index.getDone();
+        }
+
+        @Override
+        int estimate(QueryIndex index) {
+            return index.getDone().getCardinality();
+        }
+
+        @Override
+        public String toString() {
+            return "done";
+        }
+    }
+
+    static class Type extends Condition {
+        private final char type;
+
+        Type(char type) {
+            this.type = type;
+        }
+
+        @Override
+        boolean test(Task task) {
+            return QueryIndex.getType(task) == type;
+        }
+
+        @Override
+        RoaringBitmap getCandidates(QueryIndex index) {
+            return index.getType(type);
+        }
+
+        @Override
+        int estimate(QueryIndex index) {
+            return index.getType(type).getCardinality();
+        }
+
+        @Override
+        public String toString() {
+            return "type=" + type;
+        }
+    }
+
+    static class DateRange extends Condition {
+        private final LocalDate start;
+        private final boolean isStartIncluded;
+        private final LocalDate end;
+        private final boolean isEndIncluded;
+
+        DateRange(LocalDate start, boolean isStartIncluded, LocalDate end, boolean isEndIncluded) {
+            this.start = start;
+            this.isStartIncluded = isStartIncluded;
+            this.end = end;
+            this.isEndIncluded = isEndIncluded;
+        }
+
+        @Override
+        boolean test(Task task) {
+            if (!task.hasDate()) {
+                return false;
+            }
+            LocalDate date = task.getDate();
+            boolean isAfterStart = start == null || date.isAfter(start)
+                    || (isStartIncluded && date.equals(start));
+            boolean isBeforeEnd = end == null || date.isBefore(end)
+                    || (isEndIncluded && date.equals(end));
+            return isAfterStart && isBeforeEnd;
+        }
+
+        @Override
+        RoaringBitmap getCandidates(QueryIndex index) {
+            RoaringBitmap candidates = new RoaringBitmap();
+            for (RoaringBitmap bitmap : getDates(index).values()) {
+                bitmap.forEach(candidates::add);
+            }
+            return candidates;
+        }
+
+        @Override
+        int estimate(QueryIndex index) {
+            int estimate = 0;
+            for (RoaringBitmap bitmap : getDates(index).values()) {
+                estimate += bitmap.getCardinality();
+            }
+            return estimate;
+        }
+
+        private Map<LocalDate, RoaringBitmap> getDates(QueryIndex index) {
+            return index.getDates(start, isStartIncluded, end, isEndIncluded);
+        }
+
+        @Override
+        public String toString() {
+            String range = start == null ? "" : start + (isStartIncluded ? " <= " : " < ");
+            return range + "date" + (end == null ? "" : (isEndIncluded ? " <= " : " < ") + end);
+        }
+    }
+
+    static class Text extends Condition {
+        private final String text;
+
+        Text(String text) {
+            this.text = text.toLowerCase();
+        }
+
+        @Override
+        boolean test(Task task) {
+            return task.getDescription().toLowerCase().contains(text);
+        }
+
+        @Override
+        RoaringBitmap getCandidates(QueryIndex index) {
+            if (text.length() < QueryIndex.TRIGRAM_LENGTH) {
+                return null;
+            }
+            RoaringBitmap candidates = null;
+            for (long trigram : QueryIndex.getTrigrams(text)) {
+                RoaringBitmap bitmap = index.getTrigram(trigram);
+                candidates = candidates == null ? bitmap : candidates.and(bitmap);
+            }
+            return candidates;
+        }
+
+        @Override
+        int estimate(QueryIndex index) {
+            if (text.length() < QueryIndex.TRIGRAM_LENGTH) {
+                return Integer.MAX_VALUE;
+            }
+            int estimate = Integer.MAX_VALUE;
+            for (long trigram : QueryIndex.getTrigrams(text)) {
+                estimate = Math.min(estimate, index.getTrigram(trigram).getCardinality());
+            }
+            return estimate;
+        }
+
+        @Override
+        public String toString() {
+            return "text~\"" + text + "\"";
+        }
+    }
+
+    static class Tag extends Condition {
+        private final String tag;
+
+        Tag(String tag) {
+            this.tag = tag.toLowerCase();
+        }
+
+        @Override
+        boolean test(Task task) {
+            return task.getTags().contains(tag);
+        }
+
+        @Override
+        public String toString() {
+            return "#" + tag;
+        }
+    }
+
+    static class Priority extends Condition {
+        private final String operator;
+        private final int priority;
+
+        Priority(String operator, int priority) {
+            this.operator = operator;
+            this.priority = priority;
+        }
+
+        @Override
+        boolean test(Task task) {
+            if (!task.hasPriority()) {
+                return false;
+            }
+            int comparison = Integer.compare(task.getPriority(), priority);
+            switch (operator) {
+            case "=":
+                return comparison == 0;
+            case "!=":
+                return comparison != 0;
+            case "<":
+                return comparison < 0;
+            case "<=":
+                return comparison <= 0;
+            case ">":
+                return comparison > 0;
+            default:
+                return comparison >= 0;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "priority " + operator + " " + priority;
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package duke.query;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import duke.exceptions.DukeInvalidQueryException;
+import duke.tasks.Task;
+
+/**
+ * Represents a parsed query: the condition the tasks must match, the order to show them in and
+ * the number of tasks to show. For example:
+ * <pre>type=D and !done and date &lt; 2021-03-01 and text~"report" order by date limit 20</pre>
+ * Conditions are done, type=T/D/E, date or priority compared with =, !=, &lt;, &lt;=, &gt; or &gt;=,
+ * text~"words" and #tag, joined by and, or, ! and brackets.
+ */
+public class Query {
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String NOT = "!";
+    private static final String ORDER = "order";
+    private static final String BY = "by";
+    private static final String LIMIT = "limit";
+    private static final String DESCENDING = "desc";
+    private static final String ASCENDING = "asc";
+    private static final List<String> OPERATORS = List.of("=", "!=", "<", "<=", ">", ">=");
+
+    private final Condition condition;
+    private final Comparator<Task> order;
+    private final String orderName;
+    private final int limit;
+
+    private Query(Condition condition, Comparator<Task> order, String orderName, int limit) {
+        this.condition = condition;
+        this.order = order;
+        this.orderName = orderName;
+        this.limit = limit;
+    }
+
+    Condition getCondition() {
+        return condition;
+    }
+
+    /**
+     * Returns the order of the tasks, or null if the tasks are shown in the order they were added.
+     * @return order of the tasks.
+     */
+    Comparator<Task> getOrder() {
+        return order;
+    }
+
+    /**
+     * Returns the number of tasks to show.
+     * @return the limit, or Integer.MAX_VALUE if there is no limit.
+     */
+    int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String toString() {
+        return condition + (orderName == null ? "" : " order by " + orderName)
+                + (limit == Integer.MAX_VALUE ? "" : " limit " + limit);
+    }
+
+    /**
+     * Returns the Query parsed from the text.
+     * @param text the query, without the query command.
+     * @return the parsed Query.
+     * @throws DukeInvalidQueryException when the text is not a valid query.
+     */
+    public static Query parse(String text) throws DukeInvalidQueryException {
+        return new Parser(tokenize(text)).parseQuery();
+    }
+
+    private static List<String> tokenize(String text) throws DukeInvalidQueryException {
+        ArrayList<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            char character = text.charAt(i);
+            if (Character.isWhitespace(character)) {
+                i++;
+            } else if (character == '"') {
+                int end = text.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw new DukeInvalidQueryException("missing closing quote");
+                }
+                tokens.add(text.substring(i, end + 1));
+                i = end + 1;
+            } else if ("()~".indexOf(character) >= 0) {
+                tokens.add(String.valueOf(character));
+                i++;
+            } else if ("!<>=".indexOf(character) >= 0) {
+                boolean hasEquals = i + 1 < text.length() && text.charAt(i + 1) == '=';
+                tokens.add(text.substring(i, hasEquals ? i + 2 : i + 1));
+                i += hasEquals ? 2 : 1;
+            } else {
+                int start = i;
+                while (i < text.length() && !Character.isWhitespace(text.charAt(i))
+                        && "()~!<>=\"".indexOf(text.charAt(i)) < 0) {
+                    i++;
+                }
+                tokens.add(text.substring(start, i));
+            }
+        }
+        return tokens;
+    }
+
+    private static class Parser {
+        private final List<String> tokens;
+        private int position = 0;
+
+        Parser(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        Query parseQuery() throws DukeInvalidQueryException {
+            Condition condition = isAtEnd() || peek().equals(ORDER) || peek().equals(LIMIT)
+                    ? new Condition.All() : parseOr();
+            Comparator<Task> order = null;
+            String orderName = null;
+            if (accept(ORDER)) {
+                expect(BY);
+                orderName = next();
+                order = getOrder(orderName);
+                if (accept(DESCENDING)) {
+                    order = order.reversed();
+                    orderName += " " + DESCENDING;
+                } else {
+                    accept(ASCENDING);
+                }
+            }
+            int limit = Integer.MAX_VALUE;
+            if (accept(LIMIT)) {
+                limit = parseNumber(next());
+            }
+            if (!isAtEnd()) {
+                throw new DukeInvalidQueryException("unexpected '" + peek() + "'");
+            }
+            return new Query(condition, order, orderName, limit);
+        }
+
+        private Condition parseOr() throws DukeInvalidQueryException {
+            Condition condition = parseAnd();
+            while (accept(OR)) {
+                condition = new Condition.Or(condition, parseAnd());
+            }
+            return condition;
+        }
+
+        private Condition parseAnd() throws DukeInvalidQueryException {
+            Condition condition = parseNot();
+            while (accept(AND)) {
+                condition = new Condition.And(condition, parseNot());
+            }
+            return condition;
+        }
+
+        private Condition parseNot() throws DukeInvalidQueryException {
+            if (accept(NOT)) {
+                return new Condition.Not(parseNot());
+            }
+            if (accept("(")) {
+                Condition condition = parseOr();
+                expect(")");
+                return condition;
+            }
+            return parseAtom();
+        }
+
+        private Condition parseAtom() throws DukeInvalidQueryException {
+            String field = next();
+            switch (field) {
+            case "done":
+                return new Condition.Done();
+            case "type":
+                expect("=");
+                return parseType(next());
+            case "date":
+                return parseDate(nextOperator(), next());
+            case "priority":
+                return new Condition.Priority(nextOperator(), parseNumber(next()));
+            case "text":
+                expect("~");
+                String text = next();
+                if (text.length() < 2 || !text.startsWith("\"")) {
+                    throw new DukeInvalidQueryException("text must be in quotes");
+                }
+                return new Condition.Text(text.substring(1, text.length() - 1));
+            default:
+                if (field.startsWith("#") && field.length() > 1) {
+                    return new Condition.Tag(field.substring(1));
+                }
+                throw new DukeInvalidQueryException("unknown condition '" + field + "'");
+            }
+        }
+
+        private static Condition parseType(String type) throws DukeInvalidQueryException {
+            switch (type.toLowerCase()) {
+            case "t":
+            case "todo":
+                return new Condition.Type(QueryIndex.TODO);
+            case "d":
+            case "deadline":
+                return new Condition.Type(QueryIndex.DEADLINE);
+            case "e":
+            case "event":
+                return new Condition.Type(QueryIndex.EVENT);
+            default:
+                throw new DukeInvalidQueryException("unknown type '" + type + "'");
+            }
+        }
+
+        private static Condition parseDate(String operator, String text) throws DukeInvalidQueryException {
+            LocalDate date;
+            try {
+                date = LocalDate.parse(text);
+            } catch (DateTimeParseException e) {
+                throw new DukeInvalidQueryException("dates must be YYYY-MM-DD");
+            }
+            switch (operator) {
+            case "=":
+                return new Condition.DateRange(date, true, date, true);
+            case "!=":
+                return new Condition.Not(new Condition.DateRange(date, true, date, true));
+            case "<":
+                return new Condition.DateRange(null, false, date, false);
+            case "<=":
+                return new Condition.DateRange(null, false, date, true);
+            case ">":
+                return new Condition.DateRange(date, false, null, false);
+            default:
+                return new Condition.DateRange(date, true, null, false);
+            }
+        }
+
+        private static Comparator<Task> getOrder(String field) throws DukeInvalidQueryException {
+            switch (field) {
+            case "date":
+                return Comparator.comparing(task -> task.hasDate() ? task.getDate() : LocalDate.MAX);
+            case "priority":
+                return Comparator.comparingInt(task -> task.hasPriority()
+                        ? task.getPriority() : Integer.MAX_VALUE);
+            case "description":
+                return Comparator.comparing(Task::getDescription);
+            default:
+                throw new DukeInvalidQueryException("cannot order by '" + field + "'");
+            }
+        }
+
+        private static int parseNumber(String text) throws DukeInvalidQueryException {
+            try {
+                return Integer.parseUnsignedInt(text);
+            } catch (NumberFormatException e) {
+                throw new DukeInvalidQueryException("'" + text + "' is not a number");
+            }
+        }
+
+        private String nextOperator() throws DukeInvalidQueryException {
+            String operator = next();
+            if (!OPERATORS.contains(operator)) {
+                throw new DukeInvalidQueryException("unknown comparison '" + operator + "'");
+            }
+            return operator;
+        }
+
+        private boolean isAtEnd() {
+            return position == tokens.size();
+        }
+
+        private String peek() {
+            return tokens.get(position);
+        }
+
+        private String next() throws DukeInvalidQueryException {
+            if (isAtEnd()) {
+                throw new DukeInvalidQueryException("the query ends too early");
+            }
+            return tokens.get(position++);
+        }
+
+        private boolean accept(String token) {
+            if (!isAtEnd() && peek().equals(token)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(String token) throws DukeInvalidQueryException {
+            if (!accept(token)) {
+                throw new DukeInvalidQueryException("expected '" + token + "'");
+            }
+        }
+    }
+}
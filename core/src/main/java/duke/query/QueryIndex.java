@@ -0,0 +1,230 @@
+package duke.query;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import duke.tags.RoaringBitmap;
+import duke.tasks.Deadline;
+import duke.tasks.Event;
+import duke.tasks.Task;
+import duke.tasks.TaskListListener;
+
+/**
+ * Represents the QueryIndex that keeps the access paths a query can use instead of scanning every
+ * task: the tasks of each type, the tasks that are done, the tasks by date, and the tasks whose
+ * description contains each trigram. Each index is a RoaringBitmap of ordinals given to the tasks
+ * when they are added. Once more than half of the ordinals belong to removed tasks, the index is
+ * rebuilt with new ordinals in the same order. The index is kept up to date by listening to the
+ * TaskList.
+ */
+public class QueryIndex implements TaskListListener {
+    static final char TODO = 'T';
+    static final char DEADLINE = 'D';
+    static final char EVENT = 'E';
+    static final int TRIGRAM_LENGTH = 3;
+    private static final int MIN_COMPACTED_ORDINALS = 1024;
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final IdentityHashMap<Task, Integer> ordinals = new IdentityHashMap<>();
+    private final ArrayList<Task> tasksByOrdinal = new ArrayList<>();
+    private final HashMap<Character, RoaringBitmap> types = new HashMap<>();
+    private final TreeMap<LocalDate, RoaringBitmap> dates = new TreeMap<>();
+    private final HashMap<Long, RoaringBitmap> trigrams = new HashMap<>();
+    private RoaringBitmap all = new RoaringBitmap();
+    private RoaringBitmap done = new RoaringBitmap();
+
+    /**
+     * Constructs an empty QueryIndex.
+     */
+    public QueryIndex() {
+        clear();
+    }
+
+    @Override
+    public void onTaskAdded(int index, Task task) {
+        int ordinal = tasksByOrdinal.size();
+        tasksByOrdinal.add(task);
+        ordinals.put(task, ordinal);
+        all.add(ordinal);
+        types.get(getType(task)).add(ordinal);
+        if (task.isDone()) {
+            done.add(ordinal);
+        }
+        if (task.hasDate()) {
+            dates.computeIfAbsent(task.getDate(), date -> new RoaringBitmap()).add(ordinal);
+        }
+        for (long trigram : getTrigrams(task.getDescription())) {
+            trigrams.computeIfAbsent(trigram, key -> new RoaringBitmap()).add(ordinal);
+        }
+    }
+
+    @Override
+    public void onTaskRemoved(int index, Task task) {
+        Integer ordinal = ordinals.remove(task);
+        if (ordinal == null) {
+            return;
+        }
+        tasksByOrdinal.set(ordinal, null);
+        all.remove(ordinal);
+        types.get(getType(task)).remove(ordinal);
+        done.remove(ordinal);
+        if (task.hasDate()) {
+            removeFrom(dates, task.getDate(), ordinal);
+        }
+        for (long trigram : getTrigrams(task.getDescription())) {
+            removeFrom(trigrams, trigram, ordinal);
+        }
+        if (tasksByOrdinal.size() > MIN_COMPACTED_ORDINALS && tasksByOrdinal.size() > 2 * ordinals.size()) {
+            ArrayList<Task> tasks = new ArrayList<>(ordinals.size());
+            for (Task remaining : tasksByOrdinal) {
+                if (remaining != null) {
+                    tasks.add(remaining);
+                }
+            }
+            rebuild(tasks);
+        }
+    }
+
+    @Override
+    public void onTaskUpdated(int index, Task task) {
+        Integer ordinal = ordinals.get(task);
+        if (ordinal == null) {
+            return;
+        }
+        if (task.isDone()) {
+            done.add(ordinal);
+        } else {
+            done.remove(ordinal);
+        }
+    }
+
+    @Override
+    public void onTasksReset(List<Task> tasks) {
+        if (tasks.size() == ordinals.size() && tasks.stream().allMatch(ordinals::containsKey)) {
+            return;
+        }
+        rebuild(tasks);
+    }
+
+    private void rebuild(List<Task> tasks) {
+        clear();
+        for (Task task : tasks) {
+            onTaskAdded(tasksByOrdinal.size(), task);
+        }
+    }
+
+    /**
+     * Keeps the ordinals, as sorting the tasks does not change what the queries match.
+     */
+    @Override
+    public void onTasksReordered(List<Task> tasks) {
+    }
+
+    /**
+     * Returns the ordinals of all the tasks.
+     * @return ordinals of all the tasks.
+     */
+    RoaringBitmap getAll() {
+        return all;
+    }
+
+    RoaringBitmap getDone() {
+        return done;
+    }
+
+    /**
+     * Returns the ordinals of the tasks of a type.
+     * @param type 'T', 'D' or 'E'.
+     * @return ordinals of the tasks of the type.
+     */
+    RoaringBitmap getType(char type) {
+        return types.get(type);
+    }
+
+    /**
+     * Returns the bitmaps of the tasks with dates from the start date to the end date.
+     * @param start earliest date, or null for no earliest date.
+     * @param isStartIncluded whether tasks on the start date are included.
+     * @param end latest date, or null for no latest date.
+     * @param isEndIncluded whether tasks on the end date are included.
+     * @return bitmap of each date in the range.
+     */
+    Map<LocalDate, RoaringBitmap> getDates(LocalDate start, boolean isStartIncluded, LocalDate end,
+            boolean isEndIncluded) {
+        if (start == null && end == null) {
+            return dates;
+        } else if (start == null) {
+            return dates.headMap(end, isEndIncluded);
+        } else if (end == null) {
+            return dates.tailMap(start, isStartIncluded);
+        } else if (start.isAfter(end)) {
+            return Map.of();
+        }
+        return dates.subMap(start, isStartIncluded, end, isEndIncluded);
+    }
+
+    /**
+     * Returns the ordinals of the tasks whose description contains the trigram.
+     * @param trigram trigram packed by getTrigrams.
+     * @return ordinals of the tasks with the trigram, or an empty bitmap if there are none.
+     */
+    RoaringBitmap getTrigram(long trigram) {
+        return trigrams.getOrDefault(trigram, EMPTY);
+    }
+
+    Task getTask(int ordinal) {
+        return tasksByOrdinal.get(ordinal);
+    }
+
+    /**
+     * Returns the trigrams of the text, ignoring case, each packed into a long.
+     * @param text text to be split into trigrams.
+     * @return distinct trigrams of the text.
+     */
+    static Set<Long> getTrigrams(String text) {
+        String lowerCaseText = text.toLowerCase();
+        HashSet<Long> textTrigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= lowerCaseText.length(); i++) {
+            textTrigrams.add(((long) lowerCaseText.charAt(i) << 32)
+                    | ((long) lowerCaseText.charAt(i + 1) << 16) | lowerCaseText.charAt(i + 2));
+        }
+        return textTrigrams;
+    }
+
+    static char getType(Task task) {
+        if (task instanceof Deadline) {
+            return DEADLINE;
+        } else if (task instanceof Event) {
+            return EVENT;
+        } else {
+            return TODO;
+        }
+    }
+
+    private void clear() {
+        ordinals.clear();
+        tasksByOrdinal.clear();
+        dates.clear();
+        trigrams.clear();
+        all = new RoaringBitmap();
+        done = new RoaringBitmap();
+        for (char type : new char[] {TODO, DEADLINE, EVENT}) {
+            types.put(type, new RoaringBitmap());
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> bitmaps, K key, int ordinal) {
+        RoaringBitmap bitmap = bitmaps.get(key);
+        bitmap.remove(ordinal);
+        if (bitmap.getCardinality() == 0) {
+            bitmaps.remove(key);
+        }
+    }
+}
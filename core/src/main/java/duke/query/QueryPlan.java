@@ -0,0 +1,165 @@
+package duke.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import duke.tags.RoaringBitmap;
+import duke.tasks.Task;
+
+/**
+ * Represents the QueryPlan that decides how a Query is answered. Of the conditions that every
+ * matching task must meet, the one with the fewest candidates in the QueryIndex is used as the
+ * access path, and only its candidates are checked against the whole condition. If no condition
+ * can be answered from the QueryIndex, every task is checked. A limit is applied with a heap of at
+ * most limit tasks, so the tasks that are not shown are never sorted.
+ */
+public class QueryPlan {
+    private final Query query;
+    private final Condition accessPath;
+    private final int estimate;
+
+    private QueryPlan(Query query, Condition accessPath, int estimate) {
+        this.query = query;
+        this.accessPath = accessPath;
+        this.estimate = estimate;
+    }
+
+    /**
+     * Returns the plan for the query that checks the fewest tasks.
+     * @param query query to be answered.
+     * @param index QueryIndex of the tasks.
+     * @return plan of the query.
+     */
+    public static QueryPlan plan(Query query, QueryIndex index) {
+        ArrayList<Condition> conditions = new ArrayList<>();
+        addConditions(query.getCondition(), conditions);
+        Condition accessPath = null;
+        int estimate = index.getAll().getCardinality();
+        for (Condition condition : conditions) {
+            int conditionEstimate = condition.estimate(index);
+            if (conditionEstimate < estimate) {
+                accessPath = condition;
+                estimate = conditionEstimate;
+            }
+        }
+        return new QueryPlan(query, accessPath, estimate);
+    }
+
+    /**
+     * Returns the tasks that match the query, in the order and number asked for.
+     * @param index QueryIndex of the tasks.
+     * @return result of the query.
+     */
+    public QueryResult execute(QueryIndex index) {
+        RoaringBitmap candidates = accessPath == null ? index.getAll() : accessPath.getCandidates(index);
+        Condition condition = query.getCondition();
+        int limit = query.getLimit();
+        Comparator<Task> order = query.getOrder();
+        int[] checked = new int[1];
+        ArrayList<Task> matches = new ArrayList<>();
+        if (order == null) {
+            candidates.forEachWhile(ordinal -> {
+                if (matches.size() == limit) {
+                    return false;
+                }
+                Task task = index.getTask(ordinal);
+                checked[0]++;
+                if (condition.test(task)) {
+                    matches.add(task);
+                }
+                return true;
+            });
+            return new QueryResult(matches, checked[0], index.getAll().getCardinality(), describe());
+        }
+
+        Comparator<Match> matchOrder = Comparator.<Match, Task>comparing(match -> match.task, order)
+                .thenComparingInt(match -> match.ordinal);
+        PriorityQueue<Match> top = new PriorityQueue<>(matchOrder.reversed());
+        candidates.forEach(ordinal -> {
+            Task task = index.getTask(ordinal);
+            checked[0]++;
+            if (!condition.test(task)) {
+                return;
+            }
+            Match match = new Match(task, ordinal);
+            if (top.size() < limit) {
+                top.add(match);
+            } else if (limit > 0 && matchOrder.compare(match, top.peek()) < 0) {
+                top.poll();
+                top.add(match);
+            }
+        });
+        ArrayList<Match> sorted = new ArrayList<>(top);
+        sorted.sort(matchOrder);
+        for (Match match : sorted) {
+            matches.add(match.task);
+        }
+        return new QueryResult(matches, checked[0], index.getAll().getCardinality(), describe());
+    }
+
+    /**
+     * Returns a description of the access path of this plan.
+     * @return the condition used as the access path, or "scan" if every task is checked.
+     */
+    public String describe() {
+        if (accessPath == null) {
+            return "scan";
+        }
+        return String.format("index on %s (~%d tasks)", accessPath, estimate);
+    }
+
+    private static void addConditions(Condition condition, List<Condition> conditions) {
+        if (condition instanceof Condition.And) {
+            Condition.And and = (Condition.And) condition;
+            addConditions(and.getLeft(), conditions);
+            addConditions(and.getRight(), conditions);
+        } else {
+            conditions.add(condition);
+        }
+    }
+
+    private static class Match {
+        private final Task task;
+        private final int ordinal;
+
+        Match(Task task, int ordinal) {
+            this.task = task;
+            this.ordinal = ordinal;
+        }
+    }
+
+    /**
+     * Represents the tasks found by a query and how many tasks were checked to find them.
+     */
+    public static class QueryResult {
+        private final List<Task> tasks;
+        private final int checked;
+        private final int total;
+        private final String plan;
+
+        QueryResult(List<Task> tasks, int checked, int total, String plan) {
+            this.tasks = tasks;
+            this.checked = checked;
+            this.total = total;
+            this.plan = plan;
+        }
+
+        public List<Task> getTasks() {
+            return tasks;
+        }
+
+        public int getChecked() {
+            return checked;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public String getPlan() {
+            return plan;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package duke.reminders;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import duke.tasks.Task;
+import duke.tasks.TaskListListener;
+
+/**
+ * Represents the ReminderScheduler that notifies the user when the date of a Deadline or Event is
+ * approaching. Upcoming reminders are kept in a min-heap ordered by when they should fire, so each
+ * tick only looks at the head of the heap and its cost does not grow with the number of tasks. The
+ * reminders are kept up to date by listening to the TaskList.
+ */
+public class ReminderScheduler implements TaskListListener {
+    private static final long TICK_SECONDS = 30;
+    private static final Period LEAD_TIME = Period.ofDays(1);
+    private static final int MIN_COMPACT_SIZE = 64;
+
+    private final PriorityQueue<Reminder> queue = new PriorityQueue<>();
+    private final IdentityHashMap<Task, Reminder> pending = new IdentityHashMap<>();
+    private final Consumer<Task> notifier;
+    private final Clock clock;
+    private ScheduledExecutorService executor;
+    private int cancelled = 0;
+
+    /**
+     * Constructs a ReminderScheduler that passes tasks that are due soon to the notifier.
+     * @param notifier used to notify the user of a task that is due soon.
+     * @param clock clock used to decide when reminders are due.
+     */
+    public ReminderScheduler(Consumer<Task> notifier, Clock clock) {
+        this.notifier = notifier;
+        this.clock = clock;
+    }
+
+    /**
+     * Constructs a ReminderScheduler using the system clock.
+     * @param notifier used to notify the user of a task that is due soon.
+     */
+    public ReminderScheduler(Consumer<Task> notifier) {
+        this(notifier, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Starts the single scheduler thread that fires the reminders.
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "duke-reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::fireDue, 0, TICK_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the scheduler thread. Reminders that have not fired are kept.
+     */
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Schedules a reminder for the task if it has a date that has not passed and is not done. A
+     * task is only reminded of once.
+     * @param task task to be reminded of.
+     */
+    public synchronized void schedule(Task task) {
+        if (!task.hasDate() || task.isDone() || pending.containsKey(task)) {
+            return;
+        }
+        LocalDate date = task.getDate();
+        if (date.isBefore(LocalDate.now(clock))) {
+            return;
+        }
+        Instant fireAt = date.minus(LEAD_TIME).atStartOfDay(clock.getZone()).toInstant();
+        Reminder reminder = new Reminder(task, fireAt);
+        pending.put(task, reminder);
+        queue.add(reminder);
+    }
+
+    /**
+     * Cancels the reminder of the task, if any. The reminder is only marked as cancelled and is
+     * dropped when it reaches the head of the heap.
+     * @param task task whose reminder is cancelled.
+     */
+    public synchronized void cancel(Task task) {
+        Reminder reminder = pending.remove(task);
+        if (reminder == null || reminder.isFired) {
+            return;
+        }
+        reminder.isCancelled = true;
+        cancelled++;
+        if (cancelled > MIN_COMPACT_SIZE && cancelled > queue.size() / 2) {
+            compact();
+        }
+    }
+
+    /**
+     * Cancels all the reminders that have not fired, such as when the TaskList is replaced by
+     * another one.
+     */
+    public synchronized void cancelAll() {
+        queue.clear();
+        pending.clear();
+        cancelled = 0;
+    }
+
+    @Override
+    public void onTaskAdded(int index, Task task) {
+        schedule(task);
+    }
+
+    @Override
+    public void onTaskRemoved(int index, Task task) {
+        cancel(task);
+    }
+
+    @Override
+    public void onTaskUpdated(int index, Task task) {
+        if (task.isDone()) {
+            cancel(task);
+        } else {
+            schedule(task);
+        }
+    }
+
+    /**
+     * Cancels the reminders of tasks that are no longer in the list, such as after a reload, sync
+     * or workspace switch, and schedules the tasks that are. Tasks that are still in the list are
+     * not reminded of again.
+     */
+    @Override
+    public synchronized void onTasksReset(List<Task> tasks) {
+        Set<Task> current = Collections.newSetFromMap(new IdentityHashMap<>());
+        current.addAll(tasks);
+        for (Task task : new ArrayList<>(pending.keySet())) {
+            if (!current.contains(task)) {
+                cancel(task);
+            }
+        }
+        for (Task task : tasks) {
+            schedule(task);
+        }
+    }
+
+    /**
+     * Does nothing, as reminders are queued by the time they are due.
+     */
+    @Override
+    public void onTasksReordered(List<Task> tasks) {
+    }
+
+    /**
+     * Returns number of reminders that have not fired.
+     * @return number of pending reminders.
+     */
+    public synchronized int size() {
+        return queue.size() - cancelled;
+    }
+
+    /**
+     * Fires all reminders that are due. Called on the scheduler thread every tick.
+     */
+    public void fireDue() {
+        ArrayList<Task> dueTasks = new ArrayList<>();
+        synchronized (this) {
+            Instant now = clock.instant();
+            while (!queue.isEmpty() && (queue.peek().isCancelled || !queue.peek().fireAt.isAfter(now))) {
+                Reminder reminder = queue.poll();
+                if (reminder.isCancelled) {
+                    cancelled--;
+                    continue;
+                }
+                reminder.isFired = true;
+                dueTasks.add(reminder.task);
+            }
+        }
+        for (Task task : dueTasks) {
+            notifier.accept(task);
+        }
+    }
+
+    private void compact() {
+        queue.removeIf(reminder -> reminder.isCancelled);
+        cancelled = 0;
+    }
+
+    private static class Reminder implements Comparable<Reminder> {
+        private final Task task;
+        private final Instant fireAt;
+        private boolean isCancelled = false;
+        private boolean isFired = false;
+
+        Reminder(Task task, Instant fireAt) {
+            this.task = task;
+            this.fireAt = fireAt;
+        }
+
+        @Override
+        public int compareTo(Reminder otherReminder) {
+            return fireAt.compareTo(otherReminder.fireAt);
+        }
+    }
+}
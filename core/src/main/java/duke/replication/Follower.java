@@ -0,0 +1,239 @@
+package duke.replication;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import duke.Controller;
+import duke.exceptions.DukeReplicationException;
+import duke.storage.Storage;
+import duke.ui.Message;
+import duke.workspaces.Workspaces;
+
+/**
+ * Represents a warm standby that follows the replication log of a primary and applies each command
+ * to its own TaskList and Storage. The sequence number of the last applied command is saved with
+ * the data, so a restarted follower continues where it stopped. A new follower starts from the
+ * primary's latest snapshot, and a snapshot entry in the log replaces the follower's data with the
+ * snapshot. A follower can be promoted to take over from the primary.
+ */
+public class Follower {
+    private static final String APPLIED_FILE = "replication.applied";
+    private static final long POLL_MILLIS = 100;
+    private static final String STATUS_COMMAND = "status";
+    private static final String PROMOTE_COMMAND = "promote";
+    private static final String END_COMMAND = "bye";
+    private static final String USE_COMMAND = "use ";
+
+    private final ReplicationLog.Tailer tailer;
+    private final Path spoolDir;
+    private final Path dataDir;
+    private final Path appliedFile;
+    private final ArrayDeque<ReplicationLog.Entry> pending = new ArrayDeque<>();
+    private Controller controller;
+    private long appliedSequence = 0;
+    private long lastLagMillis = 0;
+    private long maxLagMillis = 0;
+    private boolean isPromoted = false;
+
+    /**
+     * Constructs a Follower of the replication log in the spool directory.
+     * @param spoolDir directory the primary writes its replication log to.
+     * @param dataDir data directory of the follower, which must not be the primary's.
+     */
+    public Follower(Path spoolDir, Path dataDir) {
+        tailer = new ReplicationLog.Tailer(spoolDir);
+        this.spoolDir = spoolDir;
+        this.dataDir = dataDir;
+        controller = newController();
+        appliedFile = dataDir.resolve(APPLIED_FILE);
+    }
+
+    private Controller newController() {
+        Controller newController = new Controller(dataDir);
+        newController.setArchivingOnStart(false);
+        return newController;
+    }
+
+    /**
+     * Loads the follower's TaskList and the sequence number of the last applied command. A
+     * follower that has not applied any command first copies the primary's latest snapshot, so
+     * it also has the tasks added before the log was started.
+     * @return the starting message of the follower's Controller.
+     * @throws IOException when the sequence number or the snapshot cannot be read.
+     */
+    public String initialise() throws IOException {
+        ReplicationLog.Snapshot snapshot = null;
+        if (Files.exists(appliedFile)) {
+            appliedSequence = Long.parseLong(Files.readString(appliedFile).trim());
+        } else {
+            snapshot = ReplicationLog.readSnapshot(spoolDir);
+        }
+        if (snapshot != null) {
+            Storage.copyDataDir(snapshot.getDir(), dataDir);
+            appliedSequence = snapshot.getSequence();
+            saveAppliedSequence();
+        }
+        String msg = controller.initialise();
+        if (snapshot != null) {
+            useWorkspace(snapshot);
+        }
+        return msg;
+    }
+
+    /**
+     * Replaces the follower's data with the primary's latest snapshot, which was taken at or
+     * after the snapshot entry being applied. The Controller is closed while the files are copied
+     * and started again on the copied files.
+     */
+    private void loadSnapshot() throws IOException {
+        ReplicationLog.Snapshot snapshot = ReplicationLog.readSnapshot(spoolDir);
+        if (snapshot == null) {
+            throw new IOException("The snapshot in " + spoolDir + " is missing.");
+        }
+        controller.run(END_COMMAND);
+        Storage.copyDataDir(snapshot.getDir(), dataDir);
+        controller = newController();
+        controller.initialise();
+        useWorkspace(snapshot);
+        appliedSequence = Math.max(appliedSequence, snapshot.getSequence());
+    }
+
+    private void useWorkspace(ReplicationLog.Snapshot snapshot) {
+        if (!snapshot.getWorkspace().equals(Workspaces.DEFAULT_WORKSPACE)) {
+            controller.run(USE_COMMAND + snapshot.getWorkspace());
+        }
+    }
+
+    /**
+     * Applies the commands added to the replication log since the last poll. Entries that could
+     * not be applied because the snapshot could not be loaded are tried again on the next poll.
+     * @return number of commands applied.
+     * @throws IOException when the log cannot be read or the sequence number cannot be saved.
+     */
+    public synchronized int poll() throws IOException {
+        if (isPromoted) {
+            return 0;
+        }
+        pending.addAll(tailer.poll());
+        int applied = 0;
+        try {
+            while (!pending.isEmpty()) {
+                ReplicationLog.Entry entry = pending.peek();
+                if (entry.getSequence() <= appliedSequence) {
+                    pending.poll();
+                    continue;
+                }
+                if (entry.getInput().equals(ReplicationLog.SNAPSHOT_INPUT)) {
+                    loadSnapshot();
+                } else {
+                    controller.run(entry.getInput());
+                }
+                pending.poll();
+                appliedSequence = Math.max(appliedSequence, entry.getSequence());
+                lastLagMillis = Math.max(0, System.currentTimeMillis() - entry.getTimestamp());
+                maxLagMillis = Math.max(maxLagMillis, lastLagMillis);
+                applied++;
+            }
+        } finally {
+            if (applied > 0) {
+                saveAppliedSequence();
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Returns the status of the follower: the last applied command and the replication lag, which
+     * is the time between the primary writing a command and the follower applying it.
+     * @return status of the follower.
+     */
+    public synchronized String getStatus() {
+        return Message.getReplicationStatusMsg(appliedSequence, lastLagMillis, maxLagMillis, isPromoted);
+    }
+
+    public synchronized long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    /**
+     * Applies the rest of the replication log and stops following it, so the Controller can take
+     * over from the primary. The primary must be stopped before a follower is promoted.
+     * @return the Controller of the promoted follower.
+     * @throws IOException when the rest of the log cannot be applied.
+     */
+    public synchronized Controller promote() throws IOException {
+        poll();
+        isPromoted = true;
+        return controller;
+    }
+
+    private void saveAppliedSequence() throws IOException {
+        Path tempFile = appliedFile.resolveSibling(APPLIED_FILE + ".tmp");
+        Files.writeString(tempFile, Long.toString(appliedSequence));
+        Files.move(tempFile, appliedFile, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Runs a follower from the command line: Follower SPOOL_DIR DATA_DIR [NEW_SPOOL_DIR]. Type
+     * "status" to show the replication lag and "promote" to take over from the primary. Once
+     * promoted, the follower reads commands like the primary, and writes its own replication log
+     * to NEW_SPOOL_DIR if given.
+     * @param args the spool directory, data directory and optionally the spool directory to use
+     *     once promoted.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: Follower SPOOL_DIR DATA_DIR [NEW_SPOOL_DIR]");
+            return;
+        }
+        Follower follower = new Follower(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.println(follower.initialise());
+        ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor();
+        poller.scheduleWithFixedDelay(() -> {
+            try {
+                follower.poll();
+            } catch (IOException e) {
+                System.out.println(e);
+            }
+        }, 0, POLL_MILLIS, TimeUnit.MILLISECONDS);
+
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        Controller controller = null;
+        String input;
+        while ((input = in.readLine()) != null) {
+            if (controller != null) {
+                System.out.println(controller.run(input));
+                if (input.equals(END_COMMAND)) {
+                    break;
+                }
+            } else if (input.equals(STATUS_COMMAND)) {
+                System.out.println(follower.getStatus());
+            } else if (input.equals(PROMOTE_COMMAND)) {
+                poller.shutdownNow();
+                controller = follower.promote();
+                if (args.length > 2) {
+                    try {
+                        controller.startReplication(Paths.get(args[2]));
+                    } catch (DukeReplicationException e) {
+                        System.out.println(Message.getErrorMsg(e));
+                    }
+                }
+                System.out.println(follower.getStatus());
+            } else if (input.equals(END_COMMAND)) {
+                break;
+            }
+        }
+        poller.shutdownNow();
+    }
+}
@@ -0,0 +1,314 @@
+package duke.replication;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import duke.storage.Storage;
+
+/**
+ * Represents the ReplicationLog that the primary appends each command that changed its TaskList
+ * to. The log is kept in a spool directory shared with the followers, one entry per line:
+ * [sequence number] [time in milliseconds] [input], separated by tabs.
+ * The spool directory also holds a snapshot of the primary's data directory, taken after the
+ * entry of its sequence number. A new follower starts from the snapshot. Changes that cannot be
+ * replayed from the input alone, such as tasks imported from a file, are logged as a snapshot
+ * entry, and the followers load the snapshot again.
+ */
+public class ReplicationLog {
+    static final String LOG_FILE = "replication.log";
+    static final String SNAPSHOT_INPUT = "#snapshot";
+    private static final String SNAPSHOT_FILE = "snapshot.txt";
+    private static final String SNAPSHOT_DIR_PREFIX = "snapshot-";
+    private static final String TEMP_POSTFIX = ".tmp";
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final int FIELDS = 3;
+    private final Path spoolDir;
+    private final BufferedWriter writer;
+    private long sequence;
+
+    private ReplicationLog(Path spoolDir, BufferedWriter writer, long sequence) {
+        this.spoolDir = spoolDir;
+        this.writer = writer;
+        this.sequence = sequence;
+    }
+
+    /**
+     * Opens the log in the spool directory for appending, continuing from its last sequence number.
+     * @param spoolDir directory shared with the followers.
+     * @return the ReplicationLog of the spool directory.
+     * @throws IOException when the log cannot be opened.
+     */
+    public static ReplicationLog open(Path spoolDir) throws IOException {
+        Files.createDirectories(spoolDir);
+        Path logFile = spoolDir.resolve(LOG_FILE);
+        long sequence = 0;
+        if (Files.exists(logFile)) {
+            try (BufferedReader reader = Files.newBufferedReader(logFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    Entry entry = Entry.parse(line);
+                    if (entry != null) {
+                        sequence = entry.sequence;
+                    }
+                }
+            }
+        }
+        BufferedWriter writer = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        return new ReplicationLog(spoolDir, writer, sequence);
+    }
+
+    /**
+     * Appends the input of a command to the log and flushes it, so followers can read it at once.
+     * @param input input of the command that was applied.
+     * @return sequence number of the entry.
+     * @throws IOException when the log cannot be written.
+     */
+    public synchronized long append(String input) throws IOException {
+        sequence++;
+        writer.write(sequence + FIELD_SEPARATOR + System.currentTimeMillis() + FIELD_SEPARATOR + input);
+        writer.write('\n');
+        writer.flush();
+        return sequence;
+    }
+
+    /**
+     * Saves a snapshot of the data directory as it is after the last entry, for new followers to
+     * start from.
+     * @param dataDir data directory of the primary, which must not be saved to meanwhile.
+     * @param workspace name of the active workspace of the primary.
+     * @throws IOException when the snapshot cannot be saved.
+     */
+    public synchronized void writeSnapshot(Path dataDir, String workspace) throws IOException {
+        saveSnapshot(dataDir, workspace, sequence);
+    }
+
+    /**
+     * Saves a snapshot of the data directory and appends an entry telling the followers to load
+     * it, for changes the followers cannot replay from the input of the command.
+     * @param dataDir data directory of the primary, which must not be saved to meanwhile.
+     * @param workspace name of the active workspace of the primary.
+     * @return sequence number of the entry.
+     * @throws IOException when the snapshot cannot be saved or the log cannot be written.
+     */
+    public synchronized long appendSnapshot(Path dataDir, String workspace) throws IOException {
+        saveSnapshot(dataDir, workspace, sequence + 1);
+        return append(SNAPSHOT_INPUT);
+    }
+
+    /**
+     * Copies the data directory to a new snapshot directory, then points the snapshot file at it
+     * and deletes the older snapshots. The snapshot file is replaced in one move, so followers
+     * never see a snapshot that is only partly copied.
+     */
+    private void saveSnapshot(Path dataDir, String workspace, long snapshotSequence) throws IOException {
+        String name = SNAPSHOT_DIR_PREFIX + snapshotSequence;
+        Path snapshotDir = spoolDir.resolve(name);
+        Path tempDir = spoolDir.resolve(name + TEMP_POSTFIX);
+        deleteDir(tempDir);
+        deleteDir(snapshotDir);
+        Files.createDirectories(tempDir);
+        Storage.copyDataDir(dataDir, tempDir);
+        Files.move(tempDir, snapshotDir, StandardCopyOption.ATOMIC_MOVE);
+        Path tempFile = spoolDir.resolve(SNAPSHOT_FILE + TEMP_POSTFIX);
+        Files.writeString(tempFile, snapshotSequence + FIELD_SEPARATOR + workspace, StandardCharsets.UTF_8);
+        Files.move(tempFile, spoolDir.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        try (Stream<Path> dirs = Files.list(spoolDir)) {
+            for (Path dir : (Iterable<Path>) dirs::iterator) {
+                String dirName = dir.getFileName().toString();
+                if (dirName.startsWith(SNAPSHOT_DIR_PREFIX) && !dirName.equals(name)) {
+                    deleteDir(dir);
+                }
+            }
+        }
+    }
+
+    private static void deleteDir(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Returns the latest snapshot in the spool directory, or null if there is none.
+     * @param spoolDir directory shared with the primary.
+     * @return the latest snapshot.
+     * @throws IOException when the snapshot file cannot be read.
+     */
+    public static Snapshot readSnapshot(Path spoolDir) throws IOException {
+        Path snapshotFile = spoolDir.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(snapshotFile)) {
+            return null;
+        }
+        String[] fields = Files.readString(snapshotFile, StandardCharsets.UTF_8).trim().split(FIELD_SEPARATOR, 2);
+        try {
+            long snapshotSequence = Long.parseLong(fields[0]);
+            return new Snapshot(snapshotSequence, fields[1],
+                    spoolDir.resolve(SNAPSHOT_DIR_PREFIX + snapshotSequence));
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Snapshot file is damaged.", e);
+        }
+    }
+
+    /**
+     * Returns the sequence number of the last entry in the log.
+     * @return last sequence number.
+     */
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Closes the log.
+     * @throws IOException when the log cannot be closed.
+     */
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Represents a single command in the log.
+     */
+    public static class Entry {
+        private final long sequence;
+        private final long timestamp;
+        private final String input;
+
+        Entry(long sequence, long timestamp, String input) {
+            this.sequence = sequence;
+            this.timestamp = timestamp;
+            this.input = input;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public String getInput() {
+            return input;
+        }
+
+        /**
+         * Returns the entry of a line of the log, or null if the line is not an entry.
+         */
+        static Entry parse(String line) {
+            String[] fields = line.split(FIELD_SEPARATOR, FIELDS);
+            if (fields.length != FIELDS) {
+                return null;
+            }
+            try {
+                return new Entry(Long.parseLong(fields[0]), Long.parseLong(fields[1]), fields[2]);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Represents a snapshot of the primary's data directory, taken after the entry of its
+     * sequence number.
+     */
+    public static class Snapshot {
+        private final long sequence;
+        private final String workspace;
+        private final Path dir;
+
+        Snapshot(long sequence, String workspace, Path dir) {
+            this.sequence = sequence;
+            this.workspace = workspace;
+            this.dir = dir;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public String getWorkspace() {
+            return workspace;
+        }
+
+        public Path getDir() {
+            return dir;
+        }
+    }
+
+    /**
+     * Represents a reader that follows the log as it grows. Each poll only reads the bytes added
+     * since the last poll, and a line is only returned once it is complete.
+     */
+    public static class Tailer {
+        private static final int BUFFER_SIZE = 64 * 1024;
+        private final Path logFile;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+        private long position = 0;
+
+        /**
+         * Constructs a Tailer of the log in the spool directory.
+         * @param spoolDir directory shared with the primary.
+         */
+        public Tailer(Path spoolDir) {
+            logFile = spoolDir.resolve(LOG_FILE);
+        }
+
+        /**
+         * Returns the entries added to the log since the last poll.
+         * @return new entries in the order they were appended.
+         * @throws IOException when the log cannot be read.
+         */
+        public ArrayList<Entry> poll() throws IOException {
+            ArrayList<Entry> entries = new ArrayList<>();
+            if (!Files.exists(logFile)) {
+                return entries;
+            }
+            try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+                if (channel.size() < position) {
+                    position = 0;
+                    partialLine.reset();
+                }
+                channel.position(position);
+                int read;
+                while ((read = channel.read(buffer)) > 0) {
+                    position += read;
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        byte b = buffer.get();
+                        if (b != '\n') {
+                            partialLine.write(b);
+                            continue;
+                        }
+                        Entry entry = Entry.parse(partialLine.toString(StandardCharsets.UTF_8));
+                        partialLine.reset();
+                        if (entry != null) {
+                            entries.add(entry);
+                        }
+                    }
+                    buffer.clear();
+                }
+            }
+            return entries;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package duke.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Represents the block compressed format of the save files. A compressed file starts with a magic
+ * header followed by blocks that each hold up to BLOCK_SIZE bytes of deflated text:
+ * [uncompressed length][compressed length][compressed bytes]. Files are read one block at a time,
+ * so the whole file is never inflated into memory. Files without the header are plain text.
+ */
+public class BlockCompression {
+    static final int BLOCK_SIZE = 64 * 1024;
+    /** Largest a deflated block of BLOCK_SIZE bytes can be, as given by zlib's compressBound. */
+    static final int MAX_COMPRESSED_SIZE = BLOCK_SIZE + (BLOCK_SIZE >> 12) + (BLOCK_SIZE >> 14) + 13;
+    private static final byte[] MAGIC = {'D', 'K', 'Z', '1'};
+
+    /**
+     * Returns a writer for the file, which compresses the text if isCompressed is true.
+     * @param file file to be written.
+     * @param isCompressed true if the file should be written in the block compressed format.
+     * @return writer for the file.
+     * @throws IOException when the file cannot be opened.
+     */
+    public static BufferedWriter newWriter(Path file, boolean isCompressed) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(newOutputStream(file, isCompressed),
+                StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns a stream for the bytes of the file, which compresses them if isCompressed is true.
+     * @param file file to be written.
+     * @param isCompressed true if the file should be written in the block compressed format.
+     * @return stream for the file.
+     * @throws IOException when the file cannot be opened.
+     */
+    public static OutputStream newOutputStream(Path file, boolean isCompressed) throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        if (isCompressed) {
+            out = new BlockOutputStream(out);
+        }
+        return out;
+    }
+
+    /**
+     * Returns a reader for the file, which detects if the file is block compressed or plain text.
+     * @param file file to be read.
+     * @return reader for the text in the file.
+     * @throws IOException when the file cannot be opened.
+     */
+    public static BufferedReader newReader(Path file) throws IOException {
+        return new BufferedReader(new InputStreamReader(newInputStream(file), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns true if the file is in the block compressed format.
+     * @param file file to be checked.
+     * @return true if the file starts with the magic header.
+     * @throws IOException when the file cannot be read.
+     */
+    public static boolean isCompressed(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+        }
+    }
+
+    private static InputStream newInputStream(Path file) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(Files.newInputStream(file));
+        in.mark(MAGIC.length);
+        byte[] header = in.readNBytes(MAGIC.length);
+        if (Arrays.equals(header, MAGIC)) {
+            return new BlockInputStream(in);
+        }
+        in.reset();
+        return in;
+    }
+
+    /**
+     * Deflates the bytes written to it block by block.
+     */
+    private static class BlockOutputStream extends FilterOutputStream {
+        private final DataOutputStream out;
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        private final byte[] block = new byte[BLOCK_SIZE];
+        private final byte[] compressed = new byte[BLOCK_SIZE + BLOCK_SIZE / 2];
+        private int length = 0;
+
+        BlockOutputStream(OutputStream out) throws IOException {
+            super(out);
+            this.out = new DataOutputStream(out);
+            this.out.write(MAGIC);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (length == block.length) {
+                writeBlock();
+            }
+            block[length++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int len) throws IOException {
+            while (len > 0) {
+                if (length == block.length) {
+                    writeBlock();
+                }
+                int copied = Math.min(len, block.length - length);
+                System.arraycopy(bytes, offset, block, length, copied);
+                length += copied;
+                offset += copied;
+                len -= copied;
+            }
+        }
+
+        private void writeBlock() throws IOException {
+            if (length == 0) {
+                return;
+            }
+            deflater.reset();
+            deflater.setInput(block, 0, length);
+            deflater.finish();
+            int compressedLength = 0;
+            while (!deflater.finished()) {
+                compressedLength += deflater.deflate(compressed, compressedLength,
+                        compressed.length - compressedLength);
+            }
+            out.writeInt(length);
+            out.writeInt(compressedLength);
+            out.write(compressed, 0, compressedLength);
+            length = 0;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                writeBlock();
+            } finally {
+                try {
+                    out.close();
+                } finally {
+                    deflater.end();
+                }
+            }
+        }
+    }
+
+    /**
+     * Inflates the blocks of a compressed file one at a time.
+     */
+    private static class BlockInputStream extends InputStream {
+        private final DataInputStream in;
+        private final Inflater inflater = new Inflater();
+        private final byte[] block = new byte[BLOCK_SIZE];
+        private final byte[] compressed = new byte[MAX_COMPRESSED_SIZE];
+        private int length = 0;
+        private int position = 0;
+        private boolean isEnd = false;
+
+        BlockInputStream(InputStream in) {
+            this.in = new DataInputStream(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return block[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int copied = Math.min(len, length - position);
+            System.arraycopy(block, position, bytes, offset, copied);
+            position += copied;
+            return copied;
+        }
+
+        private boolean fill() throws IOException {
+            while (position == length) {
+                if (isEnd || !readBlock()) {
+                    isEnd = true;
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean readBlock() throws IOException {
+            int rawLength;
+            try {
+                rawLength = in.readInt();
+            } catch (EOFException e) {
+                return false;
+            }
+            int compressedLength = in.readInt();
+            if (rawLength < 0 || rawLength > BLOCK_SIZE || compressedLength < 0
+                    || compressedLength > MAX_COMPRESSED_SIZE) {
+                throw new IOException("Corrupted compressed block.");
+            }
+            in.readFully(compressed, 0, compressedLength);
+            inflater.reset();
+            inflater.setInput(compressed, 0, compressedLength);
+            try {
+                length = 0;
+                while (length < rawLength && !inflater.finished()) {
+                    int inflated = inflater.inflate(block, length, rawLength - length);
+                    if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new IOException("Corrupted compressed block.");
+                    }
+                    length += inflated;
+                }
+            } catch (DataFormatException e) {
+                throw new IOException(e);
+            }
+            if (length != rawLength || !inflater.finished()) {
+                throw new IOException("Corrupted compressed block.");
+            }
+            position = 0;
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            inflater.end();
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Represents the InstanceLock that coordinates the Duke instances using the same data directory.
+ * The instance holding the lock on the lock file owns the data directory and is the only one that
+ * saves; the other instances are read-only. The lock file starts with a header that every instance
+ * maps into memory: [magic][unused][generation]. The owner increases the generation after each
+ * save, so read-only instances see that the save files changed by reading one number from memory
+ * instead of reading the files. Instances in the same process share the ownership of a data
+ * directory, which is given up once all of them are closed.
+ */
+public class InstanceLock implements AutoCloseable {
+    static final String LOCK_FILE = "instance.lock";
+    private static final int MAGIC = 0x44554b45;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int GENERATION_OFFSET = 8;
+    private static final int HEADER_SIZE = 16;
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class,
+            ByteOrder.nativeOrder());
+    private static final HashMap<Path, HeldLock> HELD_LOCKS = new HashMap<>();
+    private final Path lockFile;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private boolean isOwner = false;
+
+    private InstanceLock(Path lockFile, FileChannel channel, MappedByteBuffer header) {
+        this.lockFile = lockFile;
+        this.channel = channel;
+        this.header = header;
+    }
+
+    /**
+     * Opens the lock file of the data directory and takes ownership of the data directory if no
+     * other instance has it.
+     * @param dataDir data directory shared by the instances.
+     * @return the InstanceLock of the data directory.
+     * @throws IOException when the lock file cannot be opened or mapped.
+     */
+    public static InstanceLock open(Path dataDir) throws IOException {
+        Path lockFile = dataDir.resolve(LOCK_FILE).toAbsolutePath().normalize();
+        FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            InstanceLock instanceLock = new InstanceLock(lockFile, channel,
+                    channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE));
+            instanceLock.tryTakeOver();
+            return instanceLock;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Takes ownership of the data directory if no other instance has it, such as after the owner
+     * is closed. The byte after the header is locked rather than the header, so reading the header
+     * is never blocked where locks are enforced.
+     * @return true if this instance owns the data directory.
+     * @throws IOException when the lock file cannot be locked.
+     */
+    public synchronized boolean tryTakeOver() throws IOException {
+        if (isOwner) {
+            return true;
+        }
+        synchronized (HELD_LOCKS) {
+            HeldLock heldLock = HELD_LOCKS.get(lockFile);
+            if (heldLock == null) {
+                FileLock lock;
+                try {
+                    lock = channel.tryLock(HEADER_SIZE, 1, false);
+                } catch (OverlappingFileLockException e) {
+                    return false;
+                }
+                if (lock == null) {
+                    return false;
+                }
+                if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+                    LONGS.setVolatile(header, GENERATION_OFFSET, 0L);
+                    header.putInt(MAGIC_OFFSET, MAGIC);
+                }
+                heldLock = new HeldLock(lock);
+                HELD_LOCKS.put(lockFile, heldLock);
+            }
+            heldLock.owners++;
+        }
+        isOwner = true;
+        return true;
+    }
+
+    public synchronized boolean isOwner() {
+        return isOwner;
+    }
+
+    /**
+     * Returns the generation of the save files, which the owner increases after each save.
+     * @return the generation of the save files.
+     */
+    public long getGeneration() {
+        return (long) LONGS.getVolatile(header, GENERATION_OFFSET);
+    }
+
+    /**
+     * Increases the generation of the save files after they are saved. Only the owner saves, so
+     * the generation is never increased by two instances at once.
+     * @return the new generation.
+     */
+    public long nextGeneration() {
+        assert isOwner();
+        long generation = getGeneration() + 1;
+        LONGS.setVolatile(header, GENERATION_OFFSET, generation);
+        return generation;
+    }
+
+    /**
+     * Gives up ownership of the data directory, so another instance can take over, and closes the
+     * lock file. Closing any channel of the lock file releases the locks of the whole process on
+     * some systems, so while this process owns the data directory, the channel is only closed
+     * together with the lock, once the last owner in the process is closed.
+     * @throws IOException when the lock file cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        ArrayList<FileChannel> closedChannels = new ArrayList<>();
+        FileLock releasedLock = null;
+        synchronized (HELD_LOCKS) {
+            HeldLock heldLock = HELD_LOCKS.get(lockFile);
+            if (heldLock == null) {
+                closedChannels.add(channel);
+            } else {
+                heldLock.channels.add(channel);
+                if (isOwner && --heldLock.owners == 0) {
+                    HELD_LOCKS.remove(lockFile);
+                    releasedLock = heldLock.lock;
+                    closedChannels.addAll(heldLock.channels);
+                }
+            }
+            isOwner = false;
+        }
+        if (releasedLock != null) {
+            releasedLock.release();
+        }
+        for (FileChannel closedChannel : closedChannels) {
+            closedChannel.close();
+        }
+    }
+
+    /**
+     * Keeps the lock of a data directory held by this process, the number of its owners, and the
+     * channels of the lock file that are closed once the lock is released.
+     */
+    private static class HeldLock {
+        private final FileLock lock;
+        private final ArrayList<FileChannel> channels = new ArrayList<>();
+        private int owners = 0;
+
+        HeldLock(FileLock lock) {
+            this.lock = lock;
+        }
+    }
+}
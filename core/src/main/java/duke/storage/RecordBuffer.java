@@ -0,0 +1,102 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import duke.tasks.Task;
+
+/**
+ * Represents a reusable buffer that encodes the records of a segment into UTF-8 bytes. The same
+ * text, byte and checksum buffers are used for every segment, so saving after a command does not
+ * create a String or byte array per task. The bytes written are the same as those of
+ * StorageEncoder.encodeRecord followed by a new line.
+ */
+class RecordBuffer {
+    private static final int INITIAL_CAPACITY = 8 * 1024;
+    private static final int CHECKSUM_DIGITS = 8;
+    private static final byte[] HEX_DIGITS = {
+        '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'
+    };
+
+    private final StringBuilder data = new StringBuilder(256);
+    private final CRC32C crc = new CRC32C();
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length = 0;
+
+    /**
+     * Encodes the records of the tasks, one per line, replacing what the buffer held before.
+     * @param tasks tasks to be encoded.
+     */
+    void encode(List<Task> tasks) {
+        length = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            data.setLength(0);
+            tasks.get(i).appendData(data);
+            int checksumStart = length;
+            ensureCapacity(CHECKSUM_DIGITS + 1 + data.length() * 3 + 1);
+            length += CHECKSUM_DIGITS;
+            bytes[length++] = ':';
+            int dataStart = length;
+            encodeUtf8();
+            crc.reset();
+            crc.update(bytes, dataStart, length - dataStart);
+            writeHex(checksumStart, crc.getValue());
+            bytes[length++] = '\n';
+        }
+    }
+
+    /**
+     * Writes the encoded records to the stream.
+     * @param out stream of the segment file.
+     * @throws IOException when the stream fails to write.
+     */
+    void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, length);
+    }
+
+    int length() {
+        return length;
+    }
+
+    private void encodeUtf8() {
+        for (int i = 0; i < data.length(); i++) {
+            char c = data.charAt(i);
+            if (c < 0x80) {
+                bytes[length++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[length++] = (byte) (0xc0 | c >> 6);
+                bytes[length++] = (byte) (0x80 | c & 0x3f);
+            } else if (Character.isHighSurrogate(c) && i + 1 < data.length()
+                    && Character.isLowSurrogate(data.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, data.charAt(++i));
+                bytes[length++] = (byte) (0xf0 | codePoint >> 18);
+                bytes[length++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+                bytes[length++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+                bytes[length++] = (byte) (0x80 | codePoint & 0x3f);
+            } else if (Character.isSurrogate(c)) {
+                bytes[length++] = '?';
+            } else {
+                bytes[length++] = (byte) (0xe0 | c >> 12);
+                bytes[length++] = (byte) (0x80 | c >> 6 & 0x3f);
+                bytes[length++] = (byte) (0x80 | c & 0x3f);
+            }
+        }
+    }
+
+    private void writeHex(int offset, long value) {
+        for (int i = CHECKSUM_DIGITS - 1; i >= 0; i--) {
+            bytes[offset + i] = HEX_DIGITS[(int) (value & 0xf)];
+            value >>>= 4;
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > bytes.length) {
+            byte[] grown = new byte[Math.max(bytes.length * 2, length + extra)];
+            System.arraycopy(bytes, 0, grown, 0, length);
+            bytes = grown;
+        }
+    }
+}
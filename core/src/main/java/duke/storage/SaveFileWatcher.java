@@ -0,0 +1,96 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents the SaveFileWatcher that watches the segment files of a Storage for edits made
+ * outside Duke, such as by scripts, while Duke is open. Writes made by the Storage itself are
+ * told apart by the fingerprint the Storage keeps of each file. When a segment file is edited,
+ * the Storage is marked so it holds off saves, and the listener is called on the watcher thread
+ * so the edits can be reloaded.
+ */
+public class SaveFileWatcher implements AutoCloseable {
+    private static final long SETTLE_MILLIS = 50;
+    private final Storage storage;
+    private final Runnable listener;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    private SaveFileWatcher(Storage storage, Runnable listener, WatchService watchService) {
+        this.storage = storage;
+        this.listener = listener;
+        this.watchService = watchService;
+        thread = new Thread(this::watch, "duke-save-watcher");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching the segment files of the Storage.
+     * @param storage storage whose segment files are watched.
+     * @param listener listener called on the watcher thread after segment files are edited.
+     * @return the started SaveFileWatcher.
+     * @throws IOException when the segment directory cannot be watched.
+     */
+    public static SaveFileWatcher start(Storage storage, Runnable listener) throws IOException {
+        WatchService watchService = FileSystems.getDefault().newWatchService();
+        storage.getSegmentDir().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        SaveFileWatcher watcher = new SaveFileWatcher(storage, listener, watchService);
+        watcher.thread.start();
+        return watcher;
+    }
+
+    /**
+     * Stops watching the segment files.
+     * @throws IOException when the watch service cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    /**
+     * Waits for changes in the segment directory. Changes that arrive close together, such as
+     * a script rewriting several segments, are gathered before the files are checked, so the
+     * listener is called once for them.
+     */
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean isEdited = false;
+                while (key != null) {
+                    isEdited |= hasEditedFile(key);
+                    key.reset();
+                    key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (isEdited) {
+                    storage.markExternalEdits();
+                    listener.run();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // The watcher was closed.
+        }
+    }
+
+    private boolean hasEditedFile(WatchKey key) {
+        boolean isEdited = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                isEdited = true;
+            } else if (storage.isEditedOutside((Path) event.context())) {
+                isEdited = true;
+            }
+        }
+        return isEdited;
+    }
+}
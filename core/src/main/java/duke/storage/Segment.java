@@ -0,0 +1,107 @@
+package duke.storage;
+
+import java.util.ArrayList;
+
+import duke.tasks.Task;
+
+/**
+ * Represents a Segment of the save data. Each Segment is saved in its own file so that a change to
+ * a task only rewrites the segment that contains it.
+ */
+public class Segment {
+    public static final int CAPACITY = 1024;
+    private final int id;
+    private final ArrayList<Task> tasks;
+    private boolean isDirty;
+
+    /**
+     * Constructs a Segment containing the tasks.
+     * @param id id of the Segment, which is its position in the manifest.
+     * @param tasks tasks in the Segment.
+     * @param isDirty true if the Segment has to be written on the next save.
+     */
+    public Segment(int id, ArrayList<Task> tasks, boolean isDirty) {
+        this.id = id;
+        this.tasks = tasks;
+        this.isDirty = isDirty;
+        for (Task task : tasks) {
+            task.setSegment(id);
+        }
+    }
+
+    /**
+     * Constructs an empty Segment that has to be written on the next save.
+     * @param id id of the Segment.
+     */
+    public Segment(int id) {
+        this(id, new ArrayList<>(), true);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public ArrayList<Task> getTasks() {
+        return tasks;
+    }
+
+    public boolean isFull() {
+        return tasks.size() >= CAPACITY;
+    }
+
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    /**
+     * Marks the Segment as changed so that it is written on the next save.
+     */
+    public void markDirty() {
+        isDirty = true;
+    }
+
+    /**
+     * Marks the Segment as saved.
+     */
+    void markClean() {
+        isDirty = false;
+    }
+
+    /**
+     * Adds the task to the Segment.
+     * @param task task to be added.
+     */
+    public void add(Task task) {
+        assert !isFull();
+        tasks.add(task);
+        task.setSegment(id);
+        isDirty = true;
+    }
+
+    /**
+     * Replaces the task at the position in the Segment with another task, which takes its place.
+     * @param position position of the task to be replaced in the Segment.
+     * @param newTask task that takes its place.
+     */
+    public void replace(int position, Task newTask) {
+        Task oldTask = tasks.set(position, newTask);
+        oldTask.setSegment(-1);
+        newTask.setSegment(id);
+        isDirty = true;
+    }
+
+    /**
+     * Removes the task from the Segment.
+     * @param task task to be removed.
+     */
+    public void remove(Task task) {
+        for (int i = 0; i < tasks.size(); i++) {
+            if (tasks.get(i) == task) {
+                tasks.remove(i);
+                break;
+            }
+        }
+        task.setSegment(-1);
+        isDirty = true;
+    }
+}
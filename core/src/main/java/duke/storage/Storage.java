@@ -0,0 +1,806 @@
+package duke.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import duke.dispatch.CommandServer;
+import duke.exceptions.DukeArchiveException;
+import duke.exceptions.DukeCorruptedStorageException;
+import duke.exceptions.DukeCreateDirectoryException;
+import duke.exceptions.DukeCreateFileException;
+import duke.exceptions.DukeReadOnlyException;
+import duke.exceptions.DukeSaveFileException;
+import duke.jfr.LoadEvent;
+import duke.jfr.SaveEvent;
+import duke.tasks.Task;
+
+/**
+ * Represents the Storage file that is used to store and update the save file. The tasks are saved
+ * in segment files listed by a manifest, so that only the segments that changed are rewritten.
+ */
+public class Storage {
+    private static final String DATA_DIR = new File("data").getAbsolutePath();
+    private static final String SEGMENT_DIR = "segments";
+    private static final String MANIFEST_FILE = "manifest.txt";
+    private static final String LEGACY_SAVE_FILE = "save.txt";
+    private static final String QUARANTINE_FILE = "quarantine.txt";
+    private static final String QUARANTINE_DIR = "quarantine";
+    private static final String ARCHIVE_FILE = "archive.txt";
+    private static final String VIEWS_FILE = "views.txt";
+    private static final String VIEW_SEPARATOR = " | ";
+    private static final String SYNC_DIR = "sync";
+    private static final String SYNC_ID_FILE = "id";
+    private static final String SYNC_BASE_POSTFIX = ".base";
+    private static final String SEGMENT_FILE_FORMAT = "segment-%05d.txt";
+    private static final String TEMP_POSTFIX = ".tmp";
+    private static final String COMPRESS_PROPERTY = "duke.storage.compress";
+    private static Storage storage;
+    private final Path dataDir;
+    private final Path segmentDir;
+    private final Path manifestFile;
+    private final Path legacySaveFile;
+    private final Path quarantineFile;
+    private final Path quarantineDir;
+    private final Path archiveFile;
+    private int savedSegments = 0;
+    private int quarantinedRecords = 0;
+    private boolean isCompressed = Boolean.getBoolean(COMPRESS_PROPERTY);
+    private final RecordBuffer recordBuffer = new RecordBuffer();
+    private final ArrayList<Path[]> segmentFiles = new ArrayList<>();
+    private final ConcurrentHashMap<String, String> fingerprints = new ConcurrentHashMap<>();
+    private final AtomicBoolean hasExternalEdits = new AtomicBoolean();
+    private final HashSet<Integer> discardedSegments = new HashSet<>();
+    private InstanceLock instanceLock;
+    private long seenGeneration;
+
+    private Storage(Path dataDir) throws DukeCreateDirectoryException {
+        this.dataDir = dataDir.toAbsolutePath();
+        segmentDir = this.dataDir.resolve(SEGMENT_DIR);
+        manifestFile = this.dataDir.resolve(MANIFEST_FILE);
+        legacySaveFile = this.dataDir.resolve(LEGACY_SAVE_FILE);
+        quarantineFile = this.dataDir.resolve(QUARANTINE_FILE);
+        quarantineDir = this.dataDir.resolve(QUARANTINE_DIR);
+        archiveFile = this.dataDir.resolve(ARCHIVE_FILE);
+        createDirectory();
+    }
+
+    /**
+     * Returns a new Storage or an existing one. The Storage is only created once even if several
+     * threads ask for it at the same time.
+     * @return a new or existing Storage class.
+     */
+    public static synchronized Storage getInstance() throws DukeCreateDirectoryException {
+        if (storage == null) {
+            storage = new Storage(Paths.get(DATA_DIR));
+        }
+        return storage;
+    }
+
+    /**
+     * Returns a new Storage that saves in the data directory, for when the tasks are not saved in
+     * the default data directory.
+     * @param dataDir directory the save files are kept in.
+     * @return a new Storage for the data directory.
+     */
+    public static Storage open(Path dataDir) throws DukeCreateDirectoryException {
+        return new Storage(dataDir);
+    }
+
+    /**
+     * Returns the directory the save files are kept in.
+     * @return path of the data directory.
+     */
+    public Path getDataDir() {
+        return dataDir;
+    }
+
+    public Path getSegmentDir() {
+        return segmentDir;
+    }
+
+    /**
+     * Sets whether segments are written in the block compressed format. Segments are only
+     * rewritten in the new format when they change. Both formats are detected when loading.
+     * Defaults to the value of the "duke.storage.compress" system property.
+     * @param isCompressed true if segments should be compressed.
+     */
+    public void setCompressed(boolean isCompressed) {
+        this.isCompressed = isCompressed;
+    }
+
+    /**
+     * Updates the save files in the hardware with the segments that changed since the last save.
+     * The manifest is only rewritten when segments are added. Saves that write segments are
+     * recorded as a SaveEvent when Flight Recorder is running. Nothing is written while there are
+     * external edits that have not been reloaded, so they are not overwritten; the segments stay
+     * changed and are written by the first save after the reload. A read-only Storage writes
+     * nothing, and the segments that changed are read again by the next reload.
+     * @param segments The segments of the TaskList used to update the save files.
+     * @throws DukeReadOnlyException when segments changed but another Duke owns the data directory.
+     */
+    public void update(ArrayList<Segment> segments) throws DukeSaveFileException {
+        if (isReadOnly()) {
+            discardChanges(segments);
+            return;
+        }
+        if (hasExternalEdits.get()) {
+            return;
+        }
+        SaveEvent event = new SaveEvent();
+        event.begin();
+        long bytes = 0;
+        int segmentsWritten = 0;
+        int tasksWritten = 0;
+        try {
+            for (Segment segment : segments) {
+                if (segment.isDirty()) {
+                    bytes += writeSegment(segment);
+                    segmentsWritten++;
+                    tasksWritten += segment.getTasks().size();
+                    segment.markClean();
+                }
+            }
+            if (segments.size() != savedSegments) {
+                writeManifest(segments.size());
+                savedSegments = segments.size();
+                Files.deleteIfExists(legacySaveFile);
+            }
+        } catch (IOException e) {
+            throw new DukeSaveFileException();
+        }
+        if (segmentsWritten > 0 && instanceLock != null) {
+            seenGeneration = instanceLock.nextGeneration();
+        }
+        if (segmentsWritten > 0 && event.shouldCommit()) {
+            event.bytes = bytes;
+            event.segments = segmentsWritten;
+            event.tasks = tasksWritten;
+            event.isCompressed = isCompressed;
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the segments from the save files. Segments are loaded in parallel. A save file
+     * from before segments were used is split into segments, which are written on the next save.
+     * Damaged records are moved to the quarantine file instead of being loaded, and the segments
+     * they were in are rewritten on the next save. The load is recorded as a LoadEvent when Flight
+     * Recorder is running.
+     * @return the segments in the order of the manifest.
+     */
+    public ArrayList<Segment> load() throws DukeCreateFileException {
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        ArrayList<Segment> segments = readSegments();
+        if (event.shouldCommit()) {
+            event.segments = segments.size();
+            for (Segment segment : segments) {
+                event.tasks += segment.getTasks().size();
+            }
+            event.quarantined = quarantinedRecords;
+            event.commit();
+        }
+        return segments;
+    }
+
+    private ArrayList<Segment> readSegments() throws DukeCreateFileException {
+        quarantinedRecords = 0;
+        try {
+            if (Files.exists(manifestFile)) {
+                ArrayList<Segment> segments = loadSegments(Files.readAllLines(manifestFile));
+                savedSegments = segments.size();
+                return segments;
+            }
+            if (Files.exists(legacySaveFile)) {
+                ArrayList<String> damagedRecords = new ArrayList<>();
+                ArrayList<Task> tasks = readTasks(legacySaveFile, damagedRecords, LEGACY_SAVE_FILE, getQuarantineDir());
+                quarantine(damagedRecords);
+                return toSegments(tasks);
+            }
+            return new ArrayList<>();
+        } catch (IOException e) {
+            throw new DukeCreateFileException();
+        }
+    }
+
+    /**
+     * Returns number of damaged records moved to the quarantine file by the last load.
+     * @return number of quarantined records.
+     */
+    public int getQuarantinedRecords() {
+        return quarantinedRecords;
+    }
+
+    /**
+     * Returns the path of the file damaged records are moved to.
+     * @return path of the quarantine file.
+     */
+    public String getQuarantineFile() {
+        return quarantineFile.toString();
+    }
+
+    /**
+     * Appends the tasks to the archive file. The archive file is only ever appended to, and is
+     * not loaded with the segments.
+     * @param tasks tasks to be archived.
+     */
+    public void archive(List<Task> tasks) throws DukeArchiveException {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        if (isReadOnly()) {
+            throw new DukeArchiveException();
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(archiveFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (Task task : tasks) {
+                writer.write(StorageEncoder.encodeRecord(task));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new DukeArchiveException();
+        }
+    }
+
+    /**
+     * Returns the id of this data directory, used by other data directories to keep track of
+     * what was synced with it. The id is created on first use.
+     * @return id of the data directory.
+     * @throws IOException when the id cannot be read or created.
+     * @throws DukeReadOnlyException when the id has to be created but another Duke owns the data
+     *     directory.
+     */
+    public String getSyncId() throws IOException, DukeReadOnlyException {
+        Path idFile = dataDir.resolve(SYNC_DIR).resolve(SYNC_ID_FILE);
+        if (Files.exists(idFile)) {
+            return Files.readString(idFile, StandardCharsets.UTF_8).trim();
+        }
+        if (isReadOnly()) {
+            throw new DukeReadOnlyException();
+        }
+        String id = UUID.randomUUID().toString();
+        Files.createDirectories(idFile.getParent());
+        Files.writeString(idFile, id, StandardCharsets.UTF_8);
+        return id;
+    }
+
+    /**
+     * Returns the sorted hashes of the records saved when this data directory was last synced
+     * with another data directory.
+     * @param peerId sync id of the other data directory.
+     * @return sorted hashes of the records, or an empty array if the two were never synced.
+     * @throws IOException when the hashes cannot be read.
+     */
+    public long[] loadSyncBase(String peerId) throws IOException {
+        Path baseFile = dataDir.resolve(SYNC_DIR).resolve(peerId + SYNC_BASE_POSTFIX);
+        if (!Files.exists(baseFile)) {
+            return new long[0];
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(baseFile)))) {
+            long[] hashes = new long[in.readInt()];
+            for (int i = 0; i < hashes.length; i++) {
+                hashes[i] = in.readLong();
+            }
+            return hashes;
+        }
+    }
+
+    /**
+     * Saves the sorted hashes of the records after syncing with another data directory.
+     * @param peerId sync id of the other data directory.
+     * @param hashes sorted hashes of the records both data directories hold.
+     * @throws IOException when the hashes cannot be written.
+     * @throws DukeReadOnlyException when another Duke owns the data directory.
+     */
+    public void saveSyncBase(String peerId, long[] hashes) throws IOException, DukeReadOnlyException {
+        if (isReadOnly()) {
+            throw new DukeReadOnlyException();
+        }
+        Path baseFile = dataDir.resolve(SYNC_DIR).resolve(peerId + SYNC_BASE_POSTFIX);
+        Path tempFile = baseFile.resolveSibling(peerId + SYNC_BASE_POSTFIX + TEMP_POSTFIX);
+        Files.createDirectories(baseFile.getParent());
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            out.writeInt(hashes.length);
+            for (long hash : hashes) {
+                out.writeLong(hash);
+            }
+        }
+        Files.move(tempFile, baseFile, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the definitions of the saved views, by the name of the view. Lines that are not of
+     * the format "NAME | DEFINITION" are skipped.
+     * @return definitions of the saved views in the order they were saved.
+     * @throws DukeCreateFileException when the views file cannot be read.
+     */
+    public Map<String, String> loadViews() throws DukeCreateFileException {
+        LinkedHashMap<String, String> definitions = new LinkedHashMap<>();
+        Path viewsFile = dataDir.resolve(VIEWS_FILE);
+        if (!Files.exists(viewsFile)) {
+            return definitions;
+        }
+        try {
+            for (String line : Files.readAllLines(viewsFile, StandardCharsets.UTF_8)) {
+                int separator = line.indexOf(VIEW_SEPARATOR);
+                if (separator > 0) {
+                    definitions.put(line.substring(0, separator),
+                            line.substring(separator + VIEW_SEPARATOR.length()));
+                }
+            }
+        } catch (IOException e) {
+            throw new DukeCreateFileException();
+        }
+        return definitions;
+    }
+
+    /**
+     * Saves the definitions of the saved views, replacing the views saved before.
+     * @param definitions definitions of the saved views, by the name of the view.
+     * @throws DukeSaveFileException when the views file cannot be written.
+     * @throws DukeReadOnlyException when another Duke owns the data directory.
+     */
+    public void saveViews(Map<String, String> definitions) throws DukeSaveFileException {
+        if (isReadOnly()) {
+            throw new DukeReadOnlyException();
+        }
+        Path viewsFile = dataDir.resolve(VIEWS_FILE);
+        Path tempFile = dataDir.resolve(VIEWS_FILE + TEMP_POSTFIX);
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, String> definition : definitions.entrySet()) {
+                    writer.write(definition.getKey() + VIEW_SEPARATOR + definition.getValue());
+                    writer.newLine();
+                }
+            }
+            Files.move(tempFile, viewsFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new DukeSaveFileException();
+        }
+    }
+
+    /**
+     * Passes each archived task to the action, reading the archive file one record at a time.
+     * Damaged records are skipped.
+     * @param action action to be performed on each archived task.
+     */
+    public void forEachArchived(Consumer<Task> action) throws DukeArchiveException {
+        if (!Files.exists(archiveFile)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(archiveFile, StandardCharsets.UTF_8)) {
+            String record;
+            while ((record = reader.readLine()) != null) {
+                try {
+                    action.accept(StorageDecoder.decodeRecord(record));
+                } catch (DukeCorruptedStorageException | IndexOutOfBoundsException e) {
+                    // Damaged archive records are skipped, the rest of the archive is still read.
+                }
+            }
+        } catch (IOException e) {
+            throw new DukeArchiveException();
+        }
+    }
+
+    private ArrayList<Segment> loadSegments(List<String> segmentNames) throws IOException {
+        ArrayList<Callable<ArrayList<Task>>> jobs = new ArrayList<>();
+        ArrayList<ArrayList<String>> damagedRecords = new ArrayList<>();
+        for (String segmentName : segmentNames) {
+            if (segmentName.isBlank()) {
+                continue;
+            }
+            Path segmentFile = segmentDir.resolve(segmentName.trim());
+            ArrayList<String> damaged = new ArrayList<>();
+            damagedRecords.add(damaged);
+            jobs.add(() -> {
+                recordFingerprint(segmentFile);
+                return readTasks(segmentFile, damaged, segmentName.trim(), getQuarantineDir());
+            });
+        }
+        ArrayList<Segment> segments = new ArrayList<>();
+        if (jobs.isEmpty()) {
+            return segments;
+        }
+        int threads = Math.min(jobs.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<ArrayList<Task>>> results = executor.invokeAll(jobs);
+            for (int i = 0; i < results.size(); i++) {
+                boolean isDamaged = !damagedRecords.get(i).isEmpty();
+                segments.add(new Segment(i, results.get(i).get(), isDamaged));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+        ArrayList<String> quarantine = new ArrayList<>();
+        for (ArrayList<String> damaged : damagedRecords) {
+            quarantine.addAll(damaged);
+        }
+        quarantine(quarantine);
+        return segments;
+    }
+
+    private ArrayList<Segment> toSegments(ArrayList<Task> tasks) {
+        ArrayList<Segment> segments = new ArrayList<>();
+        for (Task task : tasks) {
+            if (segments.isEmpty() || segments.get(segments.size() - 1).isFull()) {
+                segments.add(new Segment(segments.size()));
+            }
+            segments.get(segments.size() - 1).add(task);
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the tasks read from the file, skipping damaged records. The damaged records are
+     * added to damagedRecords, prefixed by the name of the file. A missing file is read as a
+     * damaged, empty file. If the file cannot be read to the end, the records after the failure
+     * are lost once the file is rewritten, so the whole file is first copied to the quarantine
+     * directory as it is. Read-only instances never rewrite files, so they pass a null directory.
+     * @throws IOException when the file cannot be copied, so the file is never rewritten.
+     */
+    private static ArrayList<Task> readTasks(Path file, ArrayList<String> damagedRecords, String name,
+            Path quarantineDir) throws IOException {
+        ArrayList<String> damaged = new ArrayList<>();
+        ArrayList<Task> tasks;
+        try (BufferedReader reader = BlockCompression.newReader(file)) {
+            tasks = StorageDecoder.salvageSave(reader, damaged);
+        } catch (NoSuchFileException e) {
+            damaged.add("<missing file>");
+            tasks = new ArrayList<>();
+        }
+        for (String record : damaged) {
+            if (record.equals(StorageDecoder.UNREADABLE_RECORD) && quarantineDir != null) {
+                Path copy = copyToQuarantine(file, quarantineDir);
+                record = String.format("<rest of segment could not be read, whole file copied to %s>", copy);
+            }
+            damagedRecords.add(name + " " + record);
+        }
+        return tasks;
+    }
+
+    private Path getQuarantineDir() {
+        return isReadOnly() ? null : quarantineDir;
+    }
+
+    /**
+     * Copies the saved files of a data directory, including the data directories of its
+     * workspaces, to another directory, replacing the files there. The lock file, the token of the
+     * CommandServer and temporary files are left out. Used to give a replication follower the tasks of its primary, so the
+     * data directory must not be saved to while it is copied.
+     * @param from data directory the files are copied from.
+     * @param to directory the files are copied to.
+     * @throws IOException when a file cannot be copied.
+     */
+    public static void copyDataDir(Path from, Path to) throws IOException {
+        try (Stream<Path> files = Files.walk(from)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (!Files.isRegularFile(file) || name.equals(InstanceLock.LOCK_FILE)
+                        || name.equals(CommandServer.TOKEN_FILE) || name.endsWith(TEMP_POSTFIX)) {
+                    continue;
+                }
+                Path target = to.resolve(from.relativize(file).toString());
+                Files.createDirectories(target.getParent());
+                Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    /**
+     * Copies the file to the quarantine directory, under a name not used by earlier copies.
+     * @return path of the copy.
+     */
+    private static Path copyToQuarantine(Path file, Path quarantineDir) throws IOException {
+        Files.createDirectories(quarantineDir);
+        String name = file.getFileName().toString();
+        Path copy = quarantineDir.resolve(name);
+        for (int i = 1; Files.exists(copy); i++) {
+            copy = quarantineDir.resolve(name + "." + i);
+        }
+        Files.copy(file, copy);
+        return copy;
+    }
+
+    private void quarantine(ArrayList<String> damagedRecords) throws IOException {
+        quarantinedRecords = damagedRecords.size();
+        if (damagedRecords.isEmpty() || isReadOnly()) {
+            return;
+        }
+        Files.write(quarantineFile, damagedRecords, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private int writeSegment(Segment segment) throws IOException {
+        Path[] files = getSegmentFiles(segment.getId());
+        recordBuffer.encode(segment.getTasks());
+        try (OutputStream out = BlockCompression.newOutputStream(files[1], isCompressed)) {
+            recordBuffer.writeTo(out);
+        }
+        fingerprints.put(files[0].getFileName().toString(), getFingerprint(files[1]));
+        Files.move(files[1], files[0], StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        return recordBuffer.length();
+    }
+
+    /**
+     * Returns the size, time of last change and file key of the file, which change when the file
+     * is written, or null if the file does not exist. A rename keeps all three, so the fingerprint
+     * of a temporary file is also the fingerprint of the file it is moved to. The file key, where
+     * there is one, tells saves apart even when they are made within the same tick of the clock.
+     */
+    private static String getFingerprint(Path file) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.size() + "@" + attributes.lastModifiedTime() + "@" + attributes.fileKey();
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Records the fingerprint of the file before it is read, so an edit made while it is read is
+     * seen as a change later.
+     */
+    private void recordFingerprint(Path file) throws IOException {
+        String fingerprint = getFingerprint(file);
+        if (fingerprint != null) {
+            fingerprints.put(file.getFileName().toString(), fingerprint);
+        }
+    }
+
+    /**
+     * Returns true if the segment file was changed by something other than this Storage since
+     * it was last read or written. Files that this Storage has never read or written, such as
+     * temporary files, are not counted as changed. Safe to call from any thread.
+     * @param file file in the segment directory.
+     * @return true if the segment file was edited outside Duke.
+     */
+    public boolean isEditedOutside(Path file) {
+        String expected = fingerprints.get(file.getFileName().toString());
+        if (expected == null) {
+            return false;
+        }
+        try {
+            return !expected.equals(getFingerprint(segmentDir.resolve(file.getFileName())));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Marks that segment files were edited outside Duke, which holds off saves until the edits
+     * are reloaded. Safe to call from any thread.
+     */
+    public void markExternalEdits() {
+        hasExternalEdits.set(true);
+    }
+
+    public boolean hasExternalEdits() {
+        return hasExternalEdits.get();
+    }
+
+    /**
+     * Returns the ids of the segments whose files were edited outside Duke, among the first
+     * numSegments segments, and clears the mark set by markExternalEdits. Edits made after this
+     * call are marked again by the watcher. Segments added to the manifest after the tasks were
+     * loaded, and segments whose changes were discarded by a read-only Storage, are also returned.
+     * @param numSegments number of segments of the TaskList.
+     * @return ids of the edited segments in order.
+     * @throws IOException when the manifest cannot be read.
+     */
+    public List<Integer> takeEditedSegments(int numSegments) throws IOException {
+        hasExternalEdits.set(false);
+        ArrayList<Integer> edited = new ArrayList<>();
+        for (int id = 0; id < numSegments; id++) {
+            if (isEditedOutside(getSegmentFiles(id)[0]) || discardedSegments.remove(id)) {
+                edited.add(id);
+            }
+        }
+        discardedSegments.clear();
+        if (Files.exists(manifestFile)) {
+            int manifestSegments = (int) Files.readAllLines(manifestFile).stream()
+                    .filter(segmentName -> !segmentName.isBlank()).count();
+            for (int id = numSegments; id < manifestSegments; id++) {
+                edited.add(id);
+            }
+            savedSegments = Math.max(savedSegments, manifestSegments);
+        }
+        return edited;
+    }
+
+    /**
+     * Takes ownership of the data directory if no other Duke instance has it. Otherwise this
+     * Storage is read-only: it never writes, and it sees the saves of the owner through the
+     * generation in the lock file. Called before the tasks are loaded.
+     * @return true if this Storage owns the data directory.
+     * @throws IOException when the lock file cannot be opened.
+     */
+    public boolean lock() throws IOException {
+        instanceLock = InstanceLock.open(dataDir);
+        seenGeneration = instanceLock.getGeneration();
+        return instanceLock.isOwner();
+    }
+
+    /**
+     * Shares the lock of the Storage of a parent data directory, such as the data directory the
+     * workspaces are kept in, so this Storage is read-only unless the parent owns its directory.
+     * @param parent Storage whose lock is shared.
+     */
+    public void shareLock(Storage parent) {
+        instanceLock = parent.instanceLock;
+        if (instanceLock != null) {
+            seenGeneration = instanceLock.getGeneration();
+        }
+    }
+
+    /**
+     * Gives up ownership of the data directory, so another Duke instance can take over.
+     * @throws IOException when the lock file cannot be closed.
+     */
+    public void unlock() throws IOException {
+        if (instanceLock != null) {
+            instanceLock.close();
+        }
+    }
+
+    public boolean isReadOnly() {
+        return instanceLock != null && !instanceLock.isOwner();
+    }
+
+    /**
+     * Checks whether the owner of the data directory saved since this Storage last looked, which
+     * only reads the generation from the mapped lock file. If it did, the saved segments are
+     * marked as edited outside this Storage, so they are reloaded before the next command. A
+     * read-only Storage also takes over the data directory once the owner is closed, after which
+     * it reloads what the owner saved last.
+     */
+    public void checkGeneration() {
+        if (instanceLock == null) {
+            return;
+        }
+        if (!instanceLock.isOwner()) {
+            try {
+                if (instanceLock.tryTakeOver()) {
+                    markExternalEdits();
+                }
+            } catch (IOException e) {
+                // Stays read-only, and tries again before the next command.
+            }
+        }
+        long generation = instanceLock.getGeneration();
+        if (generation != seenGeneration) {
+            seenGeneration = generation;
+            markExternalEdits();
+        }
+    }
+
+    /**
+     * Marks the reloaded segments as saved if this Storage is read-only, as they now hold what is
+     * in their files. The owner instead writes them on the next save.
+     * @param segments the segments of the TaskList.
+     */
+    public void markReloaded(List<Segment> segments) {
+        if (!isReadOnly()) {
+            return;
+        }
+        for (Segment segment : segments) {
+            segment.markClean();
+        }
+    }
+
+    /**
+     * Keeps the ids of the segments changed in a read-only Storage and marks them as edited, so
+     * the next reload reads them again and the changes are undone.
+     * @throws DukeReadOnlyException when any segment changed.
+     */
+    private void discardChanges(List<Segment> segments) throws DukeReadOnlyException {
+        boolean isChanged = false;
+        for (Segment segment : segments) {
+            if (segment.isDirty()) {
+                discardedSegments.add(segment.getId());
+                segment.markClean();
+                isChanged = true;
+            }
+        }
+        if (isChanged) {
+            markExternalEdits();
+            throw new DukeReadOnlyException();
+        }
+    }
+
+    /**
+     * Reads the tasks of the segment from its file, so edits made outside Duke can be reloaded.
+     * Damaged records are moved to the quarantine file.
+     * @param id id of the segment.
+     * @return the tasks in the segment file.
+     * @throws IOException when the segment file cannot be read.
+     */
+    public ArrayList<Task> readSegment(int id) throws IOException {
+        Path file = getSegmentFiles(id)[0];
+        recordFingerprint(file);
+        ArrayList<String> damaged = new ArrayList<>();
+        ArrayList<Task> tasks = readTasks(file, damaged, file.getFileName().toString(), getQuarantineDir());
+        quarantine(damaged);
+        return tasks;
+    }
+
+    /**
+     * Returns the segment file and its temporary file, which are resolved once per segment.
+     * @param id id of the segment.
+     * @return the segment file followed by its temporary file.
+     */
+    private Path[] getSegmentFiles(int id) {
+        while (segmentFiles.size() <= id) {
+            String name = getSegmentName(segmentFiles.size());
+            segmentFiles.add(new Path[] {segmentDir.resolve(name), segmentDir.resolve(name + TEMP_POSTFIX)});
+        }
+        return segmentFiles.get(id);
+    }
+
+    private void writeManifest(int numSegments) throws IOException {
+        Path tempFile = dataDir.resolve(MANIFEST_FILE + TEMP_POSTFIX);
+        try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < numSegments; i++) {
+                writer.write(getSegmentName(i));
+                writer.newLine();
+            }
+        }
+        Files.move(tempFile, manifestFile, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String getSegmentName(int id) {
+        return String.format(SEGMENT_FILE_FORMAT, id);
+    }
+
+    /**
+     * Creates a data directory from source unless it already exists.
+     */
+    private void createDirectory() throws DukeCreateDirectoryException {
+        try {
+            Files.createDirectories(segmentDir);
+        } catch (IOException e) {
+            throw new DukeCreateDirectoryException(dataDir.toString());
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package duke.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import duke.Parser;
+import duke.calendar.TimeRange;
+import duke.commands.SpecificCommandType;
+import duke.exceptions.DukeCorruptedStorageException;
+import duke.tasks.Deadline;
+import duke.tasks.Event;
+import duke.tasks.Task;
+import duke.tasks.Todo;
+
+/**
+ * Represents the StorageDecoder that decodes the data representation of the save file into the
+ * ArrayList of Task.
+ */
+public class StorageDecoder {
+    private static final int CHECKSUM_LENGTH = 8;
+    private static final char CHECKSUM_SEPARATOR = ':';
+    private static final String TAGS_FIELD = "tags";
+    private static final String TAG_SEPARATOR = ",";
+    private static final String PRIORITY_FIELD = "priority";
+    private static final String ID_FIELD = "id";
+    private static final String DEPENDENCIES_FIELD = "after";
+    private static final String DEPENDENCY_SEPARATOR = ",";
+    private static final String TIME_RANGE_FIELD = "at";
+    private static final char TIME_RANGE_SEPARATOR = '/';
+    static final String UNREADABLE_RECORD = "<rest of segment could not be read>";
+
+    /**
+     * Returns ArrayList of Task decoded from the save file.
+     * @param encodedTasks data representation of the TaskList from save file.
+     * @return ArrayList of Task from the encodedTasks.
+     * @throws DukeCorruptedStorageException when the encodedTasks does not conform with the
+     *     proper save file format.
+     */
+    public static ArrayList<Task> decodeSave(ArrayList<String> encodedTasks) throws DukeCorruptedStorageException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (String encodedTask : encodedTasks) {
+            tasks.add(decodeTask(encodedTask));
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns ArrayList of Task decoded from the records read from the reader of a save file.
+     * @param reader reader of the records of the tasks.
+     * @return ArrayList of Task from the reader.
+     * @throws DukeCorruptedStorageException when a record is damaged or does not conform with the
+     *     proper save file format.
+     * @throws IOException when the reader fails to read.
+     */
+    public static ArrayList<Task> decodeSave(BufferedReader reader)
+            throws DukeCorruptedStorageException, IOException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        String record;
+        while ((record = reader.readLine()) != null) {
+            tasks.add(decodeRecord(record));
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns ArrayList of Task decoded from the records read from the reader, skipping the
+     * records that are damaged. The damaged records are added to damagedRecords. If the reader
+     * fails part way, the tasks read so far are returned.
+     * @param reader reader of the records of the tasks.
+     * @param damagedRecords list the damaged records are added to.
+     * @return ArrayList of Task from the records that are not damaged.
+     */
+    public static ArrayList<Task> salvageSave(BufferedReader reader, ArrayList<String> damagedRecords) {
+        ArrayList<Task> tasks = new ArrayList<>();
+        try {
+            String record;
+            while ((record = reader.readLine()) != null) {
+                if (record.isEmpty()) {
+                    continue;
+                }
+                try {
+                    tasks.add(decodeRecord(record));
+                } catch (DukeCorruptedStorageException | IndexOutOfBoundsException e) {
+                    damagedRecords.add(record);
+                }
+            }
+        } catch (IOException e) {
+            damagedRecords.add(UNREADABLE_RECORD);
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns Task decoded from a record of the save file. The checksum of the record is checked
+     * if present. Records from save files without checksums are decoded as they are.
+     * @param record checksummed data representation of a single Task.
+     * @return Task from the record.
+     * @throws DukeCorruptedStorageException when the checksum does not match or the record does
+     *     not conform with the proper save file format.
+     */
+    public static Task decodeRecord(String record) throws DukeCorruptedStorageException {
+        if (!hasChecksum(record)) {
+            return decodeTask(record);
+        }
+        long checksum = Long.parseLong(record.substring(0, CHECKSUM_LENGTH), 16);
+        String encodedTask = record.substring(CHECKSUM_LENGTH + 1);
+        if (StorageEncoder.checksum(encodedTask) != checksum) {
+            throw new DukeCorruptedStorageException();
+        }
+        return decodeTask(encodedTask);
+    }
+
+    private static boolean hasChecksum(String record) {
+        if (record.length() <= CHECKSUM_LENGTH || record.charAt(CHECKSUM_LENGTH) != CHECKSUM_SEPARATOR) {
+            return false;
+        }
+        for (int i = 0; i < CHECKSUM_LENGTH; i++) {
+            if (Character.digit(record.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns Task decoded from a single line of the save file.
+     * @param encodedTask data representation of a single Task.
+     * @return Task from the encodedTask.
+     * @throws DukeCorruptedStorageException when the encodedTask does not conform with the proper
+     *     save file format.
+     */
+    public static Task decodeTask(String encodedTask) throws DukeCorruptedStorageException {
+        SpecificCommandType command = Parser.parseCommandType(encodedTask);
+        switch (command) {
+        case TODO:
+            return decodeTodo(encodedTask);
+        case EVENT:
+        case DEADLINE:
+            return decodeTaskWithDate(command, encodedTask);
+        default:
+            throw new DukeCorruptedStorageException();
+        }
+    }
+
+    /**
+     * Returns Todo Task based on a single line of the encodedTask.
+     * @param encodedTask data representation of a single Todo Task from save file.
+     * @return Todo Task based on the encodedTask.
+     * @throws DukeCorruptedStorageException when the Task does not fit the format of a Todo Task.
+     */
+    private static Task decodeTodo(String encodedTask) throws DukeCorruptedStorageException {
+        assert(!encodedTask.isEmpty());
+        boolean isDone = Parser.isEncodedTaskDone(encodedTask);
+        String description = Parser.obtainEncodedDescription(encodedTask);
+        Task task = new Todo(description);
+        if (isDone) {
+            task.done();
+        }
+        decodeFields(task, Parser.obtainEncodedFields(encodedTask, SpecificCommandType.TODO));
+        return task;
+    }
+
+    /**
+     * Returns either Event or Deadline Task based on the single line encodedTask, based on
+     * AddCommandType.
+     * @param command AddCommandType used to distinguish between Event and Deadline.
+     * @param encodedTask data representation of the Event or Dateline from save file.
+     * @return Event or Deadline based on the command using encodedTask.
+     * @throws DukeCorruptedStorageException when the encodedTask does not fit the format for a
+     *     Task with dates.
+     */
+    private static Task decodeTaskWithDate(SpecificCommandType command, String encodedTask)
+            throws DukeCorruptedStorageException {
+        assert(command != null);
+        assert(!encodedTask.isEmpty());
+        boolean isDone = Parser.isEncodedTaskDone(encodedTask);
+        String description = Parser.obtainEncodedDescription(encodedTask);
+        LocalDate date = Parser.obtainEncodedDate(encodedTask);
+        Map<String, String> fields = Parser.obtainEncodedFields(encodedTask, command);
+        Task task;
+        switch (command) {
+        case EVENT:
+            task = fields.containsKey(TIME_RANGE_FIELD)
+                    ? new Event(description, decodeTimeRange(fields.get(TIME_RANGE_FIELD)))
+                    : new Event(description, date);
+            break;
+        case DEADLINE:
+            task = new Deadline(description, date);
+            break;
+        default:
+            throw new DukeCorruptedStorageException();
+        }
+        if (isDone) {
+            task.done();
+        }
+        decodeFields(task, fields);
+        return task;
+    }
+
+    /**
+     * Returns the TimeRange saved in the "at" field of an Event, such as
+     * "2021-03-12T14:00/2021-03-12T15:30".
+     * @param range saved start and end of the Event.
+     * @return TimeRange of the Event.
+     * @throws DukeCorruptedStorageException when the field is not of the format.
+     */
+    private static TimeRange decodeTimeRange(String range) throws DukeCorruptedStorageException {
+        int separator = range.indexOf(TIME_RANGE_SEPARATOR);
+        try {
+            LocalDateTime start = LocalDateTime.parse(range.substring(0, separator));
+            LocalDateTime end = LocalDateTime.parse(range.substring(separator + 1));
+            if (!end.isAfter(start)) {
+                throw new DukeCorruptedStorageException();
+            }
+            return new TimeRange(start, end);
+        } catch (DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new DukeCorruptedStorageException();
+        }
+    }
+
+    /**
+     * Sets the optional fields of the task. Fields with unknown keys are ignored, so that save
+     * files from newer versions can still be loaded.
+     * @param task task decoded from the fields of its type.
+     * @param fields optional fields saved after the fields of its type.
+     * @throws DukeCorruptedStorageException when a known field has a value of the wrong format.
+     */
+    private static void decodeFields(Task task, Map<String, String> fields)
+            throws DukeCorruptedStorageException {
+        String tags = fields.get(TAGS_FIELD);
+        if (tags != null && !tags.isEmpty()) {
+            task.setTags(Arrays.asList(tags.split(TAG_SEPARATOR)));
+        }
+        String priority = fields.get(PRIORITY_FIELD);
+        if (priority != null) {
+            try {
+                task.setPriority(Integer.parseUnsignedInt(priority));
+            } catch (NumberFormatException e) {
+                throw new DukeCorruptedStorageException();
+            }
+        }
+        String id = fields.get(ID_FIELD);
+        if (id != null) {
+            task.setId(decodeId(id));
+        }
+        String dependencies = fields.get(DEPENDENCIES_FIELD);
+        if (dependencies != null && !dependencies.isEmpty()) {
+            ArrayList<Long> ids = new ArrayList<>();
+            for (String dependency : dependencies.split(DEPENDENCY_SEPARATOR)) {
+                ids.add(decodeId(dependency));
+            }
+            task.setDependencies(ids);
+        }
+    }
+
+    private static long decodeId(String id) throws DukeCorruptedStorageException {
+        try {
+            long decodedId = Long.parseUnsignedLong(id);
+            if (decodedId <= 0) {
+                throw new DukeCorruptedStorageException();
+            }
+            return decodedId;
+        } catch (NumberFormatException e) {
+            throw new DukeCorruptedStorageException();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.zip.CRC32C;
+
+import duke.tasks.Task;
+
+/**
+ * Represents an encoder used to encode TaskList into its data representation.
+ */
+public class StorageEncoder {
+    private static final String NEW_LINE = "\n";
+    private static final String RECORD_FORMAT = "%08x:%s";
+
+    /**
+     * Returns data representation of TaskList encoded using the tasks.
+     * @param tasks TaskList used to be encoded to be saved in save file.
+     * @return encoded representation for the save file.
+     */
+    public static String encodeTasks(ArrayList<Task> tasks) {
+        StringBuilder res = new StringBuilder();
+        for (Task task : tasks) {
+            res.append(task.data()).append(NEW_LINE);
+        }
+        return res.toString();
+    }
+
+    /**
+     * Returns the record of the task saved in the segment files, which is the data
+     * representation of the task prefixed by its CRC32C checksum.
+     * @param task task to be encoded.
+     * @return checksummed data representation of the task.
+     */
+    public static String encodeRecord(Task task) {
+        String data = task.data();
+        return String.format(RECORD_FORMAT, checksum(data), data);
+    }
+
+    /**
+     * Returns the CRC32C checksum of the data representation of a task.
+     * @param data data representation of a task.
+     * @return CRC32C checksum of the data.
+     */
+    static long checksum(String data) {
+        CRC32C crc = new CRC32C();
+        crc.update(data.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    /**
+     * Writes the records of the tasks to the writer, one task per line.
+     * @param tasks tasks to be encoded.
+     * @param writer writer of the save file.
+     * @throws IOException when the writer fails to write.
+     */
+    public static void encodeTasks(ArrayList<Task> tasks, Writer writer) throws IOException {
+        for (Task task : tasks) {
+            writer.write(encodeRecord(task));
+            writer.write(NEW_LINE);
+        }
+    }
+}
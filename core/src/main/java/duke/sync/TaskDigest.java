@@ -0,0 +1,228 @@
+package duke.sync;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import duke.tasks.Task;
+import duke.tasks.TaskListListener;
+
+/**
+ * Represents the TaskDigest, a Merkle tree over the hashes of the saved records of the tasks in a
+ * TaskList. Each task is put in one of the leaves by the hash of its record, and the hash of a leaf
+ * is the sum of the hashes of its records, so adding, removing or changing a task only updates one
+ * leaf and the nodes above it. Two TaskDigests with equal roots hold the same records, and the
+ * leaves that differ can be found by only following the nodes that differ.
+ */
+public class TaskDigest implements TaskListListener {
+    static final int DEPTH = 10;
+    static final int LEAVES = 1 << DEPTH;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final ThreadLocal<StringBuilder> RECORD = ThreadLocal.withInitial(StringBuilder::new);
+
+    private final long[] nodes = new long[2 * LEAVES];
+    private final long[] leafSums = new long[LEAVES];
+    private final int[] leafCounts = new int[LEAVES];
+    private final ArrayList<ArrayList<Task>> buckets = new ArrayList<>(LEAVES);
+    private final IdentityHashMap<Task, Long> recordHashes = new IdentityHashMap<>();
+
+    /**
+     * Constructs an empty TaskDigest.
+     */
+    public TaskDigest() {
+        for (int i = 0; i < LEAVES; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        rebuild();
+    }
+
+    @Override
+    public void onTaskAdded(int index, Task task) {
+        add(task);
+    }
+
+    @Override
+    public void onTaskRemoved(int index, Task task) {
+        remove(task);
+    }
+
+    @Override
+    public void onTaskUpdated(int index, Task task) {
+        remove(task);
+        add(task);
+    }
+
+    @Override
+    public void onTasksReset(List<Task> tasks) {
+        if (tasks.size() == recordHashes.size() && tasks.stream().allMatch(recordHashes::containsKey)) {
+            return;
+        }
+        recordHashes.clear();
+        for (int i = 0; i < LEAVES; i++) {
+            buckets.get(i).clear();
+            leafSums[i] = 0;
+            leafCounts[i] = 0;
+        }
+        for (Task task : tasks) {
+            long hash = hash(task);
+            recordHashes.put(task, hash);
+            int leaf = getLeaf(hash);
+            buckets.get(leaf).add(task);
+            leafSums[leaf] += hash;
+            leafCounts[leaf]++;
+        }
+        rebuild();
+    }
+
+    /**
+     * Does nothing, as the digest only depends on the records of the tasks.
+     */
+    @Override
+    public void onTasksReordered(List<Task> tasks) {
+    }
+
+    /**
+     * Returns the hash of a node of the tree. Node 1 is the root, the children of node i are nodes
+     * 2i and 2i + 1, and the leaves are nodes LEAVES to 2 * LEAVES - 1.
+     * @param node number of the node.
+     * @return hash of the node.
+     */
+    long getNode(int node) {
+        return nodes[node];
+    }
+
+    /**
+     * Returns the tasks in a leaf.
+     * @param leaf number of the leaf, from 0 to LEAVES - 1.
+     * @return tasks whose records hash to the leaf.
+     */
+    List<Task> getBucket(int leaf) {
+        return buckets.get(leaf);
+    }
+
+    /**
+     * Returns the hash of the record of a task in this TaskDigest.
+     * @param task task in this TaskDigest.
+     * @return hash of the record the task had when it was last added or updated.
+     */
+    long getHash(Task task) {
+        return recordHashes.get(task);
+    }
+
+    /**
+     * Returns the hashes of the records of all the tasks, sorted.
+     * @return sorted hashes of the records.
+     */
+    public long[] getHashes() {
+        return recordHashes.values().stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    /**
+     * Returns the hash of the root, which is the same for two TaskDigests of the same records.
+     * @return hash of the root.
+     */
+    public long getRoot() {
+        return nodes[1];
+    }
+
+    /**
+     * Returns a 64-bit hash of the record of the task, as saved in the save file.
+     * @param task task to be hashed.
+     * @return hash of the record of the task.
+     */
+    public static long hash(Task task) {
+        StringBuilder data = RECORD.get();
+        data.setLength(0);
+        task.appendData(data);
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < data.length(); i++) {
+            char c = data.charAt(i);
+            if (c < 0x80) {
+                hash = fnv(hash, c);
+            } else if (c < 0x800) {
+                hash = fnv(fnv(hash, 0xc0 | c >> 6), 0x80 | c & 0x3f);
+            } else if (Character.isHighSurrogate(c) && i + 1 < data.length()
+                    && Character.isLowSurrogate(data.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, data.charAt(++i));
+                hash = fnv(fnv(hash, 0xf0 | codePoint >> 18), 0x80 | codePoint >> 12 & 0x3f);
+                hash = fnv(fnv(hash, 0x80 | codePoint >> 6 & 0x3f), 0x80 | codePoint & 0x3f);
+            } else if (Character.isSurrogate(c)) {
+                hash = fnv(hash, '?');
+            } else {
+                hash = fnv(fnv(hash, 0xe0 | c >> 12), 0x80 | c >> 6 & 0x3f);
+                hash = fnv(hash, 0x80 | c & 0x3f);
+            }
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Adds a byte of the UTF-8 encoded record to the FNV-1a hash. The record is encoded as it is
+     * hashed, so hashing a task does not create a byte array.
+     */
+    private static long fnv(long hash, int b) {
+        return (hash ^ (b & 0xff)) * FNV_PRIME;
+    }
+
+    static int getLeaf(long hash) {
+        return (int) (hash >>> (Long.SIZE - DEPTH));
+    }
+
+    private void add(Task task) {
+        long hash = hash(task);
+        recordHashes.put(task, hash);
+        int leaf = getLeaf(hash);
+        buckets.get(leaf).add(task);
+        updateLeaf(leaf, hash, 1);
+    }
+
+    private void remove(Task task) {
+        Long hash = recordHashes.remove(task);
+        if (hash == null) {
+            return;
+        }
+        int leaf = getLeaf(hash);
+        ArrayList<Task> bucket = buckets.get(leaf);
+        for (int i = 0; i < bucket.size(); i++) {
+            if (bucket.get(i) == task) {
+                bucket.remove(i);
+                break;
+            }
+        }
+        updateLeaf(leaf, -hash, -1);
+    }
+
+    private void updateLeaf(int leaf, long hashChange, int countChange) {
+        leafSums[leaf] += hashChange;
+        leafCounts[leaf] += countChange;
+        int node = LEAVES + leaf;
+        nodes[node] = hashLeaf(leaf);
+        for (node /= 2; node >= 1; node /= 2) {
+            nodes[node] = hashNode(nodes[2 * node], nodes[2 * node + 1]);
+        }
+    }
+
+    private void rebuild() {
+        for (int leaf = 0; leaf < LEAVES; leaf++) {
+            nodes[LEAVES + leaf] = hashLeaf(leaf);
+        }
+        for (int node = LEAVES - 1; node >= 1; node--) {
+            nodes[node] = hashNode(nodes[2 * node], nodes[2 * node + 1]);
+        }
+    }
+
+    private long hashLeaf(int leaf) {
+        return leafCounts[leaf] == 0 ? 0 : mix(leafSums[leaf] + leafCounts[leaf] * FNV_PRIME);
+    }
+
+    private static long hashNode(long left, long right) {
+        return left == 0 && right == 0 ? 0 : mix(left * 31 + mix(right));
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,187 @@
+package duke.sync;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import duke.exceptions.DukeCorruptedStorageException;
+import duke.storage.StorageDecoder;
+import duke.tasks.Task;
+import duke.tasks.TaskList;
+
+/**
+ * Represents the TaskSync that merges two copies of a TaskList. The TaskDigests of the copies are
+ * compared from the root, and only the leaves that differ are merged, so the work done grows with
+ * the number of tasks that differ rather than with the number of tasks.
+ *
+ * <p>Records are merged by comparing the number of copies of each record in both TaskLists with
+ * the number it had when the two were last synced (the base). A record added on one side is added
+ * to the other, a record deleted on one side is deleted from the other, and marking a task as done
+ * is a change of its record, so it is merged the same way. When both sides changed a record, the
+ * larger number of copies is kept, so no task is lost.
+ */
+public class TaskSync {
+
+    /**
+     * Merges the two TaskLists so that both hold the same records.
+     * @param local TaskList of this copy.
+     * @param localDigest TaskDigest listening to the local TaskList.
+     * @param remote TaskList of the other copy.
+     * @param remoteDigest TaskDigest listening to the remote TaskList.
+     * @param base sorted hashes of the records at the last sync, or an empty array if the copies
+     *     were never synced.
+     * @return result of the sync.
+     * @throws DukeCorruptedStorageException when a record cannot be copied to the other side.
+     */
+    public static SyncResult sync(TaskList local, TaskDigest localDigest, TaskList remote,
+            TaskDigest remoteDigest, long[] base) throws DukeCorruptedStorageException {
+        ArrayList<Task> localRemovals = new ArrayList<>();
+        ArrayList<Task> localAdditions = new ArrayList<>();
+        ArrayList<Task> remoteRemovals = new ArrayList<>();
+        ArrayList<Task> remoteAdditions = new ArrayList<>();
+        int comparedNodes = 0;
+        int differentLeaves = 0;
+
+        ArrayDeque<Integer> nodes = new ArrayDeque<>();
+        nodes.push(1);
+        while (!nodes.isEmpty()) {
+            int node = nodes.pop();
+            comparedNodes++;
+            if (localDigest.getNode(node) == remoteDigest.getNode(node)) {
+                continue;
+            }
+            if (node < TaskDigest.LEAVES) {
+                nodes.push(2 * node + 1);
+                nodes.push(2 * node);
+                continue;
+            }
+            differentLeaves++;
+            int leaf = node - TaskDigest.LEAVES;
+            Map<Long, List<Task>> localRecords = groupByHash(localDigest, localDigest.getBucket(leaf));
+            Map<Long, List<Task>> remoteRecords = groupByHash(remoteDigest, remoteDigest.getBucket(leaf));
+            LinkedHashMap<Long, Boolean> hashes = new LinkedHashMap<>();
+            localRecords.keySet().forEach(hash -> hashes.put(hash, true));
+            remoteRecords.keySet().forEach(hash -> hashes.put(hash, true));
+            for (long hash : hashes.keySet()) {
+                List<Task> localCopies = localRecords.getOrDefault(hash, List.of());
+                List<Task> remoteCopies = remoteRecords.getOrDefault(hash, List.of());
+                int merged = merge(localCopies.size(), remoteCopies.size(), countInBase(base, hash));
+                reconcile(localCopies, remoteCopies, merged, localRemovals, localAdditions);
+                reconcile(remoteCopies, localCopies, merged, remoteRemovals, remoteAdditions);
+            }
+        }
+
+        local.removeAll(localRemovals);
+        local.addAll(localAdditions);
+        remote.removeAll(remoteRemovals);
+        remote.addAll(remoteAdditions);
+        return new SyncResult(comparedNodes, differentLeaves, localAdditions.size(),
+                localRemovals.size(), remoteAdditions.size(), remoteRemovals.size());
+    }
+
+    /**
+     * Returns the number of copies of a record after merging.
+     * @param local number of copies in the local TaskList.
+     * @param remote number of copies in the remote TaskList.
+     * @param base number of copies at the last sync.
+     * @return number of copies both TaskLists should have.
+     */
+    static int merge(int local, int remote, int base) {
+        if (local == base) {
+            return remote;
+        } else if (remote == base) {
+            return local;
+        } else {
+            return Math.max(local, remote);
+        }
+    }
+
+    /**
+     * Adds the changes that make a side hold the merged number of copies of a record. Extra
+     * copies are removed and missing copies are decoded from the record of the other side.
+     */
+    private static void reconcile(List<Task> copies, List<Task> otherCopies, int merged,
+            ArrayList<Task> removals, ArrayList<Task> additions) throws DukeCorruptedStorageException {
+        for (int i = merged; i < copies.size(); i++) {
+            removals.add(copies.get(i));
+        }
+        for (int i = copies.size(); i < merged; i++) {
+            additions.add(StorageDecoder.decodeTask(otherCopies.get(0).data()));
+        }
+    }
+
+    private static Map<Long, List<Task>> groupByHash(TaskDigest digest, List<Task> bucket) {
+        HashMap<Long, List<Task>> records = new HashMap<>();
+        for (Task task : bucket) {
+            records.computeIfAbsent(digest.getHash(task), hash -> new ArrayList<>()).add(task);
+        }
+        return records;
+    }
+
+    private static int countInBase(long[] base, long hash) {
+        int index = Arrays.binarySearch(base, hash);
+        if (index < 0) {
+            return 0;
+        }
+        int first = index;
+        while (first > 0 && base[first - 1] == hash) {
+            first--;
+        }
+        int last = index;
+        while (last < base.length - 1 && base[last + 1] == hash) {
+            last++;
+        }
+        return last - first + 1;
+    }
+
+    /**
+     * Represents the result of a sync: how much of the trees was compared and what was changed
+     * on each side.
+     */
+    public static class SyncResult {
+        private final int comparedNodes;
+        private final int differentLeaves;
+        private final int localAdded;
+        private final int localRemoved;
+        private final int remoteAdded;
+        private final int remoteRemoved;
+
+        SyncResult(int comparedNodes, int differentLeaves, int localAdded, int localRemoved,
+                int remoteAdded, int remoteRemoved) {
+            this.comparedNodes = comparedNodes;
+            this.differentLeaves = differentLeaves;
+            this.localAdded = localAdded;
+            this.localRemoved = localRemoved;
+            this.remoteAdded = remoteAdded;
+            this.remoteRemoved = remoteRemoved;
+        }
+
+        public int getComparedNodes() {
+            return comparedNodes;
+        }
+
+        public int getDifferentLeaves() {
+            return differentLeaves;
+        }
+
+        public int getLocalAdded() {
+            return localAdded;
+        }
+
+        public int getLocalRemoved() {
+            return localRemoved;
+        }
+
+        public int getRemoteAdded() {
+            return remoteAdded;
+        }
+
+        public int getRemoteRemoved() {
+            return remoteRemoved;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package duke.tags;
+
+import duke.exceptions.DukeInvalidFilterException;
+
+/**
+ * Represents the TagFilter that evaluates a filter expression over the bitmaps of a TagIndex. A
+ * filter is made of tags such as #work, joined by & (and), | (or) and ! (not), with brackets for
+ * grouping. & binds tighter than |, so "#a | #b & #c" is "#a | (#b & #c)".
+ */
+public class TagFilter {
+    private final String expression;
+    private final TagIndex index;
+    private int position = 0;
+
+    private TagFilter(String expression, TagIndex index) {
+        this.expression = expression;
+        this.index = index;
+    }
+
+    /**
+     * Returns the ordinals of the tasks that match the filter expression.
+     * @param expression filter expression.
+     * @param index TagIndex of the tasks.
+     * @return ordinals of the matching tasks.
+     * @throws DukeInvalidFilterException when the filter expression cannot be understood.
+     */
+    public static RoaringBitmap evaluate(String expression, TagIndex index) throws DukeInvalidFilterException {
+        TagFilter filter = new TagFilter(expression, index);
+        RoaringBitmap result = filter.parseOr();
+        filter.skipSpaces();
+        if (filter.position != expression.length()) {
+            throw new DukeInvalidFilterException(expression);
+        }
+        return result;
+    }
+
+    private RoaringBitmap parseOr() throws DukeInvalidFilterException {
+        RoaringBitmap result = parseAnd();
+        while (accept('|')) {
+            result = result.or(parseAnd());
+        }
+        return result;
+    }
+
+    private RoaringBitmap parseAnd() throws DukeInvalidFilterException {
+        RoaringBitmap result = parseNot();
+        while (accept('&')) {
+            if (accept('!')) {
+                result = result.andNot(parseNot());
+            } else {
+                result = result.and(parseNot());
+            }
+        }
+        return result;
+    }
+
+    private RoaringBitmap parseNot() throws DukeInvalidFilterException {
+        if (accept('!')) {
+            return index.getAll().andNot(parseNot());
+        }
+        if (accept('(')) {
+            RoaringBitmap result = parseOr();
+            if (!accept(')')) {
+                throw new DukeInvalidFilterException(expression);
+            }
+            return result;
+        }
+        return parseTag();
+    }
+
+    private RoaringBitmap parseTag() throws DukeInvalidFilterException {
+        if (!accept('#')) {
+            throw new DukeInvalidFilterException(expression);
+        }
+        int start = position;
+        while (position < expression.length() && isTagCharacter(expression.charAt(position))) {
+            position++;
+        }
+        if (start == position) {
+            throw new DukeInvalidFilterException(expression);
+        }
+        return index.getTagged(expression.substring(start, position));
+    }
+
+    private boolean accept(char token) {
+        skipSpaces();
+        if (position < expression.length() && expression.charAt(position) == token) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipSpaces() {
+        while (position < expression.length() && expression.charAt(position) == ' ') {
+            position++;
+        }
+    }
+
+    private static boolean isTagCharacter(char character) {
+        return Character.isLetterOrDigit(character) || character == '_' || character == '-';
+    }
+}
@@ -0,0 +1,142 @@
+package duke.tags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import duke.tasks.Task;
+import duke.tasks.TaskListListener;
+
+/**
+ * Represents the TagIndex that keeps a RoaringBitmap of the tasks with each tag. Each task is given
+ * an ordinal when it is added, which does not change when other tasks are removed or the TaskList
+ * is sorted, and the bitmaps hold these ordinals. Once more than half of the ordinals belong to
+ * removed tasks, the index is rebuilt with new ordinals in the same order, so removed tasks do not
+ * take up memory. The index is kept up to date by listening to the TaskList.
+ */
+public class TagIndex implements TaskListListener {
+    /** Name of the tag that matches the tasks that are done. */
+    public static final String DONE_TAG = "done";
+    private static final int MIN_COMPACTED_ORDINALS = 1024;
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final HashMap<String, RoaringBitmap> bitmaps = new HashMap<>();
+    private final IdentityHashMap<Task, Integer> ordinals = new IdentityHashMap<>();
+    private final ArrayList<Task> tasksByOrdinal = new ArrayList<>();
+    private RoaringBitmap all = new RoaringBitmap();
+    private RoaringBitmap done = new RoaringBitmap();
+
+    @Override
+    public void onTaskAdded(int index, Task task) {
+        int ordinal = tasksByOrdinal.size();
+        tasksByOrdinal.add(task);
+        ordinals.put(task, ordinal);
+        all.add(ordinal);
+        if (task.isDone()) {
+            done.add(ordinal);
+        }
+        for (String tag : task.getTags()) {
+            bitmaps.computeIfAbsent(tag, key -> new RoaringBitmap()).add(ordinal);
+        }
+    }
+
+    @Override
+    public void onTaskRemoved(int index, Task task) {
+        Integer ordinal = ordinals.remove(task);
+        if (ordinal == null) {
+            return;
+        }
+        tasksByOrdinal.set(ordinal, null);
+        all.remove(ordinal);
+        done.remove(ordinal);
+        for (String tag : task.getTags()) {
+            RoaringBitmap bitmap = bitmaps.get(tag);
+            bitmap.remove(ordinal);
+            if (bitmap.getCardinality() == 0) {
+                bitmaps.remove(tag);
+            }
+        }
+        if (tasksByOrdinal.size() > MIN_COMPACTED_ORDINALS && tasksByOrdinal.size() > 2 * ordinals.size()) {
+            ArrayList<Task> tasks = new ArrayList<>(ordinals.size());
+            for (Task remaining : tasksByOrdinal) {
+                if (remaining != null) {
+                    tasks.add(remaining);
+                }
+            }
+            rebuild(tasks);
+        }
+    }
+
+    @Override
+    public void onTaskUpdated(int index, Task task) {
+        Integer ordinal = ordinals.get(task);
+        if (ordinal == null) {
+            return;
+        }
+        if (task.isDone()) {
+            done.add(ordinal);
+        } else {
+            done.remove(ordinal);
+        }
+    }
+
+    @Override
+    public void onTasksReset(List<Task> tasks) {
+        if (tasks.size() == ordinals.size() && tasks.stream().allMatch(ordinals::containsKey)) {
+            return;
+        }
+        rebuild(tasks);
+    }
+
+    private void rebuild(List<Task> tasks) {
+        bitmaps.clear();
+        ordinals.clear();
+        tasksByOrdinal.clear();
+        all = new RoaringBitmap();
+        done = new RoaringBitmap();
+        for (Task task : tasks) {
+            onTaskAdded(tasksByOrdinal.size(), task);
+        }
+    }
+
+    /**
+     * Keeps the ordinals, which do not follow the positions of the tasks.
+     */
+    @Override
+    public void onTasksReordered(List<Task> tasks) {
+    }
+
+    /**
+     * Returns the ordinals of the tasks with the tag. The "done" tag matches the tasks that are
+     * done. The returned bitmap must not be changed.
+     * @param tag tag without the leading '#'.
+     * @return ordinals of the tasks with the tag.
+     */
+    public RoaringBitmap getTagged(String tag) {
+        String lowerCaseTag = tag.toLowerCase();
+        if (lowerCaseTag.equals(DONE_TAG)) {
+            return done;
+        }
+        return bitmaps.getOrDefault(lowerCaseTag, EMPTY);
+    }
+
+    /**
+     * Returns the ordinals of all the tasks. The returned bitmap must not be changed.
+     * @return ordinals of all the tasks.
+     */
+    public RoaringBitmap getAll() {
+        return all;
+    }
+
+    /**
+     * Returns the tasks with the ordinals, in the order they were added.
+     * @param selected ordinals of the tasks.
+     * @return tasks with the ordinals.
+     */
+    public ArrayList<Task> getTasks(RoaringBitmap selected) {
+        ArrayList<Task> tasks = new ArrayList<>();
+        selected.forEach(ordinal -> tasks.add(tasksByOrdinal.get(ordinal)));
+        return tasks;
+    }
+}
@@ -0,0 +1,49 @@
+package duke.tasks;
+
+import java.time.LocalDate;
+
+import duke.Parser;
+
+/**
+ * Represents the subclass of Task. It contains the description of the task and a LocalDate that
+ * represents the deadline of the Task.
+ */
+public class Deadline extends Task {
+
+    /**
+     * Constructs a Deadline Task that contains the description of the task and its deadline.
+     * Defaults with the task being not done.
+     * @param description description of the task.
+     * @param deadline deadline for the task.
+     */
+    public Deadline(String description, LocalDate deadline) {
+        super(description, deadline);
+    }
+
+    /**
+     * Appends the data representation of the Deadline so it can be saved.
+     * @param data builder the data representation is appended to.
+     */
+    @Override
+    public void appendData(StringBuilder data) {
+        data.append("D | ");
+        super.appendData(data);
+        data.append(" | ");
+        appendDate(data, date);
+        appendDataFields(data);
+    }
+
+    /**
+     * Appends the string representation of the Deadline.
+     * @param output builder the type of the task, whether the task is done, the task's description
+     *     and the task's date are appended to.
+     */
+    @Override
+    public void appendTo(StringBuilder output) {
+        output.append("[D]");
+        super.appendTo(output);
+        output.append(" (by: ");
+        Parser.appendLocalDate(output, date);
+        output.append(')');
+    }
+}
@@ -0,0 +1,249 @@
+package duke.tasks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntSupplier;
+
+/**
+ * Represents the DependencyGraph of the tasks, where a task that must wait for other tasks to be
+ * done depends on their ids. Each task keeps the number of its dependencies that are not done, and
+ * the open tasks are kept in two sets: the ready tasks, whose dependencies are all done, and the
+ * blocked tasks. When a task is done, only the tasks that depend on it are looked at, so the ready
+ * tasks are listed without walking the graph. The graph is kept up to date by listening to the
+ * TaskList.
+ * A task only depends on tasks given an id before its own, so the dependencies never form a cycle.
+ * A dependency on a task that is not in the TaskList, such as one that was deleted, is met.
+ * An id is a count in its high bits followed by 32 bits that stand for the data directory it was
+ * given in, so ids given in different data directories do not clash when their tasks are synced.
+ * The count is one more than the largest count of the ids in the graph, so a new id is still
+ * larger than the ids of the tasks the task depends on, including ids given elsewhere.
+ */
+public class DependencyGraph implements TaskListListener {
+    private static final int ORIGIN_BITS = 32;
+    private final HashMap<Long, Task> tasksById = new HashMap<>();
+    private final HashMap<Long, ArrayList<Task>> dependents = new HashMap<>();
+    private final LinkedHashSet<Task> ready = new LinkedHashSet<>();
+    private final LinkedHashSet<Task> blocked = new LinkedHashSet<>();
+    private final IntSupplier origin;
+    private long originBits = -1;
+    private long maxCount = 0;
+
+    /**
+     * Constructs a DependencyGraph whose ids end with 0, for tasks that are not saved.
+     */
+    public DependencyGraph() {
+        this(() -> 0);
+    }
+
+    /**
+     * Constructs a DependencyGraph whose ids end with the origin, which is asked for once the
+     * first id is given.
+     * @param origin supplier of the 32 bits that stand for the data directory.
+     */
+    public DependencyGraph(IntSupplier origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public void onTaskAdded(int index, Task task) {
+        int unmet = 0;
+        for (long dependency : task.getDependencies()) {
+            maxCount = Math.max(maxCount, dependency >>> ORIGIN_BITS);
+            if (!isAcyclic(task, dependency)) {
+                continue;
+            }
+            dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(task);
+            Task dependencyTask = tasksById.get(dependency);
+            if (dependencyTask != null && isOpen(dependencyTask)) {
+                unmet++;
+            }
+        }
+        task.setUnmetDependencies(unmet);
+        if (!task.isDone()) {
+            (unmet == 0 ? ready : blocked).add(task);
+        }
+        if (task.getId() > 0) {
+            maxCount = Math.max(maxCount, task.getId() >>> ORIGIN_BITS);
+            tasksById.put(task.getId(), task);
+            if (!task.isDone()) {
+                for (Task dependent : getDependents(task.getId())) {
+                    block(dependent);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onTaskRemoved(int index, Task task) {
+        boolean wasOpen = ready.remove(task) | blocked.remove(task);
+        for (long dependency : task.getDependencies()) {
+            ArrayList<Task> sameDependents = dependents.get(dependency);
+            if (sameDependents != null && sameDependents.remove(task) && sameDependents.isEmpty()) {
+                dependents.remove(dependency);
+            }
+        }
+        if (task.getId() > 0 && tasksById.get(task.getId()) == task) {
+            tasksById.remove(task.getId());
+            if (wasOpen) {
+                unblockDependents(task);
+            }
+        }
+    }
+
+    /**
+     * Unblocks the tasks that depend on the task once it is done, which takes time in the number
+     * of its dependents.
+     */
+    @Override
+    public void onTaskUpdated(int index, Task task) {
+        if (task.isDone() && (ready.remove(task) | blocked.remove(task))) {
+            unblockDependents(task);
+        }
+    }
+
+    /**
+     * Rebuilds the graph, unless it already has the tasks, such as when it is added again to the
+     * same TaskList.
+     */
+    @Override
+    public void onTasksReset(List<Task> tasks) {
+        long open = tasks.stream().filter(task -> !task.isDone()).count();
+        if (open == ready.size() + blocked.size() && tasks.stream().allMatch(task -> task.isDone()
+                || ready.contains(task) || blocked.contains(task))) {
+            return;
+        }
+        tasksById.clear();
+        dependents.clear();
+        ready.clear();
+        blocked.clear();
+        for (Task task : tasks) {
+            onTaskAdded(0, task);
+        }
+    }
+
+    /**
+     * Does nothing, as sorting the tasks does not change what they wait on.
+     */
+    @Override
+    public void onTasksReordered(List<Task> tasks) {
+    }
+
+    /**
+     * Gives the task the next id if it has none, so other tasks can depend on it. The id is
+     * larger than the ids of the tasks it depends on, which keeps the graph acyclic.
+     * @param task task that other tasks are to depend on.
+     * @return id of the task.
+     */
+    public long assignId(Task task) {
+        if (task.getId() == 0) {
+            task.setId(nextId());
+            tasksById.put(task.getId(), task);
+        }
+        return task.getId();
+    }
+
+    /**
+     * Gives tasks from outside the TaskList, such as imported tasks, new ids after the ids of this
+     * graph, so they never clash with the ids of the tasks in the TaskList. The new ids are given
+     * in the order of the old ones, which keeps the graph acyclic, and the dependencies of the
+     * tasks on each other are changed to the new ids. Their dependencies on other tasks are
+     * dropped.
+     * @param newTasks tasks to be given new ids before they are added.
+     */
+    public void renumber(List<Task> newTasks) {
+        TreeMap<Long, Long> newIds = new TreeMap<>();
+        for (Task task : newTasks) {
+            if (task.getId() > 0) {
+                newIds.put(task.getId(), 0L);
+            }
+        }
+        for (Map.Entry<Long, Long> entry : newIds.entrySet()) {
+            entry.setValue(nextId());
+        }
+        HashSet<Long> usedIds = new HashSet<>();
+        for (Task task : newTasks) {
+            if (task.getDependencies().isEmpty() && task.getId() == 0) {
+                continue;
+            }
+            ArrayList<Long> newDependencies = new ArrayList<>();
+            for (long dependency : task.getDependencies()) {
+                Long newId = newIds.get(dependency);
+                if (newId != null) {
+                    newDependencies.add(newId);
+                }
+            }
+            task.setDependencies(newDependencies);
+            if (task.getId() > 0) {
+                long newId = newIds.get(task.getId());
+                task.setId(usedIds.add(newId) ? newId : nextId());
+            }
+        }
+    }
+
+    /**
+     * Returns the tasks that are not done and whose dependencies are all done, in the order they
+     * became ready.
+     * @return the ready tasks.
+     */
+    public List<Task> getReady() {
+        return new ArrayList<>(ready);
+    }
+
+    /**
+     * Returns the number of tasks that are not done and wait for other tasks to be done.
+     * @return number of blocked tasks.
+     */
+    public int getBlockedCount() {
+        return blocked.size();
+    }
+
+    /**
+     * Returns true if the dependency keeps the graph acyclic, which is when it is on a task given
+     * an id before the task. Tasks without an id cannot be depended on, so they cannot be in a
+     * cycle. Other dependencies can only be written into the save files by hand, and are ignored.
+     */
+    private static boolean isAcyclic(Task task, long dependency) {
+        return task.getId() == 0 || dependency < task.getId();
+    }
+
+    private boolean isOpen(Task task) {
+        return ready.contains(task) || blocked.contains(task);
+    }
+
+    /**
+     * Returns a new id, whose count is one more than the largest count seen.
+     */
+    private long nextId() {
+        if (originBits < 0) {
+            originBits = Integer.toUnsignedLong(origin.getAsInt());
+        }
+        return (++maxCount << ORIGIN_BITS) | originBits;
+    }
+
+    private List<Task> getDependents(long id) {
+        ArrayList<Task> sameDependents = dependents.get(id);
+        return sameDependents == null ? Collections.emptyList() : sameDependents;
+    }
+
+    private void block(Task dependent) {
+        dependent.setUnmetDependencies(dependent.getUnmetDependencies() + 1);
+        if (ready.remove(dependent)) {
+            blocked.add(dependent);
+        }
+    }
+
+    private void unblockDependents(Task task) {
+        for (Task dependent : getDependents(task.getId())) {
+            dependent.setUnmetDependencies(dependent.getUnmetDependencies() - 1);
+            if (dependent.getUnmetDependencies() == 0 && blocked.remove(dependent)) {
+                ready.add(dependent);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package duke.tasks;
+
+import java.time.LocalDate;
+
+import duke.Parser;
+import duke.calendar.TimeRange;
+
+/**
+ * Represents the subclass of Task. It contains the description of the task and the time the event
+ * takes up, which is the whole day of its date unless a start and end time are given.
+ */
+public class Event extends Task {
+    private final TimeRange range;
+
+    /**
+     * Constructs a Event class that contains the description of the task and the date of the event.
+     * The event takes up the whole day.
+     * @param description description of the Event.
+     * @param eventTime date when the Event occurs.
+     */
+    public Event(String description, LocalDate eventTime) {
+        this(description, TimeRange.ofDay(eventTime));
+    }
+
+    /**
+     * Constructs a Event class that contains the description of the task and the time the event
+     * takes up. The date of the event is the day it starts.
+     * @param description description of the Event.
+     * @param range time the Event takes up.
+     */
+    public Event(String description, TimeRange range) {
+        super(description, range.getStart().toLocalDate());
+        this.range = range;
+    }
+
+    public TimeRange getRange() {
+        return range;
+    }
+
+    /**
+     * Returns true if the event takes up exactly the day of its date, so its date is all that
+     * needs to be saved.
+     * @return true if the event takes up the whole day of its date.
+     */
+    private boolean isSingleDay() {
+        return range.isAllDay() && range.getLastDay().equals(date);
+    }
+
+    /**
+     * Appends the data representation of the Event so it can be saved. The start and end of
+     * events that do not take up exactly one day are saved in the "at" field, so save files of
+     * events that only have a date are the same as before.
+     * @param data builder the data representation is appended to.
+     */
+    @Override
+    public void appendData(StringBuilder data) {
+        data.append("E | ");
+        super.appendData(data);
+        data.append(" | ");
+        appendDate(data, date);
+        if (!isSingleDay()) {
+            data.append(" | at:").append(range.getStart()).append('/').append(range.getEnd());
+        }
+        appendDataFields(data);
+    }
+
+    /**
+     * Appends the string representation of the Event.
+     * @param output builder the type of the task, whether the task is done, the task's description
+     *     and the task's time are appended to.
+     */
+    @Override
+    public void appendTo(StringBuilder output) {
+        output.append("[E]");
+        super.appendTo(output);
+        output.append(" (at: ");
+        Parser.appendTimeRange(output, range);
+        output.append(')');
+    }
+}
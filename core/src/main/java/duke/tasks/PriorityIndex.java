@@ -0,0 +1,194 @@
+package duke.tasks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Represents the PriorityIndex, an indexed binary min-heap of the tasks that are not done, ordered
+ * by priority, then by date, then by when they were added. The position of each task in the heap
+ * is kept, so a task that is done or deleted is removed in O(log n) without searching the heap.
+ * The index is kept up to date by listening to the TaskList.
+ */
+public class PriorityIndex implements TaskListListener {
+    private final ArrayList<Entry> heap = new ArrayList<>();
+    private final IdentityHashMap<Task, Entry> entries = new IdentityHashMap<>();
+    private long added = 0;
+
+    @Override
+    public void onTaskAdded(int index, Task task) {
+        if (!task.isDone()) {
+            insert(task);
+        }
+    }
+
+    @Override
+    public void onTaskRemoved(int index, Task task) {
+        remove(task);
+    }
+
+    @Override
+    public void onTaskUpdated(int index, Task task) {
+        if (task.isDone()) {
+            remove(task);
+        } else if (entries.containsKey(task)) {
+            Entry entry = entries.get(task);
+            siftDown(siftUp(entry.position));
+        } else {
+            insert(task);
+        }
+    }
+
+    @Override
+    public void onTasksReset(List<Task> tasks) {
+        long open = tasks.stream().filter(task -> !task.isDone()).count();
+        if (open == entries.size()
+                && tasks.stream().allMatch(task -> task.isDone() || entries.containsKey(task))) {
+            return;
+        }
+        heap.clear();
+        entries.clear();
+        for (Task task : tasks) {
+            if (!task.isDone()) {
+                Entry entry = new Entry(task, added++, heap.size());
+                heap.add(entry);
+                entries.put(task, entry);
+            }
+        }
+        for (int i = heap.size() / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * Does nothing, as the heap orders the tasks by priority and date, not by position.
+     */
+    @Override
+    public void onTasksReordered(List<Task> tasks) {
+    }
+
+    /**
+     * Returns number of tasks that are not done.
+     * @return number of open tasks.
+     */
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Returns the first k open tasks in order, without sorting the rest. The heap is walked from
+     * the root with a second heap of the positions that could be next, so only O(k) positions are
+     * looked at.
+     * @param k number of tasks.
+     * @return the first k open tasks, or all of them if there are fewer than k.
+     */
+    public List<Task> peek(int k) {
+        ArrayList<Task> next = new ArrayList<>();
+        PriorityQueue<Entry> frontier = new PriorityQueue<>();
+        if (!heap.isEmpty()) {
+            frontier.add(heap.get(0));
+        }
+        while (next.size() < k && !frontier.isEmpty()) {
+            Entry entry = frontier.poll();
+            next.add(entry.task);
+            for (int child = 2 * entry.position + 1; child <= 2 * entry.position + 2; child++) {
+                if (child < heap.size()) {
+                    frontier.add(heap.get(child));
+                }
+            }
+        }
+        return next;
+    }
+
+    private void insert(Task task) {
+        if (entries.containsKey(task)) {
+            return;
+        }
+        Entry entry = new Entry(task, added++, heap.size());
+        heap.add(entry);
+        entries.put(task, entry);
+        siftUp(entry.position);
+    }
+
+    private void remove(Task task) {
+        Entry entry = entries.remove(task);
+        if (entry == null) {
+            return;
+        }
+        Entry last = heap.remove(heap.size() - 1);
+        if (last != entry) {
+            place(last, entry.position);
+            siftDown(siftUp(entry.position));
+        }
+    }
+
+    private int siftUp(int position) {
+        Entry entry = heap.get(position);
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (heap.get(parent).compareTo(entry) <= 0) {
+                break;
+            }
+            place(heap.get(parent), position);
+            position = parent;
+        }
+        place(entry, position);
+        return position;
+    }
+
+    private void siftDown(int position) {
+        Entry entry = heap.get(position);
+        while (2 * position + 1 < heap.size()) {
+            int child = 2 * position + 1;
+            if (child + 1 < heap.size() && heap.get(child + 1).compareTo(heap.get(child)) < 0) {
+                child++;
+            }
+            if (entry.compareTo(heap.get(child)) <= 0) {
+                break;
+            }
+            place(heap.get(child), position);
+            position = child;
+        }
+        place(entry, position);
+    }
+
+    private void place(Entry entry, int position) {
+        heap.set(position, entry);
+        entry.position = position;
+    }
+
+    private static class Entry implements Comparable<Entry> {
+        private final Task task;
+        private final long order;
+        private int position;
+
+        Entry(Task task, long order, int position) {
+            this.task = task;
+            this.order = order;
+            this.position = position;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byPriority = Integer.compare(rank(task), rank(other.task));
+            if (byPriority != 0) {
+                return byPriority;
+            }
+            int byDate = dueDate(task).compareTo(dueDate(other.task));
+            if (byDate != 0) {
+                return byDate;
+            }
+            return Long.compare(order, other.order);
+        }
+
+        private static int rank(Task task) {
+            return task.hasPriority() ? task.getPriority() : Integer.MAX_VALUE;
+        }
+
+        private static LocalDate dueDate(Task task) {
+            return task.hasDate() ? task.getDate() : LocalDate.MAX;
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package duke.tasks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents the Task that contains the description of the task with a boolean to show if the
+ * task is done.
+ */
+public abstract class Task implements Comparable<Task> {
+    protected boolean isDone;
+    protected final String description;
+    protected final LocalDate date;
+    private final ArrayList<String> tags = new ArrayList<>();
+    private int priority = 0;
+    private int segment = -1;
+    private long id = 0;
+    private final ArrayList<Long> dependencies = new ArrayList<>();
+    private int unmetDependencies = 0;
+
+    /**
+     * Constructs a Task that contains the description and defaulted as not done.
+     * @param description description of the Task.
+     */
+    public Task(String description, LocalDate date) {
+        this.description = description;
+        isDone = false;
+        this.date = date;
+    }
+
+    /**
+     * Sets the task as done.
+     */
+    public void done() {
+        isDone = true;
+    }
+
+    /**
+     * Returns true if the task is marked as done.
+     * @return whether the task is done.
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
+    /**
+     * Returns the description of the task.
+     * @return description of the task.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the date of the task.
+     * @return date of the task.
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Returns the tags of the task, without the leading '#'.
+     * @return tags of the task.
+     */
+    public List<String> getTags() {
+        return Collections.unmodifiableList(tags);
+    }
+
+    /**
+     * Sets the tags of the task. Tags are kept in lower case and without repeats.
+     * @param newTags tags of the task, without the leading '#'.
+     */
+    public void setTags(List<String> newTags) {
+        tags.clear();
+        for (String tag : newTags) {
+            String lowerCaseTag = tag.toLowerCase();
+            if (!tags.contains(lowerCaseTag)) {
+                tags.add(lowerCaseTag);
+            }
+        }
+    }
+
+    /**
+     * Returns the priority of the task, where 1 is the highest priority.
+     * @return priority of the task, or 0 if the task has no priority.
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Sets the priority of the task.
+     * @param priority priority of the task, where 1 is the highest, or 0 for no priority.
+     */
+    public void setPriority(int priority) {
+        assert priority >= 0;
+        this.priority = priority;
+    }
+
+    /**
+     * Returns true if the task has a priority.
+     * @return true if the task has a priority.
+     */
+    public boolean hasPriority() {
+        return priority > 0;
+    }
+
+    /**
+     * Returns the id of the storage segment the task is saved in.
+     * @return id of the segment, or -1 if the task is not in a segment.
+     */
+    public int getSegment() {
+        return segment;
+    }
+
+    /**
+     * Sets the id of the storage segment the task is saved in.
+     * @param segment id of the segment.
+     */
+    public void setSegment(int segment) {
+        this.segment = segment;
+    }
+
+    /**
+     * Returns the id of the task, which other tasks refer to when they depend on it. A task is
+     * only given an id once another task depends on it.
+     * @return id of the task, or 0 if the task has no id.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the id of the task.
+     * @param id id of the task, which is positive.
+     */
+    public void setId(long id) {
+        assert id > 0;
+        this.id = id;
+    }
+
+    /**
+     * Returns the ids of the tasks that must be done before this task can be started.
+     * @return ids of the tasks this task depends on.
+     */
+    public List<Long> getDependencies() {
+        return Collections.unmodifiableList(dependencies);
+    }
+
+    /**
+     * Sets the ids of the tasks that must be done before this task can be started, without
+     * repeats.
+     * @param newDependencies ids of the tasks this task depends on.
+     */
+    public void setDependencies(List<Long> newDependencies) {
+        dependencies.clear();
+        for (long dependency : newDependencies) {
+            if (!dependencies.contains(dependency)) {
+                dependencies.add(dependency);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of tasks this task depends on that are not done yet, which is kept by
+     * the DependencyGraph of the TaskList the task is in.
+     * @return number of unmet dependencies.
+     */
+    public int getUnmetDependencies() {
+        return unmetDependencies;
+    }
+
+    void setUnmetDependencies(int unmetDependencies) {
+        this.unmetDependencies = unmetDependencies;
+    }
+
+    /**
+     * Returns true if the task has a user given date.
+     * @return true if the task has a date.
+     */
+    public boolean hasDate() {
+        return true;
+    }
+
+    /**
+     * Returns a data representation of the task to be saved in the save.txt file.
+     * @return data representation of Task.
+     */
+    public String data() {
+        StringBuilder data = new StringBuilder();
+        appendData(data);
+        return data.toString();
+    }
+
+    /**
+     * Appends the data representation of the task to the builder, so that tasks can be saved
+     * without creating a String for each task.
+     * @param data builder the data representation is appended to.
+     */
+    public void appendData(StringBuilder data) {
+        data.append(isDone ? '1' : '0').append(" | ").append(description);
+    }
+
+    /**
+     * Appends the optional fields of the task to be saved after the fields of its type, each as
+     * " | key:value".
+     * @param data builder the optional fields are appended to.
+     */
+    protected void appendDataFields(StringBuilder data) {
+        if (!tags.isEmpty()) {
+            data.append(" | tags:");
+            for (int i = 0; i < tags.size(); i++) {
+                data.append(i == 0 ? "" : ",").append(tags.get(i));
+            }
+        }
+        if (hasPriority()) {
+            data.append(" | priority:").append(priority);
+        }
+        if (id > 0) {
+            data.append(" | id:").append(id);
+        }
+        if (!dependencies.isEmpty()) {
+            data.append(" | after:");
+            for (int i = 0; i < dependencies.size(); i++) {
+                data.append(i == 0 ? "" : ",").append(dependencies.get(i));
+            }
+        }
+    }
+
+    /**
+     * Appends the date in the YYYY-MM-DD format of LocalDate.toString.
+     * @param data builder the date is appended to.
+     * @param date date to be appended.
+     */
+    protected static void appendDate(StringBuilder data, LocalDate date) {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            data.append(date);
+            return;
+        }
+        appendPadded(data, year, 1000);
+        data.append('-');
+        appendPadded(data, date.getMonthValue(), 10);
+        data.append('-');
+        appendPadded(data, date.getDayOfMonth(), 10);
+    }
+
+    private static void appendPadded(StringBuilder data, int value, int firstDivisor) {
+        for (int divisor = firstDivisor; divisor > 0; divisor /= 10) {
+            data.append((char) ('0' + value / divisor % 10));
+        }
+    }
+
+    /**
+     * Returns string representation of the Task to be shown to the user.
+     * @return string representation of the Task.
+     */
+    @Override
+    public String toString() {
+        StringBuilder output = new StringBuilder();
+        appendTo(output);
+        return output.toString();
+    }
+
+    /**
+     * Appends the string representation of the Task to the builder, so that messages can be built
+     * without creating a String for the task.
+     * @param output builder the string representation is appended to.
+     */
+    public void appendTo(StringBuilder output) {
+        output.append(isDone ? "[X] " : "[ ] ").append(description);
+        for (int i = 0; i < tags.size(); i++) {
+            output.append(" #").append(tags.get(i));
+        }
+        if (hasPriority()) {
+            output.append(" (p").append(priority).append(')');
+        }
+        if (unmetDependencies > 0 && !isDone) {
+            output.append(" (waiting on ").append(unmetDependencies).append(')');
+        }
+    }
+
+    /**
+     * Returns integer comparing whether either tasks are completed, then dates of other task,
+     * then other task's names.
+     * @param otherTask other task used for comparing.
+     * @return negative integer if this is done, or earlier date, or if the three criteria are
+     * the same, positive if this task is not done, or later date. If first two criteria are the
+     * same, compare the names.
+     */
+    @Override
+    public int compareTo(Task otherTask) {
+        if (areDifferentStates(otherTask)) {
+            return isDone ? 1 : -1;
+        }
+        if (this.areDifferentDates(otherTask)) {
+            return date.compareTo(otherTask.date);
+        }
+        return description.compareTo(otherTask.description);
+    }
+
+    private boolean areDifferentStates(Task otherTask) {
+        return this.isDone != otherTask.isDone;
+    }
+
+    private boolean areDifferentDates(Task otherTask) {
+        return date.compareTo(otherTask.date) != 0;
+    }
+}
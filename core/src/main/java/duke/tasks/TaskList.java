@@ -0,0 +1,891 @@
+package duke.tasks;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import duke.Parser;
+import duke.calendar.EventIndex;
+import duke.calendar.TimeRange;
+import duke.commands.SpecificCommandType;
+import duke.exceptions.DukeArchiveException;
+import duke.exceptions.DukeCreateFileException;
+import duke.exceptions.DukeEmptyListException;
+import duke.exceptions.DukeInvalidFilterException;
+import duke.exceptions.DukeInvalidQueryException;
+import duke.exceptions.DukeInvalidViewException;
+import duke.exceptions.DukeNoDescriptionException;
+import duke.exceptions.DukeNotDoneException;
+import duke.exceptions.DukeReadOnlyException;
+import duke.exceptions.DukeReloadException;
+import duke.exceptions.DukeSaveFileException;
+import duke.exceptions.DukeUnknownArgumentsException;
+import duke.jfr.FindEvent;
+import duke.query.Query;
+import duke.query.QueryIndex;
+import duke.query.QueryPlan;
+import duke.storage.Segment;
+import duke.storage.Storage;
+import duke.sync.TaskDigest;
+import duke.tags.TagFilter;
+import duke.tags.TagIndex;
+import duke.ui.Message;
+import duke.views.SavedView;
+import duke.views.SavedViews;
+
+/**
+ * Represents the TaskList to store all the tasks inputted by the user. Tasklist contains a Ui
+ * class that show output from functions.
+ */
+public class TaskList {
+    private static final int ARCHIVE_AFTER_DAYS = 30;
+    private static final String FIND_ALL_FLAG = "--all ";
+    private final ArrayList<Task> tasks;
+    private final ArrayList<Segment> segments;
+    private final Storage storage;
+    private final TaskSummary summary = new TaskSummary();
+    private final TagIndex tagIndex = new TagIndex();
+    private final PriorityIndex priorities = new PriorityIndex();
+    private final QueryIndex queryIndex = new QueryIndex();
+    private final SavedViews views = new SavedViews();
+    private final EventIndex eventIndex = new EventIndex();
+    private final DependencyGraph dependencies = new DependencyGraph(this::getIdOrigin);
+    private final ArrayList<TaskListListener> listeners = new ArrayList<>();
+
+    /**
+     * Constructs TaskList containing an ArrayList of Task and the Ui.
+     * @param storage Use to load the latest TaskList from save file.
+     */
+    public TaskList(Storage storage) throws DukeCreateFileException {
+        this.storage = storage;
+        segments = storage.load();
+        tasks = new ArrayList<>();
+        for (Segment segment : segments) {
+            tasks.addAll(segment.getTasks());
+        }
+        for (Task task : tasks) {
+            summary.add(task);
+        }
+        addIndexes();
+        for (Map.Entry<String, String> definition : storage.loadViews().entrySet()) {
+            try {
+                views.save(definition.getKey(), definition.getValue(),
+                        Parser.parseFindInput(definition.getValue()), tasks);
+            } catch (DukeNoDescriptionException e) {
+                // A view without a keyword cannot have been saved, so the line is skipped.
+            }
+        }
+    }
+
+    /**
+     * Creates new empty TaskList.
+     */
+    public TaskList() {
+        tasks = new ArrayList<>();
+        segments = new ArrayList<>();
+        storage = null;
+        addIndexes();
+    }
+
+    /**
+     * Adds the indexes of this TaskList as its listeners. Both constructors add them here, so each
+     * index is added once.
+     */
+    private void addIndexes() {
+        addListener(tagIndex);
+        addListener(priorities);
+        addListener(queryIndex);
+        addListener(views);
+        addListener(eventIndex);
+        addListener(dependencies);
+    }
+
+    /**
+     * Returns number of tasks.
+     * @return number of tasks in the TaskList.
+     */
+    public int size() {
+        return tasks.size();
+    }
+
+    /**
+     * Returns a read-only view of the tasks in this TaskList.
+     * @return the tasks in this TaskList.
+     */
+    public List<Task> getTasks() {
+        return Collections.unmodifiableList(tasks);
+    }
+
+    /**
+     * Imports the tasks to the end of this TaskList. The ids of the tasks are changed so they do
+     * not clash with the ids of the tasks already in this TaskList, such as when a file exported
+     * from this TaskList is imported again.
+     * @param newTasks tasks to be imported.
+     */
+    public void importAll(List<Task> newTasks) {
+        dependencies.renumber(newTasks);
+        addAll(newTasks);
+    }
+
+    /**
+     * Adds the tasks to the end of this TaskList. Used to add many tasks at once, such as the
+     * records of another data directory when syncing, which keep their ids.
+     * @param newTasks tasks to be added.
+     */
+    public void addAll(List<Task> newTasks) {
+        tasks.ensureCapacity(tasks.size() + newTasks.size());
+        for (Task task : newTasks) {
+            tasks.add(task);
+            attach(task, null);
+        }
+    }
+
+    /**
+     * Prints the summary of the tasks, which is kept up to date as tasks change.
+     */
+    public String summarise() {
+        return Message.getSummaryMsg(summary);
+    }
+
+    /**
+     * Returns the TaskSummary of this TaskList.
+     * @return the TaskSummary, which is updated as tasks change.
+     */
+    public TaskSummary getSummary() {
+        return summary;
+    }
+
+    /**
+     * Adds a listener that is told of each change to this TaskList. The listener is first given
+     * all the tasks currently in this TaskList. A listener that was already added is not added
+     * again, so it is never told of the same change twice.
+     * @param listener listener of the changes.
+     */
+    public void addListener(TaskListListener listener) {
+        if (listeners.contains(listener)) {
+            return;
+        }
+        listeners.add(listener);
+        listener.onTasksReset(getTasks());
+    }
+
+    /**
+     * Removes a listener that was added to this TaskList.
+     * @param listener listener to be removed.
+     */
+    public void removeListener(TaskListListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Updates the save file in the hardware.
+     * @param storage Storage class used for storage in the hardware.
+     */
+    public void updateSave(Storage storage) throws DukeSaveFileException {
+        storage.update(segments);
+    }
+
+    /**
+     * Marks the task based on the input as done.
+     * @param input input used to get index of task to be marked as done.
+     */
+    public String done(String input) {
+        int index = Parser.stringToIndex(input, 5);
+        Task task = tasks.get(index);
+        if (!task.isDone()) {
+            task.done();
+            summary.markDone(task);
+            segments.get(task.getSegment()).markDirty();
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onTaskUpdated(index, task);
+            }
+        }
+        return Message.getDoneMsg(task);
+    }
+
+    /**
+     * Returns a Todo Task that will be added to this TaskList.
+     * @param input input used to get the description for the task.
+     * @return Todo task with the description.
+     * @throws DukeNoDescriptionException if the description of the todo command is empty.
+     */
+    Todo createTodo(String input) throws DukeNoDescriptionException {
+        input = Parser.parseTodoInput(input);
+        Todo todo = new Todo(Parser.removeTags(input, SpecificCommandType.TODO.getName()));
+        todo.setTags(Parser.obtainTags(input));
+        return todo;
+    }
+
+    /**
+     * Returns Deadline subclass of Task that will be added to this TaskList.
+     * @param input input used to get the description and deadline of the Deadline task.
+     * @return Deadline task with the description and deadline.
+     * @throws DukeNoDescriptionException if the description of the deadline is empty.
+     * @throws DateTimeParseException if the deadline is not of format: YYYY-MM-DD.
+     */
+    Deadline createDeadline(String input) throws DukeNoDescriptionException,
+            DateTimeParseException {
+        String description = Parser.obtainDescription(input, SpecificCommandType.DEADLINE);
+        LocalDate deadline = Parser.obtainDate(input, SpecificCommandType.DEADLINE);
+        Deadline task = new Deadline(Parser.removeTags(description, SpecificCommandType.DEADLINE.getName()),
+                deadline);
+        task.setTags(Parser.obtainTags(description));
+        return task;
+    }
+
+    /**
+     * Returns Event subclass of Task that will be added to this TaskList.
+     * @param input input used to get the description and event time of the Event task.
+     * @return Event task with description and event time.
+     * @throws DukeNoDescriptionException when the description of the Event is empty.
+     * @throws  DateTimeParseException when the event time is not of format: YYYY-MM-DD.
+     */
+    Event createEvent(String input) throws DukeNoDescriptionException {
+        String description = Parser.obtainDescription(input, SpecificCommandType.EVENT);
+        TimeRange eventTime = Parser.obtainTimeRange(input);
+        Event task = new Event(Parser.removeTags(description, SpecificCommandType.EVENT.getName()),
+                eventTime);
+        task.setTags(Parser.obtainTags(description));
+        return task;
+    }
+
+    /**
+     * Deletes Task from TaskList of index using input.
+     * @param input input used to get index of Task to be deleted.
+     * @throws DukeEmptyListException when the TaskList is empty.
+     */
+    public String deleteTask(String input) throws DukeEmptyListException {
+        int index = Parser.stringToIndex(input, 7);
+        if (tasks.isEmpty()) {
+            throw new DukeEmptyListException();
+        }
+        Task task = tasks.get(index);
+        tasks.remove(index);
+        detach(index, task);
+        return Message.getDeleteMsg(task, tasks.size());
+    }
+
+    /**
+     * Returns the 32 bits that end the ids given in this TaskList. They are taken from the sync id
+     * of the data directory, so ids given in data directories that are synced do not clash. A
+     * TaskList that is not saved uses 0, and one whose sync id cannot be read a random number.
+     */
+    private int getIdOrigin() {
+        if (storage == null) {
+            return 0;
+        }
+        try {
+            return storage.getSyncId().hashCode();
+        } catch (IOException | DukeReadOnlyException e) {
+            return new SecureRandom().nextInt();
+        }
+    }
+
+    /**
+     * Adds the task to a segment and the summary, and tells the listeners, after it is added to
+     * the end of tasks.
+     * @param task task that was added.
+     * @param segment segment the task is added to, or null to add it to the last segment.
+     */
+    private void attach(Task task, Segment segment) {
+        if (segment == null) {
+            addToSegment(task);
+        } else {
+            segment.add(task);
+        }
+        summary.add(task);
+        int index = tasks.size() - 1;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onTaskAdded(index, task);
+        }
+    }
+
+    /**
+     * Removes the task from its segment and the summary, and tells the listeners, after it is
+     * removed from tasks.
+     * @param index position the task was at.
+     * @param task task that was removed.
+     */
+    private void detach(int index, Task task) {
+        segments.get(task.getSegment()).remove(task);
+        summary.remove(task);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onTaskRemoved(index, task);
+        }
+    }
+
+    /**
+     * Moves done tasks to the archive. Archives all done tasks if no index is given, otherwise
+     * archives the done task at the index.
+     * @param input archive input, optionally containing the index of the task to be archived.
+     * @throws DukeArchiveException when the archive cannot be written.
+     * @throws DukeNotDoneException when the task at the index is not done.
+     */
+    public String archive(String input) throws DukeArchiveException, DukeNotDoneException {
+        ArrayList<Task> archivedTasks = new ArrayList<>();
+        if (Parser.hasIndex(input)) {
+            Task task = tasks.get(Parser.stringToIndex(input, 8));
+            if (!task.isDone()) {
+                throw new DukeNotDoneException();
+            }
+            archivedTasks.add(task);
+        } else {
+            for (Task task : tasks) {
+                if (task.isDone()) {
+                    archivedTasks.add(task);
+                }
+            }
+        }
+        moveToArchive(archivedTasks);
+        return Message.getArchiveMsg(archivedTasks.size(), tasks.size());
+    }
+
+    /**
+     * Moves done tasks whose date is more than 30 days before today to the archive.
+     * @param today the current date.
+     * @return number of tasks archived.
+     * @throws DukeArchiveException when the archive cannot be written.
+     */
+    public int archiveOldTasks(LocalDate today) throws DukeArchiveException {
+        LocalDate threshold = today.minusDays(ARCHIVE_AFTER_DAYS);
+        ArrayList<Task> archivedTasks = new ArrayList<>();
+        for (Task task : tasks) {
+            if (task.isDone() && task.hasDate() && task.getDate().isBefore(threshold)) {
+                archivedTasks.add(task);
+            }
+        }
+        moveToArchive(archivedTasks);
+        return archivedTasks.size();
+    }
+
+    /**
+     * Appends the tasks to the archive before removing them from this TaskList, so that the
+     * tasks are never lost if the application stops part way.
+     * @param archivedTasks tasks to be moved.
+     * @throws DukeArchiveException when the archive cannot be written.
+     */
+    private void moveToArchive(ArrayList<Task> archivedTasks) throws DukeArchiveException {
+        if (archivedTasks.isEmpty()) {
+            return;
+        }
+        if (storage == null) {
+            throw new DukeArchiveException();
+        }
+        storage.archive(archivedTasks);
+        removeAll(archivedTasks);
+    }
+
+    /**
+     * Removes the tasks from this TaskList in a single pass over the tasks.
+     * @param removedTasks tasks to be removed, which must be in this TaskList.
+     */
+    public void removeAll(List<Task> removedTasks) {
+        if (removedTasks.isEmpty()) {
+            return;
+        }
+        IdentityHashMap<Task, Boolean> removed = new IdentityHashMap<>();
+        for (Task task : removedTasks) {
+            removed.put(task, true);
+        }
+        ArrayList<Integer> removedIndexes = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            if (removed.containsKey(tasks.get(i))) {
+                removedIndexes.add(i);
+            }
+        }
+        ArrayList<Task> detachedTasks = new ArrayList<>();
+        for (int index : removedIndexes) {
+            detachedTasks.add(tasks.get(index));
+        }
+        tasks.removeIf(removed::containsKey);
+        for (int i = removedIndexes.size() - 1; i >= 0; i--) {
+            detach(removedIndexes.get(i), detachedTasks.get(i));
+        }
+    }
+
+    /**
+     * Reloads the segments whose save files were edited outside Duke. The tasks of each edited
+     * segment are compared with its file by the hash of their records, so only the records that
+     * changed are applied: a record edited in place replaces the task in its place, records only
+     * in the file are added at the end of the list and kept in their segment while it has room,
+     * and tasks whose records are no longer in the file are removed. Segments added to the save
+     * files since they were loaded are read in full.
+     * @return numbers of tasks added, changed and removed.
+     * @throws DukeReloadException when a segment file cannot be read, in which case saves stay
+     *     held off.
+     */
+    public ReloadResult reload() throws DukeReloadException {
+        ReloadResult result = new ReloadResult();
+        if (storage == null) {
+            return result;
+        }
+        try {
+            for (int id : storage.takeEditedSegments(segments.size())) {
+                while (segments.size() <= id) {
+                    segments.add(new Segment(segments.size()));
+                }
+                reconcile(segments.get(id), storage.readSegment(id), result);
+            }
+            storage.markReloaded(segments);
+        } catch (IOException e) {
+            storage.markExternalEdits();
+            throw new DukeReloadException();
+        }
+        return result;
+    }
+
+    /**
+     * Applies the records of the segment file to the tasks of the segment. A task and a record
+     * that are both unmatched and follow the same number of matched records are taken to be one
+     * task edited in place.
+     */
+    private void reconcile(Segment segment, List<Task> savedTasks, ReloadResult result) {
+        HashMap<Long, ArrayDeque<Task>> unmatched = new HashMap<>();
+        for (Task task : segment.getTasks()) {
+            unmatched.computeIfAbsent(TaskDigest.hash(task), hash -> new ArrayDeque<>()).add(task);
+        }
+        ArrayList<Task> addedTasks = new ArrayList<>();
+        ArrayList<Integer> addedAnchors = new ArrayList<>();
+        for (int i = 0; i < savedTasks.size(); i++) {
+            Task task = savedTasks.get(i);
+            ArrayDeque<Task> sameRecords = unmatched.get(TaskDigest.hash(task));
+            if (sameRecords == null || sameRecords.poll() == null) {
+                addedAnchors.add(i - addedTasks.size());
+                addedTasks.add(task);
+            }
+        }
+        IdentityHashMap<Task, Boolean> isRemoved = new IdentityHashMap<>();
+        for (ArrayDeque<Task> sameRecords : unmatched.values()) {
+            for (Task task : sameRecords) {
+                isRemoved.put(task, true);
+            }
+        }
+        ArrayList<Task> removedTasks = new ArrayList<>();
+        ArrayList<Integer> removedAnchors = new ArrayList<>();
+        ArrayList<Integer> removedPositions = new ArrayList<>();
+        int numMatched = 0;
+        List<Task> segmentTasks = segment.getTasks();
+        for (int i = 0; i < segmentTasks.size(); i++) {
+            Task task = segmentTasks.get(i);
+            if (isRemoved.containsKey(task)) {
+                removedTasks.add(task);
+                removedAnchors.add(numMatched);
+                removedPositions.add(i);
+            } else {
+                numMatched++;
+            }
+        }
+        ArrayList<Task> replacedTasks = new ArrayList<>();
+        ArrayList<Integer> replacedPositions = new ArrayList<>();
+        ArrayList<Task> newTasks = new ArrayList<>();
+        int removed = 0;
+        int added = 0;
+        while (removed < removedTasks.size() && added < addedTasks.size()) {
+            int byAnchor = Integer.compare(removedAnchors.get(removed), addedAnchors.get(added));
+            if (byAnchor == 0) {
+                replacedPositions.add(removedPositions.get(removed));
+                replacedTasks.add(removedTasks.get(removed++));
+                newTasks.add(addedTasks.get(added++));
+            } else if (byAnchor < 0) {
+                removed++;
+            } else {
+                added++;
+            }
+        }
+        replaceAll(segment, replacedTasks, replacedPositions, newTasks);
+        IdentityHashMap<Task, Boolean> isPaired = new IdentityHashMap<>();
+        for (int i = 0; i < replacedTasks.size(); i++) {
+            isPaired.put(replacedTasks.get(i), true);
+            isPaired.put(newTasks.get(i), true);
+        }
+        removedTasks.removeIf(isPaired::containsKey);
+        addedTasks.removeIf(isPaired::containsKey);
+        removeAll(removedTasks);
+        tasks.ensureCapacity(tasks.size() + addedTasks.size());
+        for (Task task : addedTasks) {
+            tasks.add(task);
+            attach(task, segment.isFull() ? null : segment);
+        }
+        if (!addedTasks.isEmpty()) {
+            // Records that did not fit were moved to the last segment, so the file is written
+            // again without them.
+            segment.markDirty();
+        }
+        result.changed += replacedTasks.size();
+        result.removed += removedTasks.size();
+        result.added += addedTasks.size();
+    }
+
+    /**
+     * Replaces each of the old tasks of the segment with the new task at the same place in both
+     * the segment and the list. The indexes of the old tasks in the list are found in one pass,
+     * so the cost does not grow with the number of tasks replaced times the size of the list.
+     */
+    private void replaceAll(Segment segment, List<Task> oldTasks, List<Integer> positions, List<Task> newTasks) {
+        if (oldTasks.isEmpty()) {
+            return;
+        }
+        IdentityHashMap<Task, Integer> indexes = new IdentityHashMap<>(oldTasks.size());
+        for (Task task : oldTasks) {
+            indexes.put(task, -1);
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            indexes.replace(tasks.get(i), i);
+        }
+        for (int i = 0; i < oldTasks.size(); i++) {
+            Task oldTask = oldTasks.get(i);
+            Task newTask = newTasks.get(i);
+            int index = indexes.get(oldTask);
+            segment.replace(positions.get(i), newTask);
+            tasks.set(index, newTask);
+            summary.remove(oldTask);
+            summary.add(newTask);
+            for (int j = 0; j < listeners.size(); j++) {
+                listeners.get(j).onTaskRemoved(index, oldTask);
+                listeners.get(j).onTaskAdded(index, newTask);
+            }
+        }
+    }
+
+    /**
+     * Prints the archived tasks, reading them from the archive.
+     * @throws DukeArchiveException when the archive cannot be read.
+     */
+    public String printArchived() throws DukeArchiveException {
+        ArrayList<Task> archivedTasks = new ArrayList<>();
+        if (storage != null) {
+            storage.forEachArchived(archivedTasks::add);
+        }
+        return Message.getArchivedListMsg(archivedTasks);
+    }
+
+    /**
+     * Decides whether the input is to add a new task or find tasks in the existing tasklist.
+     * @param input input used to get the relevant information of Task.
+     * @throws DukeUnknownArgumentsException when the input arguments for the creation of the
+     *     Task is unknown.
+     */
+    public String run(String input) throws DukeUnknownArgumentsException {
+        String output;
+        try {
+            SpecificCommandType command = Parser.inputToSpecificCommand(input);
+            switch (command) {
+            case TODO:
+            case EVENT:
+            case DEADLINE:
+                output = add(input, command);
+                break;
+            case FIND:
+                output = find(input);
+                break;
+            case FILTER:
+                output = filter(input);
+                break;
+            case QUERY:
+                output = query(input);
+                break;
+            case SAVE_VIEW:
+                output = saveView(input);
+                break;
+            case VIEW:
+                output = view(input);
+                break;
+            case CONFLICTS:
+                output = conflicts(input);
+                break;
+            case FREE:
+                output = free(input);
+                break;
+            default:
+                throw new DukeUnknownArgumentsException();
+            }
+        } catch (DukeNoDescriptionException e) {
+            return Message.getErrorMsg(e);
+        } catch (DateTimeParseException e) {
+            return Message.getErrorMsg(e);
+        } catch (DukeArchiveException e) {
+            return Message.getErrorMsg(e);
+        } catch (DukeInvalidFilterException | DukeInvalidQueryException e) {
+            return Message.getErrorMsg(e);
+        } catch (DukeInvalidViewException | DukeSaveFileException e) {
+            return Message.getErrorMsg(e);
+        }
+        return output;
+    }
+
+    private String add(String input, SpecificCommandType command) throws DukeNoDescriptionException,
+            DateTimeParseException, DukeUnknownArgumentsException {
+        int priority = Parser.obtainPriority(input);
+        input = Parser.removePriority(input);
+        List<Integer> dependencyIndexes = Parser.obtainDependencies(input);
+        input = Parser.removeDependencies(input);
+        for (int index : dependencyIndexes) {
+            Objects.checkIndex(index, tasks.size());
+        }
+        Task task;
+        switch (command) {
+        case TODO:
+            task = createTodo(input);
+            break;
+        case DEADLINE:
+            task = createDeadline(input);
+            break;
+        case EVENT:
+            task = createEvent(input);
+            break;
+        default:
+            throw new DukeUnknownArgumentsException();
+        }
+        task.setPriority(priority);
+        ArrayList<Long> ids = new ArrayList<>();
+        for (int index : dependencyIndexes) {
+            ids.add(dependOn(index));
+        }
+        task.setDependencies(ids);
+        List<Event> overlapping = task instanceof Event
+                ? eventIndex.getOverlapping(((Event) task).getRange())
+                : Collections.emptyList();
+        tasks.add(task);
+        attach(task, null);
+        if (!overlapping.isEmpty()) {
+            return Message.getAddMsg(task, tasks.size()) + Message.getOverlapMsg(overlapping);
+        }
+        return Message.getAddMsg(task, tasks.size());
+    }
+
+    /**
+     * Returns the id of the task at the index, so a new task can depend on it. A task without an
+     * id is given one, and its segment is saved again to keep the id.
+     * @param index position of the task that is depended on.
+     * @return id of the task.
+     */
+    private long dependOn(int index) {
+        Task task = tasks.get(index);
+        if (task.getId() > 0) {
+            return task.getId();
+        }
+        long id = dependencies.assignId(task);
+        segments.get(task.getSegment()).markDirty();
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onTaskUpdated(index, task);
+        }
+        return id;
+    }
+
+    /**
+     * Prints the tasks that are not done and do not wait for other tasks, in the order they
+     * became ready. The ready tasks are kept by the DependencyGraph, so only they are looked at.
+     */
+    public String ready() {
+        return Message.getReadyMsg(dependencies.getReady(), dependencies.getBlockedCount());
+    }
+
+    /**
+     * Adds the task to the last segment, or a new segment if the last segment is full.
+     * @param task task to be added.
+     */
+    private void addToSegment(Task task) {
+        if (segments.isEmpty() || segments.get(segments.size() - 1).isFull()) {
+            segments.add(new Segment(segments.size()));
+        }
+        segments.get(segments.size() - 1).add(task);
+    }
+
+    /**
+     * Prints String representation of the TaskList for the user.
+     */
+    public String print() {
+        sort(tasks);
+        return this.print(tasks);
+    }
+
+    /**
+     * Prints the task in the specified tasklist.
+     * @param tasks the tasks used for printing.
+     */
+    private String print(ArrayList<Task> tasks) {
+        return Message.getTaskListMsg(tasks);
+    }
+
+    /**
+     * Prints the open tasks to do next: the tasks with the highest priority first, then the tasks
+     * that are due earliest. Only the first k tasks are taken from the PriorityIndex, so the rest
+     * of the tasks are not sorted.
+     * @param input next input, optionally followed by the number of tasks to show.
+     */
+    public String next(String input) {
+        return Message.getNextMsg(priorities.peek(Parser.parseNextInput(input)));
+    }
+
+    /**
+     * Prints the tasks that match the query of the input, such as
+     * "query type=D and !done and date < 2021-03-01 order by date limit 20". The query is planned
+     * to check as few tasks as the QueryIndex allows.
+     * @param input query input.
+     * @throws DukeNoDescriptionException when the query is empty.
+     * @throws DukeInvalidQueryException when the query cannot be understood.
+     */
+    public String query(String input) throws DukeNoDescriptionException, DukeInvalidQueryException {
+        Query query = Query.parse(Parser.parseQueryInput(input));
+        return Message.getQueryMsg(QueryPlan.plan(query, queryIndex).execute(queryIndex));
+    }
+
+    /**
+     * Prints the pairs of events that overlap during the range of the input, such as
+     * "conflicts 2021-03-01 to 2021-03-31". Only the events during the range are looked at.
+     * @param input conflicts input containing the range.
+     * @throws DukeNoDescriptionException when the range is empty.
+     * @throws DateTimeParseException when the range is not of the right format.
+     */
+    public String conflicts(String input) throws DukeNoDescriptionException {
+        return Message.getConflictsMsg(eventIndex.getConflicts(Parser.parseConflictsInput(input)));
+    }
+
+    /**
+     * Prints the times of the day of the input that no event that is not done takes up, such as
+     * "free 2021-03-12".
+     * @param input free input containing the day.
+     * @throws DukeNoDescriptionException when the day is empty.
+     * @throws DateTimeParseException when the day is not of format: YYYY-MM-DD.
+     */
+    public String free(String input) throws DukeNoDescriptionException {
+        LocalDate day = Parser.parseFreeInput(input);
+        return Message.getFreeMsg(day, eventIndex.getFreeTime(day));
+    }
+
+    /**
+     * Saves the find command of the input as a view, such as "save-view urgent find urgent". The
+     * matching tasks are found once, and are then kept up to date as tasks are added, changed and
+     * removed. The views are saved with the tasks.
+     * @param input save-view input containing the name and find command of the view.
+     * @throws DukeNoDescriptionException when the name or keyword is empty.
+     * @throws DukeInvalidViewException when the name is invalid or the view searches the archive.
+     * @throws DukeSaveFileException when the views cannot be saved.
+     */
+    public String saveView(String input) throws DukeNoDescriptionException, DukeInvalidViewException,
+            DukeSaveFileException {
+        Parser.ViewInput viewInput = Parser.parseSaveViewInput(input);
+        String keyword = Parser.parseFindInput(viewInput.getDefinition());
+        if (keyword.startsWith(FIND_ALL_FLAG)) {
+            throw new DukeInvalidViewException("a view cannot search the archived tasks");
+        }
+        if (storage != null && storage.isReadOnly()) {
+            throw new DukeReadOnlyException();
+        }
+        SavedView view = views.save(viewInput.getName(), viewInput.getDefinition(), keyword, tasks);
+        if (storage != null) {
+            storage.saveViews(views.getDefinitions());
+        }
+        return Message.getSaveViewMsg(view.getName(), view.size());
+    }
+
+    /**
+     * Prints the tasks of the saved view named in the input, which are already up to date.
+     * @param input view input containing the name of the view.
+     * @throws DukeNoDescriptionException when the name is empty.
+     * @throws DukeInvalidViewException when there is no view of the name.
+     */
+    public String view(String input) throws DukeNoDescriptionException, DukeInvalidViewException {
+        String name = Parser.parseViewInput(input);
+        SavedView view = views.get(name);
+        if (view == null) {
+            throw new DukeInvalidViewException(String.format("there is no view named '%s'", name));
+        }
+        return Message.getViewMsg(name, view.getTasks());
+    }
+
+    /**
+     * Prints tasks that match the tag expression of the input, such as "filter #work & !#done".
+     * The expression is answered from the bitmaps of the TagIndex, without looking at the tasks
+     * that do not match.
+     * @param input filter input containing the tag expression.
+     * @throws DukeNoDescriptionException when the tag expression is empty.
+     * @throws DukeInvalidFilterException when the tag expression cannot be understood.
+     */
+    public String filter(String input) throws DukeNoDescriptionException, DukeInvalidFilterException {
+        String expression = Parser.parseFilterInput(input);
+        return Message.getFindMsg(tagIndex.getTasks(TagFilter.evaluate(expression, tagIndex)));
+    }
+
+    /**
+     * Prints tasks that contain input description. Archived tasks are also searched if the
+     * description starts with "--all". The search is recorded as a FindEvent when Flight Recorder
+     * is running.
+     * @param input used to get the description to print the tasks with the description.
+     * @throws DukeNoDescriptionException when the description given is empty.
+     * @throws DukeArchiveException when the archive cannot be read.
+     */
+    public String find(String input) throws DukeNoDescriptionException, DukeArchiveException {
+        String description = Parser.parseFindInput(input);
+        boolean isAll = description.startsWith(FIND_ALL_FLAG);
+        if (isAll) {
+            description = description.substring(FIND_ALL_FLAG.length());
+        }
+        FindEvent event = new FindEvent();
+        event.begin();
+        ArrayList<Task> selectedTask = new ArrayList<>();
+        for (Task task : tasks) {
+            if (task.description.contains(description)) {
+                selectedTask.add(task);
+            }
+        }
+        int[] archivedScanned = new int[1];
+        if (isAll && storage != null) {
+            String archivedDescription = description;
+            storage.forEachArchived(task -> {
+                archivedScanned[0]++;
+                if (task.description.contains(archivedDescription)) {
+                    selectedTask.add(task);
+                }
+            });
+        }
+        if (event.shouldCommit()) {
+            event.term = description;
+            event.matches = selectedTask.size();
+            event.scanned = tasks.size() + archivedScanned[0];
+            event.commit();
+        }
+        return Message.getFindMsg(selectedTask);
+    }
+
+    private void sort(ArrayList<Task> tasks) {
+        Collections.sort(tasks);
+        for (TaskListListener listener : listeners) {
+            listener.onTasksReordered(getTasks());
+        }
+    }
+
+    /**
+     * Represents the numbers of tasks added, changed and removed by a reload.
+     */
+    public static class ReloadResult {
+        private int added;
+        private int changed;
+        private int removed;
+
+        public int getAdded() {
+            return added;
+        }
+
+        public int getChanged() {
+            return changed;
+        }
+
+        public int getRemoved() {
+            return removed;
+        }
+
+        public boolean hasChanges() {
+            return added + changed + removed > 0;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package duke.tasks;
+
+import java.util.List;
+
+/**
+ * Represents a listener of the changes made to a TaskList. Each event gives the position of the
+ * task in the TaskList, so a view of the TaskList can be updated one row at a time.
+ */
+public interface TaskListListener {
+
+    /**
+     * Called after a task is added.
+     * @param index position of the added task.
+     * @param task task that was added.
+     */
+    default void onTaskAdded(int index, Task task) {
+    }
+
+    /**
+     * Called after a task is removed.
+     * @param index position the task was at before it was removed.
+     * @param task task that was removed.
+     */
+    default void onTaskRemoved(int index, Task task) {
+    }
+
+    /**
+     * Called after a task is changed, such as when it is marked as done.
+     * @param index position of the changed task.
+     * @param task task that was changed.
+     */
+    default void onTaskUpdated(int index, Task task) {
+    }
+
+    /**
+     * Called when the listener is added, and by default when the tasks are reordered, with all the
+     * tasks in their order.
+     * @param tasks all the tasks of the TaskList.
+     */
+    default void onTasksReset(List<Task> tasks) {
+    }
+
+    /**
+     * Called after the tasks are sorted, when the same tasks are only in a new order. Listeners
+     * that do not keep the order of the tasks, such as indexes, do nothing, so sorting does not
+     * cost them a pass over the tasks.
+     * @param tasks all the tasks of the TaskList, in their new order.
+     */
+    default void onTasksReordered(List<Task> tasks) {
+        onTasksReset(tasks);
+    }
+}
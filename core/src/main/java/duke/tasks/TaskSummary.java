@@ -0,0 +1,139 @@
+package duke.tasks;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Represents the TaskSummary that counts the tasks of a TaskList by type and whether they are done,
+ * and counts the deadlines that are overdue. The counts are updated as tasks are added, marked as
+ * done and removed, so a summary never has to look at the tasks themselves.
+ */
+public class TaskSummary {
+    private static final int TODO = 0;
+    private static final int DEADLINE = 1;
+    private static final int EVENT = 2;
+    private static final int NOT_DONE = 0;
+    private static final int DONE = 1;
+
+    private final int[][] counts = new int[3][2];
+    private final TreeMap<LocalDate, Integer> openDeadlinesByDate = new TreeMap<>();
+    private final Clock clock;
+    private LocalDate today;
+    private int overdue = 0;
+
+    /**
+     * Constructs an empty TaskSummary that uses the clock to decide which deadlines are overdue.
+     * @param clock clock used to get the current date.
+     */
+    public TaskSummary(Clock clock) {
+        this.clock = clock;
+        today = LocalDate.now(clock);
+    }
+
+    /**
+     * Constructs an empty TaskSummary using the system clock.
+     */
+    public TaskSummary() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Counts a task that was added.
+     * @param task task that was added.
+     */
+    void add(Task task) {
+        counts[getType(task)][task.isDone() ? DONE : NOT_DONE]++;
+        if (isOpenDeadline(task)) {
+            addOpenDeadline(task.getDate(), 1);
+        }
+    }
+
+    /**
+     * Stops counting a task that was removed.
+     * @param task task that was removed.
+     */
+    void remove(Task task) {
+        counts[getType(task)][task.isDone() ? DONE : NOT_DONE]--;
+        if (isOpenDeadline(task)) {
+            addOpenDeadline(task.getDate(), -1);
+        }
+    }
+
+    /**
+     * Moves a task that was not done to the done counts.
+     * @param task task that was marked as done.
+     */
+    void markDone(Task task) {
+        assert task.isDone();
+        int type = getType(task);
+        counts[type][NOT_DONE]--;
+        counts[type][DONE]++;
+        if (type == DEADLINE) {
+            addOpenDeadline(task.getDate(), -1);
+        }
+    }
+
+    public int getTodos(boolean isDone) {
+        return counts[TODO][isDone ? DONE : NOT_DONE];
+    }
+
+    public int getDeadlines(boolean isDone) {
+        return counts[DEADLINE][isDone ? DONE : NOT_DONE];
+    }
+
+    public int getEvents(boolean isDone) {
+        return counts[EVENT][isDone ? DONE : NOT_DONE];
+    }
+
+    /**
+     * Returns number of tasks that are done, or that are not done.
+     * @param isDone whether to count the tasks that are done.
+     * @return number of tasks.
+     */
+    public int getTotal(boolean isDone) {
+        return getTodos(isDone) + getDeadlines(isDone) + getEvents(isDone);
+    }
+
+    /**
+     * Returns number of deadlines that are not done and whose date is before today. Only the
+     * dates that passed since the last call are moved to the overdue count.
+     * @return number of overdue deadlines.
+     */
+    public int getOverdue() {
+        LocalDate now = LocalDate.now(clock);
+        if (now.isAfter(today)) {
+            today = now;
+            Map.Entry<LocalDate, Integer> earliest;
+            while ((earliest = openDeadlinesByDate.firstEntry()) != null
+                    && earliest.getKey().isBefore(today)) {
+                overdue += earliest.getValue();
+                openDeadlinesByDate.pollFirstEntry();
+            }
+        }
+        return overdue;
+    }
+
+    private void addOpenDeadline(LocalDate date, int change) {
+        if (date.isBefore(today)) {
+            overdue += change;
+        } else {
+            openDeadlinesByDate.merge(date, change, (count, added) -> count + added == 0 ? null : count + added);
+        }
+    }
+
+    private static boolean isOpenDeadline(Task task) {
+        return task instanceof Deadline && !task.isDone();
+    }
+
+    private static int getType(Task task) {
+        if (task instanceof Deadline) {
+            return DEADLINE;
+        } else if (task instanceof Event) {
+            return EVENT;
+        } else {
+            return TODO;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package duke.tasks;
+
+import java.time.LocalDate;
+
+/**
+ * Represents Todo subclass of Task that contains description of Task.
+ */
+public class Todo extends Task {
+
+    public static final String TODO_DATE = "0000-01-01";
+
+    /**
+     * Constructs Todo subclass of Task containing the description of the Task.
+     * @param description description of the Todo.
+     */
+    public Todo(String description) {
+        super(description, LocalDate.parse(TODO_DATE));
+    }
+
+    /**
+     * Returns false as a Todo does not have a date.
+     * @return false.
+     */
+    @Override
+    public boolean hasDate() {
+        return false;
+    }
+
+    /**
+     * Appends data representation of the Task, encoded to be saved in save file.
+     * @param data builder the encoded form of Todo is appended to.
+     */
+    @Override
+    public void appendData(StringBuilder data) {
+        data.append("T | ");
+        super.appendData(data);
+        appendDataFields(data);
+    }
+
+    /**
+     * Appends string representation of Todo.
+     * @param output builder the type of Todo, whether it is done and description of Todo are
+     *     appended to.
+     */
+    @Override
+    public void appendTo(StringBuilder output) {
+        output.append("[T]");
+        super.appendTo(output);
+    }
+}
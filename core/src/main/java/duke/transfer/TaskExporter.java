@@ -0,0 +1,37 @@
+package duke.transfer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import duke.tasks.Task;
+
+/**
+ * Represents the TaskExporter that streams tasks to a file in a TransferFormat, one task at a
+ * time.
+ */
+public class TaskExporter {
+
+    /**
+     * Writes the tasks to the file in the format.
+     * @param tasks tasks to be exported.
+     * @param file file the tasks are written to.
+     * @param format format of the file.
+     * @return number of tasks written.
+     * @throws IOException when the file cannot be written.
+     */
+    public static long export(List<Task> tasks, Path file, TransferFormat format) throws IOException {
+        long number = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            format.writeHeader(writer);
+            for (Task task : tasks) {
+                format.writeTask(task, writer, ++number);
+            }
+            format.writeFooter(writer);
+        }
+        return number;
+    }
+}
@@ -0,0 +1,129 @@
+package duke.transfer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import duke.tasks.Task;
+
+/**
+ * Represents the TaskImporter that streams tasks from a file in a TransferFormat. Records are read
+ * in chunks that are parsed in parallel, and the parsed chunks are passed on in the order of the
+ * file. Only a bounded number of chunks are in flight, so the memory used does not depend on the
+ * size of the file.
+ */
+public class TaskImporter {
+    private static final int CHUNK_SIZE = 4096;
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int MAX_CHUNKS_IN_FLIGHT = 2 * THREADS;
+
+    /**
+     * Reads the tasks from the file and passes them to the consumer in batches.
+     * @param file file to be imported.
+     * @param format format of the file.
+     * @param consumer consumer of each batch of parsed tasks, called on the calling thread.
+     * @return number of tasks imported and records skipped.
+     * @throws IOException when the file cannot be read.
+     */
+    public static ImportResult importTasks(Path file, TransferFormat format,
+            Consumer<ArrayList<Task>> consumer) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "duke-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ArrayDeque<Future<Chunk>> inFlight = new ArrayDeque<>();
+        ImportResult result = new ImportResult();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            ArrayList<String> records = new ArrayList<>(CHUNK_SIZE);
+            String record;
+            while ((record = format.readRecord(reader)) != null) {
+                records.add(record);
+                if (records.size() == CHUNK_SIZE) {
+                    submit(executor, inFlight, records, format);
+                    records = new ArrayList<>(CHUNK_SIZE);
+                    while (inFlight.size() >= MAX_CHUNKS_IN_FLIGHT) {
+                        accept(inFlight.poll(), consumer, result);
+                    }
+                }
+            }
+            if (!records.isEmpty()) {
+                submit(executor, inFlight, records, format);
+            }
+            while (!inFlight.isEmpty()) {
+                accept(inFlight.poll(), consumer, result);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+
+    private static void submit(ExecutorService executor, ArrayDeque<Future<Chunk>> inFlight,
+            ArrayList<String> records, TransferFormat format) {
+        inFlight.add(executor.submit(() -> parse(records, format)));
+    }
+
+    private static Chunk parse(ArrayList<String> records, TransferFormat format) {
+        Chunk chunk = new Chunk(records.size());
+        for (String record : records) {
+            try {
+                chunk.tasks.add(format.parse(record));
+            } catch (RuntimeException e) {
+                chunk.skipped++;
+            }
+        }
+        return chunk;
+    }
+
+    private static void accept(Future<Chunk> future, Consumer<ArrayList<Task>> consumer,
+            ImportResult result) throws IOException {
+        Chunk chunk;
+        try {
+            chunk = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        consumer.accept(chunk.tasks);
+        result.imported += chunk.tasks.size();
+        result.skipped += chunk.skipped;
+    }
+
+    private static class Chunk {
+        private final ArrayList<Task> tasks;
+        private int skipped = 0;
+
+        Chunk(int size) {
+            tasks = new ArrayList<>(size);
+        }
+    }
+
+    /**
+     * Represents the number of tasks imported and the number of records that were skipped as
+     * they were not of the right format.
+     */
+    public static class ImportResult {
+        private long imported = 0;
+        private long skipped = 0;
+
+        public long getImported() {
+            return imported;
+        }
+
+        public long getSkipped() {
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,716 @@
+package duke.transfer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import duke.calendar.TimeRange;
+import duke.exceptions.DukeUnknownFormatException;
+import duke.tasks.Deadline;
+import duke.tasks.Event;
+import duke.tasks.Task;
+import duke.tasks.Todo;
+
+/**
+ * Represents the formats tasks can be imported from and exported to. Each format reads and writes
+ * one record at a time, so files of any size can be streamed.
+ */
+public enum TransferFormat {
+    CSV("csv") {
+        private static final String HEADER = "type,done,description,date,tags,priority,id,after";
+        private static final String OLD_HEADER = "type,done,description,date";
+
+        @Override
+        void writeHeader(Writer writer) throws IOException {
+            writer.write(HEADER);
+            writer.write(NEW_LINE);
+        }
+
+        @Override
+        void writeTask(Task task, Writer writer, long number) throws IOException {
+            writer.write(getTypeName(task));
+            writer.write(',');
+            writer.write(Boolean.toString(task.isDone()));
+            writer.write(',');
+            writer.write(quoteCsv(task.getDescription()));
+            writer.write(',');
+            if (task.hasDate()) {
+                writer.write(task.getDate().toString());
+            }
+            writer.write(',');
+            writer.write(quoteCsv(joinTags(task)));
+            writer.write(',');
+            if (task.hasPriority()) {
+                writer.write(Integer.toString(task.getPriority()));
+            }
+            writer.write(',');
+            if (task.getId() > 0) {
+                writer.write(Long.toString(task.getId()));
+            }
+            writer.write(',');
+            writer.write(quoteCsv(joinDependencies(task)));
+            writer.write(NEW_LINE);
+        }
+
+        /**
+         * Returns the next record, which goes on over the following lines while a quoted value is
+         * not closed.
+         */
+        @Override
+        String readRecord(BufferedReader reader) throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && (line.isBlank() || line.equals(HEADER) || line.equals(OLD_HEADER)));
+            if (line == null) {
+                return null;
+            }
+            StringBuilder record = new StringBuilder(line);
+            while (hasOpenQuote(record)) {
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IOException("Quoted value is not closed.");
+                }
+                record.append(NEW_LINE).append(line);
+            }
+            return record.toString();
+        }
+
+        /**
+         * Returns the task of a record, which has the tags, priority and dependencies of the task
+         * after its date unless it was exported before they were.
+         */
+        @Override
+        Task parse(String record) {
+            ArrayList<String> fields = splitCsv(record);
+            if (fields.size() != 4 && fields.size() != 8) {
+                throw new IllegalArgumentException(record);
+            }
+            Task task = createTask(fields.get(0), Boolean.parseBoolean(fields.get(1)), fields.get(2),
+                    fields.get(3));
+            if (fields.size() == 8) {
+                setFields(task, fields.get(4), fields.get(5), fields.get(6), fields.get(7));
+            }
+            return task;
+        }
+    },
+    JSONL("jsonl") {
+        @Override
+        void writeTask(Task task, Writer writer, long number) throws IOException {
+            writer.write("{\"type\":\"");
+            writer.write(getTypeName(task));
+            writer.write("\",\"done\":");
+            writer.write(Boolean.toString(task.isDone()));
+            writer.write(",\"description\":");
+            writer.write(quoteJson(task.getDescription()));
+            if (task.hasDate()) {
+                writer.write(",\"date\":\"");
+                writer.write(task.getDate().toString());
+                writer.write('"');
+            }
+            if (!task.getTags().isEmpty()) {
+                writer.write(",\"tags\":");
+                writer.write(quoteJson(joinTags(task)));
+            }
+            if (task.hasPriority()) {
+                writer.write(",\"priority\":");
+                writer.write(Integer.toString(task.getPriority()));
+            }
+            if (task.getId() > 0) {
+                writer.write(",\"id\":");
+                writer.write(Long.toString(task.getId()));
+            }
+            if (!task.getDependencies().isEmpty()) {
+                writer.write(",\"after\":");
+                writer.write(quoteJson(joinDependencies(task)));
+            }
+            writer.write('}');
+            writer.write(NEW_LINE);
+        }
+
+        @Override
+        String readRecord(BufferedReader reader) throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && line.isBlank());
+            return line;
+        }
+
+        @Override
+        Task parse(String record) {
+            HashMap<String, String> fields = parseJsonObject(record);
+            Task task = createTask(fields.get("type"), Boolean.parseBoolean(fields.get("done")),
+                    fields.get("description"), fields.get("date"));
+            setFields(task, fields.get("tags"), fields.get("priority"), fields.get("id"), fields.get("after"));
+            return task;
+        }
+    },
+    ICS("ics") {
+        private static final String BEGIN = "BEGIN:";
+        private static final String END = "END:";
+
+        @Override
+        void writeHeader(Writer writer) throws IOException {
+            writer.write("BEGIN:VCALENDAR" + ICS_NEW_LINE + "VERSION:2.0" + ICS_NEW_LINE
+                    + "PRODID:-//Duke//Duke Tasks//EN" + ICS_NEW_LINE);
+        }
+
+        @Override
+        void writeTask(Task task, Writer writer, long number) throws IOException {
+            boolean isEvent = task instanceof Event;
+            String component = isEvent ? "VEVENT" : "VTODO";
+            writer.write(BEGIN + component + ICS_NEW_LINE);
+            writer.write("UID:duke-" + number + "@duke" + ICS_NEW_LINE);
+            writer.write("DTSTAMP:" + ICS_TIMESTAMP + ICS_NEW_LINE);
+            writer.write("SUMMARY:" + escapeIcs(task.getDescription()) + ICS_NEW_LINE);
+            if (isEvent) {
+                writeIcsRange(((Event) task).getRange(), writer);
+            } else if (task.hasDate()) {
+                String date = task.getDate().format(DateTimeFormatter.BASIC_ISO_DATE);
+                writer.write("DUE;VALUE=DATE:" + date + ICS_NEW_LINE);
+            }
+            if (isEvent) {
+                writer.write("X-DUKE-DONE:" + (task.isDone() ? "TRUE" : "FALSE") + ICS_NEW_LINE);
+            } else {
+                writer.write("STATUS:" + (task.isDone() ? "COMPLETED" : "NEEDS-ACTION") + ICS_NEW_LINE);
+            }
+            if (!task.getTags().isEmpty()) {
+                writer.write("CATEGORIES:" + joinTags(task) + ICS_NEW_LINE);
+            }
+            if (task.hasPriority()) {
+                writer.write("PRIORITY:" + task.getPriority() + ICS_NEW_LINE);
+            }
+            if (task.getId() > 0) {
+                writer.write("X-DUKE-ID:" + task.getId() + ICS_NEW_LINE);
+            }
+            if (!task.getDependencies().isEmpty()) {
+                writer.write("X-DUKE-AFTER:" + joinDependencies(task) + ICS_NEW_LINE);
+            }
+            writer.write(END + component + ICS_NEW_LINE);
+        }
+
+        @Override
+        void writeFooter(Writer writer) throws IOException {
+            writer.write("END:VCALENDAR" + ICS_NEW_LINE);
+        }
+
+        /**
+         * Writes the start and end of an event, as dates if the event takes up whole days. The
+         * end is left out for events that take up exactly one day.
+         */
+        private void writeIcsRange(TimeRange range, Writer writer) throws IOException {
+            if (range.isAllDay()) {
+                writer.write("DTSTART;VALUE=DATE:" + range.getStart().format(DateTimeFormatter.BASIC_ISO_DATE)
+                        + ICS_NEW_LINE);
+                if (!range.getLastDay().equals(range.getStart().toLocalDate())) {
+                    writer.write("DTEND;VALUE=DATE:" + range.getEnd().format(DateTimeFormatter.BASIC_ISO_DATE)
+                            + ICS_NEW_LINE);
+                }
+                return;
+            }
+            writer.write("DTSTART:" + range.getStart().format(ICS_DATE_TIME) + ICS_NEW_LINE);
+            writer.write("DTEND:" + range.getEnd().format(ICS_DATE_TIME) + ICS_NEW_LINE);
+        }
+
+        /**
+         * Returns the date and time of a DTSTART or DTEND value, which is midnight for a date.
+         */
+        private LocalDateTime parseIcsDateTime(String value) {
+            LocalDate date = LocalDate.parse(value.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE);
+            if (value.length() < ICS_DATE_TIME_LENGTH || value.charAt(8) != 'T') {
+                return date.atStartOfDay();
+            }
+            return LocalDateTime.parse(value.substring(0, ICS_DATE_TIME_LENGTH), ICS_DATE_TIME);
+        }
+
+        /**
+         * Returns the next VTODO or VEVENT component, with folded lines joined.
+         */
+        @Override
+        String readRecord(BufferedReader reader) throws IOException {
+            StringBuilder record = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("BEGIN:VTODO") || line.startsWith("BEGIN:VEVENT")) {
+                    record = new StringBuilder(line);
+                } else if (record != null && (line.startsWith(" ") || line.startsWith("\t"))) {
+                    record.append(line, 1, line.length());
+                } else if (record != null) {
+                    record.append(NEW_LINE).append(line);
+                    if (line.startsWith("END:VTODO") || line.startsWith("END:VEVENT")) {
+                        return record.toString();
+                    }
+                }
+            }
+            return record == null ? null : record.toString();
+        }
+
+        @Override
+        Task parse(String record) {
+            String[] lines = record.split(NEW_LINE);
+            boolean isEvent = lines[0].startsWith("BEGIN:VEVENT");
+            String description = null;
+            String date = null;
+            LocalDateTime start = null;
+            LocalDateTime end = null;
+            boolean isDone = false;
+            String tags = null;
+            String priority = null;
+            String id = null;
+            String after = null;
+            for (String line : lines) {
+                int separator = line.indexOf(':');
+                if (separator < 0) {
+                    continue;
+                }
+                String name = line.substring(0, separator);
+                int parameters = name.indexOf(';');
+                if (parameters >= 0) {
+                    name = name.substring(0, parameters);
+                }
+                String value = line.substring(separator + 1);
+                switch (name) {
+                case "SUMMARY":
+                    description = unescapeIcs(value);
+                    break;
+                case "DUE":
+                    date = LocalDate.parse(value.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE).toString();
+                    break;
+                case "DTSTART":
+                    start = parseIcsDateTime(value);
+                    date = start.toLocalDate().toString();
+                    break;
+                case "DTEND":
+                    end = parseIcsDateTime(value);
+                    break;
+                case "STATUS":
+                    isDone = value.equals("COMPLETED");
+                    break;
+                case "X-DUKE-DONE":
+                    isDone = value.equals("TRUE");
+                    break;
+                case "CATEGORIES":
+                    tags = value;
+                    break;
+                case "PRIORITY":
+                    priority = value;
+                    break;
+                case "X-DUKE-ID":
+                    id = value;
+                    break;
+                case "X-DUKE-AFTER":
+                    after = value;
+                    break;
+                default:
+                    break;
+                }
+            }
+            Task task;
+            if (isEvent && start != null && (end != null || !start.toLocalTime().equals(LocalTime.MIDNIGHT))) {
+                task = createEvent(isDone, description, start, end);
+            } else {
+                String type = isEvent ? "event" : date == null ? "todo" : "deadline";
+                task = createTask(type, isDone, description, date);
+            }
+            setFields(task, tags, priority, id, after);
+            return task;
+        }
+    };
+
+    private static final String NEW_LINE = "\n";
+    private static final String LIST_SEPARATOR = ",";
+    private static final Pattern TAG_PATTERN = Pattern.compile("[A-Za-z][\\w-]*");
+    private static final String ICS_NEW_LINE = "\r\n";
+    private static final DateTimeFormatter ICS_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final int ICS_DATE_TIME_LENGTH = 15;
+    private static final String ICS_TIMESTAMP = LocalDateTime.now(ZoneOffset.UTC)
+            .format(DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'"));
+
+    private final String name;
+
+    TransferFormat(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns string representation of the TransferFormat.
+     * @return name of the format used in commands.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the TransferFormat with the name.
+     * @param name name of the format.
+     * @return TransferFormat with the name.
+     * @throws DukeUnknownFormatException when there is no format with the name.
+     */
+    public static TransferFormat fromName(String name) throws DukeUnknownFormatException {
+        for (TransferFormat format : values()) {
+            if (format.name.equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new DukeUnknownFormatException(name);
+    }
+
+    /**
+     * Returns the TransferFormat based on the extension of the file.
+     * @param file name of the file.
+     * @return TransferFormat of the file.
+     * @throws DukeUnknownFormatException when the extension is not of a known format.
+     */
+    public static TransferFormat fromFileName(String file) throws DukeUnknownFormatException {
+        String extension = file.substring(file.lastIndexOf('.') + 1);
+        if (extension.equalsIgnoreCase("json")) {
+            return JSONL;
+        }
+        return fromName(extension);
+    }
+
+    /**
+     * Writes what comes before the tasks in the file.
+     */
+    void writeHeader(Writer writer) throws IOException {
+    }
+
+    /**
+     * Writes a single task.
+     * @param number position of the task in the file, used where the format needs unique ids.
+     */
+    abstract void writeTask(Task task, Writer writer, long number) throws IOException;
+
+    /**
+     * Writes what comes after the tasks in the file.
+     */
+    void writeFooter(Writer writer) throws IOException {
+    }
+
+    /**
+     * Returns the next record from the reader, or null if there are no more records.
+     */
+    abstract String readRecord(BufferedReader reader) throws IOException;
+
+    /**
+     * Returns the task of a record.
+     * @throws IllegalArgumentException when the record is not of the right format.
+     */
+    abstract Task parse(String record);
+
+    private static String getTypeName(Task task) {
+        if (task instanceof Deadline) {
+            return "deadline";
+        } else if (task instanceof Event) {
+            return "event";
+        } else {
+            return "todo";
+        }
+    }
+
+    private static String joinTags(Task task) {
+        return String.join(LIST_SEPARATOR, task.getTags());
+    }
+
+    private static String joinDependencies(Task task) {
+        StringBuilder joined = new StringBuilder();
+        for (long dependency : task.getDependencies()) {
+            joined.append(joined.length() == 0 ? "" : LIST_SEPARATOR).append(dependency);
+        }
+        return joined.toString();
+    }
+
+    /**
+     * Checks that the description can be saved, as a saved task takes up a single line whose
+     * fields are separated by " | ".
+     * @throws IllegalArgumentException when the description is blank, takes up more than one line
+     *     or has the separator of saved fields.
+     */
+    private static void checkDescription(String description) {
+        if (description == null || description.isBlank() || description.indexOf('\n') >= 0
+                || description.indexOf('\r') >= 0 || description.contains(" | ")) {
+            throw new IllegalArgumentException(description);
+        }
+    }
+
+    /**
+     * Sets the tags, priority, id and dependencies read with a task. Each of them may be missing
+     * or empty.
+     * @throws IllegalArgumentException when one of them is not of the right format.
+     */
+    private static void setFields(Task task, String tags, String priority, String id, String after) {
+        if (tags != null && !tags.isEmpty()) {
+            List<String> tagList = Arrays.asList(tags.split(LIST_SEPARATOR));
+            for (String tag : tagList) {
+                if (!TAG_PATTERN.matcher(tag).matches()) {
+                    throw new IllegalArgumentException(tag);
+                }
+            }
+            task.setTags(tagList);
+        }
+        if (priority != null && !priority.isEmpty()) {
+            int parsed = Integer.parseInt(priority);
+            if (parsed < 0) {
+                throw new IllegalArgumentException(priority);
+            }
+            task.setPriority(parsed);
+        }
+        if (id != null && !id.isEmpty()) {
+            task.setId(parseId(id));
+        }
+        if (after != null && !after.isEmpty()) {
+            ArrayList<Long> dependencies = new ArrayList<>();
+            for (String dependency : after.split(LIST_SEPARATOR)) {
+                dependencies.add(parseId(dependency.trim()));
+            }
+            task.setDependencies(dependencies);
+        }
+    }
+
+    private static long parseId(String id) {
+        long parsed = Long.parseLong(id);
+        if (parsed < 1) {
+            throw new IllegalArgumentException(id);
+        }
+        return parsed;
+    }
+
+    private static Task createTask(String type, boolean isDone, String description, String date) {
+        checkDescription(description);
+        if (type == null) {
+            throw new IllegalArgumentException();
+        }
+        Task task;
+        switch (type) {
+        case "todo":
+            task = new Todo(description);
+            break;
+        case "deadline":
+            task = new Deadline(description, LocalDate.parse(date));
+            break;
+        case "event":
+            task = new Event(description, LocalDate.parse(date));
+            break;
+        default:
+            throw new IllegalArgumentException(type);
+        }
+        if (isDone) {
+            task.done();
+        }
+        return task;
+    }
+
+    /**
+     * Returns an event of the start and end read from a calendar. An event without an end takes
+     * up an hour.
+     * @throws IllegalArgumentException when the event does not end after it starts.
+     */
+    private static Task createEvent(boolean isDone, String description, LocalDateTime start,
+            LocalDateTime end) {
+        checkDescription(description);
+        if (end == null) {
+            end = start.plusHours(1);
+        }
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException();
+        }
+        Task task = new Event(description, new TimeRange(start, end));
+        if (isDone) {
+            task.done();
+        }
+        return task;
+    }
+
+    private static String quoteCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Returns true if a quoted value of the CSV record is not closed, so the record goes on over
+     * the next line. Doubled quotes inside a value are counted twice, so they do not change it.
+     */
+    private static boolean hasOpenQuote(CharSequence record) {
+        int quotes = 0;
+        for (int i = 0; i < record.length(); i++) {
+            if (record.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes % 2 == 1;
+    }
+
+    private static ArrayList<String> splitCsv(String record) {
+        ArrayList<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (isQuoted) {
+                if (c == '"' && i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    isQuoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String quoteJson(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                quoted.append("\\\"");
+                break;
+            case '\\':
+                quoted.append("\\\\");
+                break;
+            case '\n':
+                quoted.append("\\n");
+                break;
+            case '\t':
+                quoted.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    quoted.append(String.format("\\u%04x", (int) c));
+                } else {
+                    quoted.append(c);
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * Returns the fields of a flat JSON object whose values are strings, booleans or numbers.
+     */
+    private static HashMap<String, String> parseJsonObject(String record) {
+        HashMap<String, String> fields = new HashMap<>();
+        int[] position = {skipWhitespace(record, 0)};
+        expect(record, position, '{');
+        while (true) {
+            position[0] = skipWhitespace(record, position[0]);
+            if (record.charAt(position[0]) == '}') {
+                return fields;
+            }
+            String key = readJsonString(record, position);
+            position[0] = skipWhitespace(record, position[0]);
+            expect(record, position, ':');
+            position[0] = skipWhitespace(record, position[0]);
+            String value;
+            if (record.charAt(position[0]) == '"') {
+                value = readJsonString(record, position);
+            } else {
+                int start = position[0];
+                while (position[0] < record.length() && ",} \t".indexOf(record.charAt(position[0])) < 0) {
+                    position[0]++;
+                }
+                value = record.substring(start, position[0]);
+            }
+            fields.put(key, value);
+            position[0] = skipWhitespace(record, position[0]);
+            if (record.charAt(position[0]) == ',') {
+                position[0]++;
+            }
+        }
+    }
+
+    private static String readJsonString(String record, int[] position) {
+        expect(record, position, '"');
+        StringBuilder value = new StringBuilder();
+        while (record.charAt(position[0]) != '"') {
+            char c = record.charAt(position[0]++);
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            char escaped = record.charAt(position[0]++);
+            switch (escaped) {
+            case 'n':
+                value.append('\n');
+                break;
+            case 't':
+                value.append('\t');
+                break;
+            case 'r':
+                value.append('\r');
+                break;
+            case 'b':
+                value.append('\b');
+                break;
+            case 'f':
+                value.append('\f');
+                break;
+            case 'u':
+                value.append((char) Integer.parseInt(record.substring(position[0], position[0] + 4), 16));
+                position[0] += 4;
+                break;
+            default:
+                value.append(escaped);
+            }
+        }
+        position[0]++;
+        return value.toString();
+    }
+
+    private static void expect(String record, int[] position, char c) {
+        if (record.charAt(position[0]) != c) {
+            throw new IllegalArgumentException(record);
+        }
+        position[0]++;
+    }
+
+    private static int skipWhitespace(String record, int position) {
+        while (position < record.length() && Character.isWhitespace(record.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static String escapeIcs(String value) {
+        return value.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,").replace("\n", "\\n");
+    }
+
+    private static String unescapeIcs(String value) {
+        StringBuilder unescaped = new StringBuilder();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char escaped = value.charAt(++i);
+                unescaped.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+}
@@ -0,0 +1,334 @@
+package duke.ui;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.Parser;
+import duke.calendar.TimeRange;
+import duke.exceptions.DukeCorruptedStorageException;
+import duke.exceptions.DukeCreateFileException;
+import duke.exceptions.DukeException;
+import duke.exceptions.DukeNoDescriptionException;
+import duke.exceptions.DukeSaveFileException;
+import duke.query.QueryPlan;
+import duke.sync.TaskSync;
+import duke.tasks.Event;
+import duke.tasks.Task;
+import duke.tasks.TaskList;
+import duke.tasks.TaskSummary;
+import duke.workspaces.Workspaces;
+
+/**
+ * Message class used to create output strings for UI class to be shown as output of duke.gui.Duke.
+ */
+public class Message {
+    private static final String INDENT = "    ";
+    private static final String NEWLINE = System.lineSeparator();
+    private static final String DONE_MSG = INDENT + " Nice! I've marked this task as done:" + NEWLINE
+            + INDENT + INDENT + " ";
+    private static final String DELETE_MSG = INDENT + " Noted. I've removed this task:" + NEWLINE
+            + INDENT + INDENT;
+    private static final String ADD_MSG = INDENT + " Got it. I've added this task:" + NEWLINE
+            + INDENT + INDENT + " ";
+    private static final String END_OF_DAY = "24:00";
+    private static final int TASK_LINE_LENGTH = 64;
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+    public static final String LINE = INDENT
+            + "__________________________________________________"
+            + "______________" + NEWLINE;
+    private static final String START_MSG = INDENT + "Hello! I'm Duke" + NEWLINE
+            + INDENT + "What can I do for you?" + NEWLINE;
+    private static final String BYE_MSG =
+            INDENT + " Bye. Hope to see you again soon!" + NEWLINE;
+
+    public static String getStartMsg() {
+        return START_MSG;
+    }
+
+    public static String getByeMsg() {
+        return BYE_MSG;
+    }
+
+    public static String getErrorMsg(DukeException e) {
+        return INDENT + e;
+    }
+
+    public static String getErrorMsg(NumberFormatException e) {
+        return INDENT + "Please enter an integer as argument. " + e.getMessage();
+    }
+
+    public static String getErrorMsg(IndexOutOfBoundsException e, TaskList taskList) {
+        return String.format(INDENT + "Please enter an integer within your tasks size: %d" + NEWLINE,
+                taskList.size());
+    }
+
+    public static String getErrorMsg(DukeNoDescriptionException e) {
+        return String.format(INDENT + " %s", e);
+    }
+
+    public static String getErrorMsg(DateTimeParseException e) {
+        return INDENT + "Date is not input correctly. Ensure input date is: YYYY-MM-DD, "
+                + "optionally followed by a time HH:MM and 'to' the end.";
+    }
+
+    public static String getErrorMsg(DukeSaveFileException e) {
+        return INDENT + e.toString();
+    }
+
+    public static String getErrorMsg(DukeCreateFileException e) {
+        return INDENT + e.toString();
+    }
+
+    public static String getErrorMsg(DukeCorruptedStorageException e) {
+        return INDENT + e.toString();
+    }
+
+    public static String getSalvageMsg(int numTasks, int numDamaged, String quarantineFile) {
+        return String.format(INDENT + "Some of your saved tasks were damaged. Recovered %d tasks." + NEWLINE
+                + INDENT + "%d damaged records were moved to %s." + NEWLINE, numTasks, numDamaged,
+                quarantineFile);
+    }
+
+    public static String getReadOnlyMsg(String dataDir) {
+        return INDENT + "Another Duke is using " + dataDir + ", so tasks can only be viewed here." + NEWLINE
+                + INDENT + "Its changes are shown here before each command." + NEWLINE;
+    }
+
+    public static String getDoneMsg(Task task) {
+        StringBuilder msg = getBuilder().append(DONE_MSG);
+        task.appendTo(msg);
+        return msg.toString();
+    }
+
+    public static String getDeleteMsg(Task task, int numTasks) {
+        StringBuilder msg = getBuilder().append(DELETE_MSG);
+        task.appendTo(msg);
+        return msg.append(NEWLINE + INDENT + " Now you have ").append(numTasks)
+                .append(" tasks in the list.").toString();
+    }
+
+    public static String getAddMsg(Task t, int taskSize) {
+        StringBuilder msg = getBuilder().append(ADD_MSG);
+        t.appendTo(msg);
+        return msg.append(NEWLINE + INDENT + " Now you have ").append(taskSize)
+                .append(" tasks in the list.").toString();
+    }
+
+    /**
+     * Returns the builder of the current thread, emptied, for the messages of the common
+     * commands. Reusing the builder means only the returned message is created per command.
+     * @return empty builder.
+     */
+    private static StringBuilder getBuilder() {
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        return builder;
+    }
+
+    public static String getReminderMsg(Task task) {
+        return String.format(INDENT + " Reminder! This task is coming up soon:" + NEWLINE
+                + INDENT + INDENT + " %s", task);
+    }
+
+    public static String getImportMsg(long numImported, long numSkipped, String file, int numTasks) {
+        String msg = String.format(INDENT + " Imported %d tasks from %s.", numImported, file);
+        if (numSkipped > 0) {
+            msg += String.format(NEWLINE + INDENT + " Skipped %d records that are not of the right format.",
+                    numSkipped);
+        }
+        return msg + String.format(NEWLINE + INDENT + " Now you have %d tasks in the list.", numTasks);
+    }
+
+    public static String getExportMsg(long numExported, String file, String format) {
+        return String.format(INDENT + " Exported %d tasks to %s as %s.", numExported, file, format);
+    }
+
+    public static String getArchiveMsg(int numArchived, int numTasks) {
+        return String.format(INDENT + " Archived %d done tasks." + NEWLINE
+                + INDENT + " Now you have %d tasks in the list.", numArchived, numTasks);
+    }
+
+    public static String getArchivedListMsg(ArrayList<Task> taskList) {
+        if (taskList.isEmpty()) {
+            return INDENT + "You have no archived tasks.";
+        }
+        String msg = INDENT + "Here are your archived tasks:";
+        msg = getTaskListDetailMsg(taskList, msg);
+        return msg;
+    }
+
+    public static String getSummaryMsg(TaskSummary summary) {
+        return String.format(INDENT + " Here is a summary of your tasks:" + NEWLINE
+                + INDENT + INDENT + " Todos:     %d not done, %d done" + NEWLINE
+                + INDENT + INDENT + " Deadlines: %d not done, %d done" + NEWLINE
+                + INDENT + INDENT + " Events:    %d not done, %d done" + NEWLINE
+                + INDENT + " %d tasks not done, %d done, %d overdue.",
+                summary.getTodos(false), summary.getTodos(true),
+                summary.getDeadlines(false), summary.getDeadlines(true),
+                summary.getEvents(false), summary.getEvents(true),
+                summary.getTotal(false), summary.getTotal(true), summary.getOverdue());
+    }
+
+    public static String getSyncMsg(TaskSync.SyncResult result, String dataDir, int numOfTasks) {
+        if (result.getDifferentLeaves() == 0) {
+            return String.format(INDENT + " Your tasks are already in sync with %s.", dataDir);
+        }
+        return String.format(INDENT + " Synced with %s." + NEWLINE
+                + INDENT + " Here: %d added, %d removed. There: %d added, %d removed." + NEWLINE
+                + INDENT + " Now you have %d tasks in the list.",
+                dataDir, result.getLocalAdded(), result.getLocalRemoved(), result.getRemoteAdded(),
+                result.getRemoteRemoved(), numOfTasks);
+    }
+
+    public static String getReplicationStatusMsg(long appliedSequence, long lastLagMillis,
+            long maxLagMillis, boolean isPromoted) {
+        return String.format(INDENT + " %s Applied up to command #%d." + NEWLINE
+                + INDENT + " Replication lag: %d ms (max %d ms).",
+                isPromoted ? "Promoted to primary." : "Following primary.", appliedSequence,
+                lastLagMillis, maxLagMillis);
+    }
+
+    public static String getTaskListMsg(ArrayList<Task> taskList) {
+        if (taskList.isEmpty()) {
+            return INDENT + "You have no tasks in the list.";
+        }
+        String msg = INDENT + "Here are the tasks in your list:";
+        msg = getTaskListDetailMsg(taskList, msg);
+        return msg;
+    }
+
+    public static String getFindMsg(ArrayList<Task> taskList) {
+        if (taskList.isEmpty()) {
+            return INDENT + "You have no matching tasks in the list.";
+        }
+        String msg = INDENT + "Here are the matching tasks in your list:";
+        msg = getTaskListDetailMsg(taskList, msg);
+        return msg;
+    }
+
+    public static String getNextMsg(List<Task> taskList) {
+        if (taskList.isEmpty()) {
+            return INDENT + "You have no tasks left to do. Well done!";
+        }
+        String msg = INDENT + "Here is what to do next:";
+        msg = getTaskListDetailMsg(taskList, msg);
+        return msg;
+    }
+
+    public static String getReadyMsg(List<Task> taskList, int numBlocked) {
+        String msg = taskList.isEmpty() ? INDENT + "You have no tasks ready to start."
+                : getTaskListDetailMsg(taskList, INDENT + "Here are the tasks you can start now:");
+        if (numBlocked > 0) {
+            msg = msg.concat(String.format(NEWLINE + INDENT
+                    + " %d more tasks are waiting for other tasks to be done.", numBlocked));
+        }
+        return msg;
+    }
+
+    public static String getQueryMsg(QueryPlan.QueryResult result) {
+        String msg = getFindMsg(new ArrayList<>(result.getTasks()));
+        return msg.concat(String.format(NEWLINE + INDENT + "(checked %d of %d tasks using %s)",
+                result.getChecked(), result.getTotal(), result.getPlan()));
+    }
+
+    public static String getOverlapMsg(List<Event> events) {
+        String msg = NEWLINE + INDENT + " Note: this event overlaps with:";
+        for (Event event : events) {
+            msg = msg.concat(NEWLINE + INDENT + INDENT + " " + event);
+        }
+        return msg;
+    }
+
+    public static String getConflictsMsg(List<Event[]> conflicts) {
+        if (conflicts.isEmpty()) {
+            return INDENT + "You have no overlapping events then.";
+        }
+        String msg = INDENT + "Here are the overlapping events:";
+        int index = 1;
+        for (Event[] conflict : conflicts) {
+            msg = msg.concat(String.format(NEWLINE + INDENT + "%d.%s" + NEWLINE + INDENT + INDENT
+                    + "overlaps %s", index, conflict[0], conflict[1]));
+            index++;
+        }
+        return msg;
+    }
+
+    public static String getFreeMsg(LocalDate day, List<TimeRange> freeTime) {
+        if (freeTime.isEmpty()) {
+            return String.format(INDENT + "You have no free time on %s.", Parser.localDateToString(day));
+        }
+        String msg = String.format(INDENT + "Here is your free time on %s:", Parser.localDateToString(day));
+        int index = 1;
+        for (TimeRange range : freeTime) {
+            String end = range.getEnd().toLocalDate().equals(day)
+                    ? Parser.localTimeToString(range.getEnd()) : END_OF_DAY;
+            msg = msg.concat(String.format(NEWLINE + INDENT + "%d.%s to %s", index,
+                    Parser.localTimeToString(range.getStart()), end));
+            index++;
+        }
+        return msg;
+    }
+
+    public static String getSaveViewMsg(String name, int numOfTasks) {
+        return String.format(INDENT + " Saved the view '%s'. It has %d matching tasks.", name, numOfTasks);
+    }
+
+    public static String getViewMsg(String name, List<Task> taskList) {
+        if (taskList.isEmpty()) {
+            return String.format(INDENT + "You have no tasks in the view '%s'.", name);
+        }
+        String msg = String.format(INDENT + "Here are the tasks in the view '%s':", name);
+        return getTaskListDetailMsg(taskList, msg);
+    }
+
+    public static String getReloadMsg(TaskList.ReloadResult result, int numTasks) {
+        if (!result.hasChanges()) {
+            return INDENT + " The save files have no changes made outside Duke.";
+        }
+        return String.format(INDENT + " Reloaded the save files edited outside Duke: %d added, %d changed, "
+                + "%d removed." + NEWLINE + INDENT + " Now you have %d tasks in the list.", result.getAdded(),
+                result.getChanged(), result.getRemoved(), numTasks);
+    }
+
+    public static String getUseMsg(String name, int numOfTasks) {
+        return String.format(INDENT + " Now using workspace '%s'." + NEWLINE
+                + INDENT + " Now you have %d tasks in the list.", name, numOfTasks);
+    }
+
+    public static String getWorkspacesMsg(Workspaces workspaces) {
+        String msg = INDENT + "Here are your workspaces:";
+        int index = 1;
+        for (String name : workspaces.getNames()) {
+            String state = name.equals(workspaces.getActive().getName()) ? " (active)"
+                    : workspaces.isResident(name) ? " (loaded)" : "";
+            msg = msg.concat(String.format(NEWLINE + INDENT + "%d.%s%s", index, name, state));
+            index++;
+        }
+        return msg.concat(String.format(NEWLINE + INDENT + " %d of at most %d workspaces are loaded.",
+                workspaces.getResidentCount(), workspaces.getMaxResident()));
+    }
+
+    /**
+     * Appends a numbered line for each task to the message. The lines are built in one
+     * StringBuilder, so listing n tasks takes time linear in n.
+     * @param taskList tasks to be listed.
+     * @param msg heading of the message.
+     * @return the message with the listed tasks.
+     */
+    public static String getTaskListDetailMsg(List<Task> taskList, String msg) {
+        StringBuilder detail = new StringBuilder(msg.length() + taskList.size() * TASK_LINE_LENGTH).append(msg);
+        int index = 1;
+        for (Task task : taskList) {
+            detail.append(NEWLINE + INDENT).append(index).append('.');
+            task.appendTo(detail);
+            index++;
+        }
+        return detail.toString();
+    }
+
+    public static String getUserInput(String input) {
+        return input + INDENT;
+    }
+}
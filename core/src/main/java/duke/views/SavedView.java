@@ -0,0 +1,89 @@
+package duke.views;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import duke.tasks.Task;
+
+/**
+ * Represents a saved view, a named find command whose matching tasks are kept up to date as the
+ * TaskList changes. The matching tasks are kept in the order of the TaskList, so opening a view
+ * only takes time in the number of matching tasks.
+ */
+public class SavedView {
+    private final String name;
+    private final String definition;
+    private final String keyword;
+    private final LinkedHashSet<Task> matches = new LinkedHashSet<>();
+
+    /**
+     * Constructs an empty SavedView.
+     * @param name name of the view.
+     * @param definition find command the view was saved with.
+     * @param keyword keyword the descriptions of the matching tasks contain.
+     */
+    SavedView(String name, String definition, String keyword) {
+        this.name = name;
+        this.definition = definition;
+        this.keyword = keyword;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Returns true if the task belongs in the view.
+     * @param task task to be checked.
+     * @return true if the description of the task contains the keyword of the view.
+     */
+    boolean matches(Task task) {
+        return task.getDescription().contains(keyword);
+    }
+
+    /**
+     * Adds the task to the view if it matches, or removes it if it no longer matches.
+     * @param task task that was added or changed.
+     */
+    void update(Task task) {
+        if (matches(task)) {
+            matches.add(task);
+        } else {
+            matches.remove(task);
+        }
+    }
+
+    void remove(Task task) {
+        matches.remove(task);
+    }
+
+    /**
+     * Finds the matching tasks again, such as when the order of the tasks changes.
+     * @param tasks all the tasks of the TaskList.
+     */
+    void rebuild(List<Task> tasks) {
+        matches.clear();
+        for (Task task : tasks) {
+            if (matches(task)) {
+                matches.add(task);
+            }
+        }
+    }
+
+    public int size() {
+        return matches.size();
+    }
+
+    /**
+     * Returns the matching tasks in the order of the TaskList.
+     * @return tasks in the view.
+     */
+    public List<Task> getTasks() {
+        return new ArrayList<>(matches);
+    }
+}
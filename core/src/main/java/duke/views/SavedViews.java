@@ -0,0 +1,86 @@
+package duke.views;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import duke.tasks.Task;
+import duke.tasks.TaskListListener;
+
+/**
+ * Represents the saved views of a TaskList. Each change to the TaskList only checks the changed
+ * task against each view, so the views stay up to date without searching the whole TaskList again.
+ */
+public class SavedViews implements TaskListListener {
+    private final LinkedHashMap<String, SavedView> views = new LinkedHashMap<>();
+
+    /**
+     * Saves a view, replacing the view of the same name, and finds its matching tasks.
+     * @param name name of the view.
+     * @param definition find command of the view.
+     * @param keyword keyword the descriptions of the matching tasks contain.
+     * @param tasks all the tasks of the TaskList.
+     * @return the saved view.
+     */
+    public SavedView save(String name, String definition, String keyword, List<Task> tasks) {
+        SavedView view = new SavedView(name, definition, keyword);
+        view.rebuild(tasks);
+        views.put(name, view);
+        return view;
+    }
+
+    /**
+     * Returns the view of the name.
+     * @param name name of the view.
+     * @return the view, or null if there is no view of the name.
+     */
+    public SavedView get(String name) {
+        return views.get(name);
+    }
+
+    /**
+     * Returns the find command of each view, by the name of the view.
+     * @return definitions of the views in the order they were saved.
+     */
+    public Map<String, String> getDefinitions() {
+        LinkedHashMap<String, String> definitions = new LinkedHashMap<>();
+        for (SavedView view : views.values()) {
+            definitions.put(view.getName(), view.getDefinition());
+        }
+        return definitions;
+    }
+
+    public int size() {
+        return views.size();
+    }
+
+    @Override
+    public void onTaskAdded(int index, Task task) {
+        for (SavedView view : views.values()) {
+            if (view.matches(task)) {
+                view.update(task);
+            }
+        }
+    }
+
+    @Override
+    public void onTaskRemoved(int index, Task task) {
+        for (SavedView view : views.values()) {
+            view.remove(task);
+        }
+    }
+
+    @Override
+    public void onTaskUpdated(int index, Task task) {
+        for (SavedView view : views.values()) {
+            view.update(task);
+        }
+    }
+
+    @Override
+    public void onTasksReset(List<Task> tasks) {
+        for (SavedView view : views.values()) {
+            view.rebuild(tasks);
+        }
+    }
+}
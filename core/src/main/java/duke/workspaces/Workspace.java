@@ -0,0 +1,37 @@
+package duke.workspaces;
+
+import duke.storage.Storage;
+import duke.tasks.TaskList;
+
+/**
+ * Represents a named workspace, a TaskList with its own Storage in its own data directory.
+ */
+public class Workspace {
+    private final String name;
+    private final Storage storage;
+    private final TaskList tasks;
+
+    /**
+     * Constructs a Workspace of a loaded TaskList.
+     * @param name name of the workspace.
+     * @param storage Storage of the workspace's data directory.
+     * @param tasks TaskList loaded from the storage.
+     */
+    public Workspace(String name, Storage storage, TaskList tasks) {
+        this.name = name;
+        this.storage = storage;
+        this.tasks = tasks;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public TaskList getTasks() {
+        return tasks;
+    }
+}
@@ -0,0 +1,173 @@
+package duke.workspaces;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import duke.exceptions.DukeCreateDirectoryException;
+import duke.exceptions.DukeCreateFileException;
+import duke.exceptions.DukeSaveFileException;
+import duke.exceptions.DukeWorkspaceException;
+import duke.storage.Storage;
+import duke.tasks.TaskList;
+
+/**
+ * Represents the named workspaces of a data directory. The default workspace is the data
+ * directory itself, and every other workspace has its own data directory in "workspaces". A
+ * workspace is only loaded when it is first used, and at most maxResident workspaces are kept in
+ * memory: when another one is loaded, the least recently used workspace is saved and unloaded.
+ * The active workspace is never unloaded.
+ */
+public class Workspaces {
+    public static final String DEFAULT_WORKSPACE = "default";
+    public static final String MAX_RESIDENT_PROPERTY = "duke.workspaces.max";
+    private static final int DEFAULT_MAX_RESIDENT = 8;
+    private static final String WORKSPACE_DIR = "workspaces";
+
+    private final Path workspaceDir;
+    private final Storage defaultStorage;
+    private final int maxResident;
+    private final LinkedHashMap<String, Workspace> resident = new LinkedHashMap<>(16, 0.75f, true);
+    private Workspace active;
+    private int loads = 0;
+    private int evictions = 0;
+
+    /**
+     * Constructs the Workspaces of the data directory of the default workspace.
+     * @param defaultWorkspace loaded default workspace, which is the active workspace.
+     * @param maxResident most workspaces kept in memory at once.
+     */
+    public Workspaces(Workspace defaultWorkspace, int maxResident) {
+        assert maxResident > 0;
+        this.maxResident = maxResident;
+        defaultStorage = defaultWorkspace.getStorage();
+        workspaceDir = defaultStorage.getDataDir().resolve(WORKSPACE_DIR);
+        active = defaultWorkspace;
+        resident.put(defaultWorkspace.getName(), defaultWorkspace);
+    }
+
+    /**
+     * Constructs the Workspaces of the data directory of the default workspace, keeping as many
+     * workspaces in memory as the "duke.workspaces.max" system property, 8 by default.
+     * @param defaultWorkspace loaded default workspace, which is the active workspace.
+     */
+    public Workspaces(Workspace defaultWorkspace) {
+        this(defaultWorkspace, Math.max(1, Integer.getInteger(MAX_RESIDENT_PROPERTY, DEFAULT_MAX_RESIDENT)));
+    }
+
+    /**
+     * Makes the workspace the active workspace, loading it if it is not in memory. Workspaces that
+     * have not been used for the longest time are unloaded if too many are in memory.
+     * @param name name of the workspace.
+     * @return the active workspace.
+     * @throws DukeWorkspaceException when the workspace cannot be loaded.
+     */
+    public Workspace use(String name) throws DukeWorkspaceException {
+        Workspace workspace = resident.get(name);
+        if (workspace == null) {
+            workspace = load(name);
+            resident.put(name, workspace);
+        }
+        active = workspace;
+        evict();
+        return workspace;
+    }
+
+    public Workspace getActive() {
+        return active;
+    }
+
+    /**
+     * Returns the data directory of the default workspace, which holds the data directories of
+     * the other workspaces.
+     * @return data directory of the default workspace.
+     */
+    public Path getDataDir() {
+        return defaultStorage.getDataDir();
+    }
+
+    /**
+     * Returns true if the workspace is loaded in memory.
+     * @param name name of the workspace.
+     * @return true if the workspace is in memory.
+     */
+    public boolean isResident(String name) {
+        return resident.containsKey(name);
+    }
+
+    public int getResidentCount() {
+        return resident.size();
+    }
+
+    public int getMaxResident() {
+        return maxResident;
+    }
+
+    public int getLoads() {
+        return loads;
+    }
+
+    public int getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the names of all the workspaces, both those on disk and those in memory, sorted
+     * with the default workspace first.
+     * @return names of the workspaces.
+     */
+    public List<String> getNames() {
+        TreeSet<String> names = new TreeSet<>(resident.keySet());
+        names.remove(DEFAULT_WORKSPACE);
+        if (Files.isDirectory(workspaceDir)) {
+            try (Stream<Path> dirs = Files.list(workspaceDir)) {
+                dirs.filter(Files::isDirectory).forEach(dir -> names.add(dir.getFileName().toString()));
+            } catch (IOException e) {
+                // Only the workspaces in memory are listed.
+            }
+        }
+        ArrayList<String> sortedNames = new ArrayList<>();
+        sortedNames.add(DEFAULT_WORKSPACE);
+        sortedNames.addAll(names);
+        return sortedNames;
+    }
+
+    private Workspace load(String name) throws DukeWorkspaceException {
+        try {
+            Storage storage = Storage.open(workspaceDir.resolve(name));
+            storage.shareLock(defaultStorage);
+            loads++;
+            return new Workspace(name, storage, new TaskList(storage));
+        } catch (DukeCreateDirectoryException | DukeCreateFileException e) {
+            throw new DukeWorkspaceException(name);
+        }
+    }
+
+    /**
+     * Saves and unloads the least recently used workspaces until at most maxResident are in
+     * memory. A workspace that cannot be saved is kept in memory, so its changes are not lost.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, Workspace>> entries = resident.entrySet().iterator();
+        while (resident.size() > maxResident && entries.hasNext()) {
+            Workspace workspace = entries.next().getValue();
+            if (workspace == active) {
+                continue;
+            }
+            try {
+                workspace.getTasks().updateSave(workspace.getStorage());
+            } catch (DukeSaveFileException e) {
+                continue;
+            }
+            entries.remove();
+            evictions++;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+import duke.autocomplete.Autocomplete;
+import duke.autocomplete.SuggestionWorker;
+import duke.tasks.Task;
+import duke.tasks.TaskList;
+import duke.tasks.Todo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures how long it takes from a keystroke to its suggestions on TaskLists of up to 1M tasks.
+ * Each simulated keystroke types one more character of the description of a random task after
+ * "find ", first by calling Autocomplete.suggest directly, then through a SuggestionWorker, where
+ * the time is from SuggestionWorker.update to the listener being called with that input.
+ * Run with: gradlew benchmark -Pbenchmark=AutocompleteBenchmark
+ */
+public class AutocompleteBenchmark {
+    private static final int[] SIZES = {1_000, 100_000, 1_000_000};
+    private static final int KEYSTROKES = 20_000;
+    private static final int LIMIT = 8;
+    private static final String[] WORDS = {"review", "write", "fix", "call", "buy", "read", "plan",
+        "report", "pull request", "groceries", "dentist", "slides", "essay", "budget", "invoice"};
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%9s %12s %10s %10s %10s %12s %12s%n", "tasks", "build ms", "p50 us", "p99 us",
+                "p999 us", "worker p50", "worker p99");
+        for (int size : SIZES) {
+            Random random = new Random(size);
+            ArrayList<Task> tasks = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                tasks.add(new Todo(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                        + " " + i));
+            }
+            TaskList taskList = new TaskList();
+            taskList.addAll(tasks);
+            Autocomplete autocomplete = new Autocomplete();
+            long start = System.nanoTime();
+            taskList.addListener(autocomplete);
+            double buildMillis = (System.nanoTime() - start) / 1e6;
+
+            List<String> inputs = keystrokes(tasks, random);
+            for (int i = 0; i < 3; i++) {
+                measureSuggest(autocomplete, inputs);
+            }
+            long[] direct = measureSuggest(autocomplete, inputs);
+            long[] worker = measureWorker(autocomplete, inputs);
+            System.out.printf("%9d %12.1f %10.1f %10.1f %10.1f %12.1f %12.1f%n", size, buildMillis,
+                    percentile(direct, 0.5), percentile(direct, 0.99), percentile(direct, 0.999),
+                    percentile(worker, 0.5), percentile(worker, 0.99));
+        }
+    }
+
+    private static List<String> keystrokes(List<Task> tasks, Random random) {
+        ArrayList<String> inputs = new ArrayList<>(KEYSTROKES);
+        while (inputs.size() < KEYSTROKES) {
+            String description = tasks.get(random.nextInt(tasks.size())).getDescription();
+            for (int length = 1; length <= description.length() && inputs.size() < KEYSTROKES; length++) {
+                inputs.add("find " + description.substring(0, length));
+            }
+        }
+        return inputs;
+    }
+
+    private static long[] measureSuggest(Autocomplete autocomplete, List<String> inputs) {
+        long[] nanos = new long[inputs.size()];
+        for (int i = 0; i < inputs.size(); i++) {
+            long start = System.nanoTime();
+            autocomplete.suggest(inputs.get(i), LIMIT);
+            nanos[i] = System.nanoTime() - start;
+        }
+        return nanos;
+    }
+
+    /**
+     * Types each input only after the suggestions of the one before arrived, as a fast typist
+     * would see them, so every keystroke is timed rather than coalesced.
+     */
+    private static long[] measureWorker(Autocomplete autocomplete, List<String> inputs) throws Exception {
+        long[] nanos = new long[inputs.size()];
+        AtomicLong completed = new AtomicLong(-1);
+        long[] starts = new long[inputs.size()];
+        try (SuggestionWorker worker = new SuggestionWorker(autocomplete, LIMIT, (input, suggestions) -> {
+            int i = (int) completed.get() + 1;
+            nanos[i] = System.nanoTime() - starts[i];
+            completed.set(i);
+        })) {
+            for (int i = 0; i < inputs.size(); i++) {
+                starts[i] = System.nanoTime();
+                worker.update(inputs.get(i));
+                while (completed.get() < i) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+        return nanos;
+    }
+
+    private static double percentile(long[] nanos, double fraction) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.min(sorted.length - 1, sorted.length * fraction)] / 1e3;
+    }
+}
@@ -0,0 +1,75 @@
+import duke.Controller;
+import duke.dispatch.CommandDispatcher;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Measures the throughput of several producer threads running commands on one Controller, either
+ * through a CommandDispatcher, which saves once per batch, or by taking a lock around
+ * Controller.run, which saves once per command. Each producer adds tasks and marks them as done.
+ * Run with: gradlew benchmark -Pbenchmark=CommandDispatcherBenchmark
+ */
+public class CommandDispatcherBenchmark {
+    private static final int COMMANDS = 40_000;
+    private static final int[] PRODUCERS = {1, 2, 4, 8};
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%-9s %14s %14s %10s%n", "producers", "locked cmd/s", "ring cmd/s", "avg batch");
+        for (int producers : PRODUCERS) {
+            Controller locked = newController();
+            double lockedRate = run(producers, input -> {
+                synchronized (locked) {
+                    return CompletableFuture.completedFuture(locked.run(input));
+                }
+            });
+
+            CommandDispatcher dispatcher = new CommandDispatcher(newController());
+            double ringRate = run(producers, dispatcher::submit);
+            dispatcher.close();
+            System.out.printf("%-9d %14.0f %14.0f %10.1f%n", producers, lockedRate, ringRate,
+                    (double) dispatcher.getCommands() / dispatcher.getBatches());
+        }
+    }
+
+    private static Controller newController() throws Exception {
+        Controller controller = new Controller(Files.createTempDirectory("duke-dispatch"));
+        controller.initialise();
+        return controller;
+    }
+
+    /**
+     * Runs the commands split between the producers and returns the commands run per second. Each
+     * producer waits for the reply to its last command only.
+     */
+    private static double run(int producers, Function<String, CompletableFuture<String>> submit)
+            throws Exception {
+        int perProducer = COMMANDS / producers;
+        List<CompletableFuture<String>> lastReplies = new ArrayList<>();
+        ArrayList<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            CompletableFuture<String> lastReply = new CompletableFuture<>();
+            lastReplies.add(lastReply);
+            threads.add(new Thread(() -> {
+                CompletableFuture<String> reply = null;
+                for (int i = 0; i < perProducer; i++) {
+                    String input = i % 2 == 0 ? "todo task " + producer + "-" + i : "done " + (i / 2 + 1);
+                    reply = submit.apply(input);
+                }
+                reply.thenAccept(lastReply::complete);
+            }));
+        }
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (CompletableFuture<String> lastReply : lastReplies) {
+            lastReply.get();
+        }
+        return perProducer * producers / ((System.nanoTime() - start) / 1e9);
+    }
+}
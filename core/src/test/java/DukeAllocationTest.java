@@ -0,0 +1,63 @@
+import duke.Controller;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeAllocationTest {
+    private static final int TASKS = 1000;
+    private static final int WARM_UP_ROUNDS = 2000;
+    private static final int MEASURED_ROUNDS = 1000;
+    private static final long DONE_BUDGET = 1024;
+    private static final long MIXED_BUDGET = 8 * 1024;
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static Controller newController() throws IOException {
+        Path dataDir = Files.createTempDirectory("duke-allocation");
+        Controller controller = new Controller(dataDir);
+        controller.initialise();
+        for (int i = 0; i < TASKS; i++) {
+            controller.run("todo read chapter " + i);
+        }
+        return controller;
+    }
+
+    /**
+     * Returns the bytes allocated per command by running the commands of each round.
+     */
+    private static long measure(Controller controller, String[] commands, int rounds) {
+        long before = allocatedBytes();
+        for (int i = 0; i < rounds; i++) {
+            for (String command : commands) {
+                controller.run(command);
+            }
+        }
+        return (allocatedBytes() - before) / ((long) rounds * commands.length);
+    }
+
+    @Test
+    public void testDoneStaysWithinAllocationBudget() throws IOException {
+        Controller controller = newController();
+        String[] commands = {"done 3", "done 500", "done 1000"};
+        measure(controller, commands, WARM_UP_ROUNDS);
+        long bytesPerCommand = measure(controller, commands, MEASURED_ROUNDS);
+        assertTrue(bytesPerCommand < DONE_BUDGET, bytesPerCommand + " bytes per done");
+    }
+
+    @Test
+    public void testAddDoneDeleteStaysWithinAllocationBudget() throws IOException {
+        Controller controller = newController();
+        String[] commands = {"todo water the plants", "done " + (TASKS + 1), "delete " + (TASKS + 1)};
+        measure(controller, commands, WARM_UP_ROUNDS);
+        long bytesPerCommand = measure(controller, commands, MEASURED_ROUNDS);
+        assertTrue(bytesPerCommand < MIXED_BUDGET, bytesPerCommand + " bytes per command");
+    }
+}
@@ -0,0 +1,99 @@
+import duke.Controller;
+import duke.autocomplete.Autocomplete;
+import duke.autocomplete.SuggestionWorker;
+import duke.tasks.TaskList;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeAutocompleteTest {
+    @Test
+    public void testCommandsAndDescriptionsAreCompleted() throws Exception {
+        TaskList tasks = new TaskList();
+        Autocomplete autocomplete = new Autocomplete();
+        tasks.addListener(autocomplete);
+        tasks.run("todo read book");
+        tasks.run("todo Return book #library");
+        tasks.run("deadline read book /by 2021-03-12");
+        tasks.run("todo water plants");
+
+        assertEquals(List.of("deadline", "delete"), autocomplete.suggest("de", 8));
+        assertEquals(List.of(), autocomplete.suggest("list", 8));
+        assertEquals(List.of("find read book", "find Return book"), autocomplete.suggest("find re", 8));
+        assertEquals(List.of("find read book"), autocomplete.suggest("find RE", 1));
+        assertEquals(List.of("find water plants"), autocomplete.suggest("find  wat", 8));
+        assertEquals(List.of(), autocomplete.suggest("todo re", 8));
+        assertEquals(3, autocomplete.size());
+
+        tasks.deleteTask("delete 1");
+        assertEquals(List.of("find read book", "find Return book"), autocomplete.suggest("find re", 8));
+        tasks.deleteTask("delete 2");
+        assertEquals(List.of("find Return book"), autocomplete.suggest("find re", 8));
+        tasks.print();
+        assertEquals(2, autocomplete.size());
+    }
+
+    @Test
+    public void testOnlyFindCompletesDescriptions() throws Exception {
+        Controller controller = new Controller(Files.createTempDirectory("duke-autocomplete"));
+        controller.initialise();
+        Autocomplete autocomplete = controller.startAutocomplete();
+        controller.run("todo read book");
+        controller.run("deadline return book /by 2021-03-12");
+
+        assertEquals(List.of("find return book"), autocomplete.suggest("find ret", 8));
+        assertEquals(List.of(), autocomplete.suggest("done ret", 8));
+        assertEquals(List.of(), autocomplete.suggest("delete ret", 8));
+        assertTrue(controller.run("done 2").contains("[D][X] return book"));
+        assertTrue(controller.run("done return book").contains("Please enter an integer as argument"));
+        assertTrue(controller.run("done -1").contains("within your tasks size"));
+        assertTrue(controller.run("done 5").contains("within your tasks size"));
+
+        controller.run("use work");
+        controller.run("todo write report");
+        assertEquals(List.of("find write report"), autocomplete.suggest("find w", 8));
+        assertEquals(List.of(), autocomplete.suggest("find ret", 8));
+    }
+
+    @Test
+    public void testWorkerCompletesOnlyLatestInputAfterBurst() throws Exception {
+        Autocomplete autocomplete = new Autocomplete();
+        CountDownLatch isFirstRunning = new CountDownLatch(1);
+        CountDownLatch canFinishFirst = new CountDownLatch(1);
+        CountDownLatch isLatestDone = new CountDownLatch(1);
+        List<String> completed = Collections.synchronizedList(new ArrayList<>());
+        try (SuggestionWorker worker = new SuggestionWorker(autocomplete, 8, (input, suggestions) -> {
+            completed.add(input);
+            if (input.equals("f")) {
+                isFirstRunning.countDown();
+                awaitQuietly(canFinishFirst);
+            } else if (input.equals("fin") && suggestions.equals(List.of("find"))) {
+                isLatestDone.countDown();
+            }
+        })) {
+            worker.update("f");
+            assertTrue(isFirstRunning.await(10, TimeUnit.SECONDS));
+            worker.update("fi");
+            worker.update("fin");
+            canFinishFirst.countDown();
+            assertTrue(isLatestDone.await(10, TimeUnit.SECONDS));
+        }
+        assertEquals(List.of("f", "fin"), completed);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
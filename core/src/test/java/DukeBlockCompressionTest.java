@@ -0,0 +1,103 @@
+import duke.storage.BlockCompression;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeBlockCompressionTest {
+    private static final int MAGIC_LENGTH = 4;
+
+    @Test
+    public void testCompressedFileOfSeveralBlocksIsReadBack() throws IOException {
+        Path file = Files.createTempFile("duke-blocks", ".txt");
+        String text = sampleText();
+        try (BufferedWriter writer = BlockCompression.newWriter(file, true)) {
+            writer.write(text);
+        }
+        assertTrue(BlockCompression.isCompressed(file));
+        assertTrue(Files.size(file) < text.length() / 2);
+        assertEquals(text, read(file));
+    }
+
+    @Test
+    public void testFileWithoutHeaderIsReadAsPlainText() throws IOException {
+        Path file = Files.createTempFile("duke-blocks", ".txt");
+        try (BufferedWriter writer = BlockCompression.newWriter(file, false)) {
+            writer.write("T | 0 | read book\n");
+        }
+        assertFalse(BlockCompression.isCompressed(file));
+        assertEquals("T | 0 | read book\n", read(file));
+    }
+
+    @Test
+    public void testTruncatedOrShortBlocksAreRejected() throws IOException {
+        Path file = Files.createTempFile("duke-blocks", ".txt");
+        try (BufferedWriter writer = BlockCompression.newWriter(file, true)) {
+            writer.write(sampleText());
+        }
+        byte[] bytes = Files.readAllBytes(file);
+
+        Path truncated = Files.createTempFile("duke-blocks", ".txt");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 10));
+        assertThrows(IOException.class, () -> read(truncated));
+
+        Path longerThanInflated = Files.createTempFile("duke-blocks", ".txt");
+        byte[] changed = bytes.clone();
+        ByteBuffer.wrap(changed).putInt(MAGIC_LENGTH, ByteBuffer.wrap(bytes).getInt(MAGIC_LENGTH) + 1);
+        Files.write(longerThanInflated, changed);
+        assertThrows(IOException.class, () -> read(longerThanInflated));
+
+        Path shorterThanInflated = Files.createTempFile("duke-blocks", ".txt");
+        changed = bytes.clone();
+        ByteBuffer.wrap(changed).putInt(MAGIC_LENGTH, ByteBuffer.wrap(bytes).getInt(MAGIC_LENGTH) - 1);
+        Files.write(shorterThanInflated, changed);
+        assertThrows(IOException.class, () -> read(shorterThanInflated));
+    }
+
+    @Test
+    public void testBlockLengthsLargerThanABlockAreRejected() throws IOException {
+        Path file = Files.createTempFile("duke-blocks", ".txt");
+        try (BufferedWriter writer = BlockCompression.newWriter(file, true)) {
+            writer.write(sampleText());
+        }
+        byte[] bytes = Files.readAllBytes(file);
+
+        for (int offset : new int[] {MAGIC_LENGTH, MAGIC_LENGTH + 4}) {
+            Path corrupted = Files.createTempFile("duke-blocks", ".txt");
+            byte[] changed = bytes.clone();
+            ByteBuffer.wrap(changed).putInt(offset, Integer.MAX_VALUE);
+            Files.write(corrupted, changed);
+            assertThrows(IOException.class, () -> read(corrupted));
+        }
+    }
+
+    private static String sampleText() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; text.length() < 200_000; i++) {
+            text.append("T | 0 | task number ").append(i).append(" | tags:work | priority:2\n");
+        }
+        return text.toString();
+    }
+
+    private static String read(Path file) throws IOException {
+        StringBuilder text = new StringBuilder();
+        try (BufferedReader reader = BlockCompression.newReader(file)) {
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) >= 0) {
+                text.append(buffer, 0, read);
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,120 @@
+import duke.Controller;
+import duke.exceptions.DukeCorruptedStorageException;
+import duke.storage.StorageDecoder;
+import duke.tasks.DependencyGraph;
+import duke.tasks.Task;
+import duke.tasks.TaskList;
+import duke.tasks.Todo;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeDependencyTest {
+    @Test
+    public void testDependentTaskIsReadyOnceItsDependenciesAreDone() throws IOException {
+        Path dataDir = Files.createTempDirectory("duke-dependencies");
+        Controller controller = new Controller(dataDir);
+        controller.initialise();
+        controller.run("todo build");
+        controller.run("todo test");
+        String added = controller.run("todo deploy after #1, #2");
+        assertTrue(added.contains("[T][ ] deploy (waiting on 2)"), added);
+        assertTrue(controller.run("todo broken after #9").contains("Please enter an integer within"));
+        assertTrue(controller.run("list").contains("2.[T][ ] deploy (waiting on 2)"));
+
+        String ready = controller.run("ready");
+        assertTrue(ready.contains("1.[T][ ] build"), ready);
+        assertTrue(ready.contains("2.[T][ ] test"), ready);
+        assertFalse(ready.contains("deploy"), ready);
+        assertTrue(ready.contains("1 more tasks are waiting"), ready);
+
+        controller.run("done 1");
+        assertFalse(controller.run("ready").contains("deploy"));
+        Controller restarted = new Controller(dataDir);
+        restarted.initialise();
+        String list = restarted.run("list");
+        assertTrue(list.contains("[T][ ] deploy (waiting on 1)"), list);
+        assertTrue(list.contains("2.[T][ ] test"), list);
+        restarted.run("done 2");
+        ready = restarted.run("ready");
+        assertTrue(ready.contains("1.[T][ ] deploy"), ready);
+        assertFalse(ready.contains("waiting"), ready);
+    }
+
+    @Test
+    public void testDependenciesAreSavedAndCyclesAreIgnored() throws DukeCorruptedStorageException {
+        Task task = StorageDecoder.decodeTask("T | 0 | deploy | id:3 | after:1,2");
+        assertEquals(3, task.getId());
+        assertEquals(List.of(1L, 2L), task.getDependencies());
+        assertEquals("T | 0 | deploy | id:3 | after:1,2", task.data());
+
+        TaskList taskList = new TaskList();
+        taskList.addAll(List.of(StorageDecoder.decodeTask("T | 0 | a | id:1 | after:2"),
+                StorageDecoder.decodeTask("T | 0 | b | id:2 | after:1")));
+        assertTrue(taskList.ready().contains("1.[T][ ] a"));
+        assertFalse(taskList.ready().contains("[T][ ] b"));
+    }
+
+    @Test
+    public void testReadyTasksMatchDependenciesCheckedOneByOne() {
+        Random random = new Random(7);
+        DependencyGraph graph = new DependencyGraph();
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Todo task = new Todo("task " + i);
+            ArrayList<Long> dependencies = new ArrayList<>();
+            for (int j = 0; j < random.nextInt(4) && !tasks.isEmpty(); j++) {
+                dependencies.add(graph.assignId(tasks.get(random.nextInt(tasks.size()))));
+            }
+            task.setDependencies(dependencies);
+            tasks.add(task);
+            graph.onTaskAdded(i, task);
+        }
+        for (int i = 0; i < 1500; i++) {
+            Task task = tasks.get(random.nextInt(tasks.size()));
+            if (random.nextInt(4) == 0) {
+                tasks.remove(task);
+                graph.onTaskRemoved(0, task);
+            } else if (!task.isDone()) {
+                task.done();
+                graph.onTaskUpdated(0, task);
+            }
+            if (i % 100 == 0) {
+                assertEquals(expectedReady(tasks), new HashSet<>(graph.getReady()));
+            }
+        }
+        assertEquals(expectedReady(tasks), new HashSet<>(graph.getReady()));
+    }
+
+    private static HashSet<Task> expectedReady(List<Task> tasks) {
+        HashMap<Long, Task> tasksById = new HashMap<>();
+        for (Task task : tasks) {
+            if (task.getId() > 0) {
+                tasksById.put(task.getId(), task);
+            }
+        }
+        HashSet<Task> ready = new HashSet<>();
+        for (Task task : tasks) {
+            boolean isReady = !task.isDone();
+            for (long dependency : task.getDependencies()) {
+                Task dependencyTask = tasksById.get(dependency);
+                isReady &= dependencyTask == null || dependencyTask.isDone();
+            }
+            if (isReady) {
+                ready.add(task);
+            }
+        }
+        return ready;
+    }
+}
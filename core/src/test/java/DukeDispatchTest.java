@@ -0,0 +1,160 @@
+import duke.Controller;
+import duke.dispatch.CommandDispatcher;
+import duke.dispatch.CommandServer;
+import duke.dispatch.MpscRingBuffer;
+import duke.replication.Follower;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeDispatchTest {
+    @Test
+    public void testRingBufferKeepsOrderWhenItWrapsAround() {
+        MpscRingBuffer<Integer> ring = new MpscRingBuffer<>(4);
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(ring.offer(lap * 4 + i));
+            }
+            assertFalse(ring.offer(-1));
+            ArrayList<Integer> drained = new ArrayList<>();
+            assertEquals(4, ring.drain(drained::add, 10));
+            assertEquals(Arrays.asList(lap * 4, lap * 4 + 1, lap * 4 + 2, lap * 4 + 3), drained);
+            assertNull(ring.poll());
+            assertTrue(ring.isEmpty());
+        }
+    }
+
+    @Test
+    public void testConcurrentProducersKeepTheirOrder() throws Exception {
+        Path dataDir = Files.createTempDirectory("duke-dispatch");
+        Controller controller = new Controller(dataDir);
+        controller.initialise();
+        CommandDispatcher dispatcher = new CommandDispatcher(controller, 64, 16);
+        int producers = 4;
+        int perProducer = 250;
+        List<List<CompletableFuture<String>>> replies = new ArrayList<>();
+        ArrayList<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            List<CompletableFuture<String>> producerReplies = new ArrayList<>();
+            replies.add(producerReplies);
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    producerReplies.add(dispatcher.submit(String.format("todo task %d-%03d", producer, i)));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (List<CompletableFuture<String>> producerReplies : replies) {
+            int previousSize = 0;
+            for (CompletableFuture<String> reply : producerReplies) {
+                String output = reply.get();
+                assertTrue(output.contains("Got it. I've added this task:"), output);
+                int size = Integer.parseInt(output.replaceAll("(?s).*Now you have (\\d+) tasks.*", "$1"));
+                assertTrue(size > previousSize);
+                previousSize = size;
+            }
+        }
+        dispatcher.close();
+        assertTrue(dispatcher.submit("list").isCompletedExceptionally());
+        assertEquals(producers * perProducer, dispatcher.getCommands());
+        assertTrue(dispatcher.getBatches() <= dispatcher.getCommands());
+
+        Controller restarted = new Controller(dataDir);
+        restarted.initialise();
+        assertTrue(restarted.run("list").contains((producers * perProducer) + ".[T][ ] task"));
+    }
+
+    @Test
+    public void testBatchIsSavedOnceAndReplicatedInOrder() throws Exception {
+        Path spoolDir = Files.createTempDirectory("duke-spool");
+        Path primaryDir = Files.createTempDirectory("duke-primary");
+        Controller primary = new Controller(primaryDir);
+        primary.initialise();
+        primary.startReplication(spoolDir);
+        List<String> outputs = primary.runBatch(Arrays.asList("todo read book", "done 5", "list",
+                "todo buy milk", "done 2"));
+        assertEquals(5, outputs.size());
+        assertTrue(outputs.get(1).contains("within your tasks size"), outputs.get(1));
+        assertTrue(outputs.get(2).contains("1.[T][ ] read book"), outputs.get(2));
+        assertTrue(outputs.get(4).contains("[T][X] buy milk"), outputs.get(4));
+
+        Follower follower = new Follower(spoolDir, Files.createTempDirectory("duke-follower"));
+        follower.initialise();
+        assertEquals(4, follower.poll());
+        Controller restarted = new Controller(primaryDir);
+        restarted.initialise();
+        assertTrue(restarted.run("list").contains("2.[T][X] buy milk"));
+    }
+
+    @Test
+    public void testServerRepliesInOrder() throws Exception {
+        Path dataDir = Files.createTempDirectory("duke-server");
+        Controller controller = new Controller(dataDir);
+        controller.initialise();
+        CommandDispatcher dispatcher = new CommandDispatcher(controller);
+        try (CommandServer server = CommandServer.start(dispatcher, 0, dataDir)) {
+            String token = Files.readString(dataDir.resolve(CommandServer.TOKEN_FILE));
+            if (Files.getFileStore(dataDir).supportsFileAttributeView("posix")) {
+                assertEquals("rw-------", PosixFilePermissions.toString(
+                        Files.getPosixFilePermissions(dataDir.resolve(CommandServer.TOKEN_FILE))));
+            }
+            List<String> replies = send(server, token + "\ntodo read book\ntodo buy milk\nlist\nbye\n");
+            assertEquals(3, replies.size());
+            assertTrue(replies.get(0).contains("read book"));
+            assertTrue(replies.get(2).contains("2.[T][ ] read book"), replies.get(2));
+
+            replies = send(server, "todo lock me out\nlist\n");
+            assertEquals(1, replies.size());
+            assertTrue(replies.get(0).contains("must be the token"), replies.get(0));
+            assertFalse(controller.run("list").contains("lock me out"));
+        }
+        assertFalse(Files.exists(dataDir.resolve(CommandServer.TOKEN_FILE)));
+        dispatcher.close();
+    }
+
+    private static List<String> send(CommandServer server, String lines) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+            writer.write(lines);
+            writer.flush();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.UTF_8));
+            ArrayList<String> replies = new ArrayList<>();
+            StringBuilder reply = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.equals(CommandServer.END_OF_REPLY)) {
+                    replies.add(reply.toString());
+                    reply.setLength(0);
+                } else {
+                    reply.append(line).append('\n');
+                }
+            }
+            return replies;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+import duke.Controller;
+import duke.calendar.IntervalTree;
+import duke.calendar.TimeRange;
+import duke.exceptions.DukeCorruptedStorageException;
+import duke.storage.StorageDecoder;
+import duke.tasks.Event;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeEventTest {
+    @Test
+    public void testIntervalTreeFindsSameEventsAsComparingAll() {
+        Random random = new Random(42);
+        LocalDateTime origin = LocalDateTime.parse("2021-03-01T00:00");
+        IntervalTree<Event> tree = new IntervalTree<>();
+        ArrayList<Event> events = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            LocalDateTime start = origin.plusMinutes(random.nextInt(60 * 24 * 60));
+            Event event = new Event("event " + i, new TimeRange(start, start.plusMinutes(1 + random.nextInt(600))));
+            events.add(event);
+            tree.add(event, event.getRange());
+        }
+        for (int i = 0; i < 500; i++) {
+            Event removed = events.remove(random.nextInt(events.size()));
+            tree.remove(removed);
+        }
+        assertEquals(events.size(), tree.size());
+
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = origin.plusMinutes(random.nextInt(60 * 24 * 60));
+            TimeRange range = new TimeRange(start, start.plusMinutes(1 + random.nextInt(24 * 60)));
+            ArrayList<Event> found = new ArrayList<>();
+            tree.forEachOverlapping(range, found::add);
+            long expected = events.stream().filter(event -> event.getRange().overlaps(range)).count();
+            assertEquals(expected, found.size());
+            for (int j = 1; j < found.size(); j++) {
+                assertFalse(found.get(j).getRange().getStart().isBefore(found.get(j - 1).getRange().getStart()));
+            }
+        }
+    }
+
+    @Test
+    public void testEventRangesAreSavedAndOldEventsLoad() throws DukeCorruptedStorageException {
+        Event meeting = new Event("meeting", new TimeRange(LocalDateTime.parse("2021-03-12T14:00"),
+                LocalDateTime.parse("2021-03-12T15:30")));
+        assertEquals("E | 0 | meeting | 2021-03-12 | at:2021-03-12T14:00/2021-03-12T15:30", meeting.data());
+        assertEquals("[E][ ] meeting (at: Mar 12 2021 14:00 to 15:30)", meeting.toString());
+        Event decoded = (Event) StorageDecoder.decodeTask(meeting.data());
+        assertEquals(meeting.getRange(), decoded.getRange());
+
+        Event allDay = new Event("holiday", LocalDate.parse("2021-03-12"));
+        assertEquals("E | 0 | holiday | 2021-03-12", allDay.data());
+        Event oldEvent = (Event) StorageDecoder.decodeTask("E | 1 | holiday | 2021-03-12");
+        assertEquals(TimeRange.ofDay(LocalDate.parse("2021-03-12")), oldEvent.getRange());
+        assertTrue(oldEvent.isDone());
+    }
+
+    @Test
+    public void testConflictsAndFreeTime() throws IOException {
+        Path dataDir = Files.createTempDirectory("duke-events");
+        Controller controller = new Controller(dataDir);
+        controller.initialise();
+        assertFalse(controller.run("event standup /at 2021-03-12 09:00 to 09:30").contains("overlaps"));
+        controller.run("event review /at 2021-03-12 14:00 to 16:00");
+        String added = controller.run("event planning /at 2021-03-12 15:00 to 17:00");
+        assertTrue(added.contains("Note: this event overlaps with:"), added);
+        assertTrue(added.contains("review  (at: Mar 12 2021 14:00 to 16:00)"), added);
+        controller.run("event lunch /at 2021-03-13 12:00");
+        controller.run("event conference /at 2021-03-13 to 2021-03-14");
+
+        String conflicts = controller.run("conflicts 2021-03-01 to 2021-03-31");
+        assertTrue(conflicts.contains("1.[E][ ] review  (at: Mar 12 2021 14:00 to 16:00)"), conflicts);
+        assertTrue(conflicts.contains("overlaps [E][ ] planning"), conflicts);
+        assertTrue(conflicts.contains("2.[E][ ] conference  (at: Mar 13 2021 to Mar 14 2021)"), conflicts);
+        assertTrue(conflicts.contains("overlaps [E][ ] lunch"), conflicts);
+        assertFalse(conflicts.contains("3."), conflicts);
+        assertTrue(controller.run("conflicts 2021-03-12 09:00 to 12:00").contains("no overlapping events"));
+
+        String free = controller.run("free 2021-03-12");
+        assertTrue(free.contains("1.00:00 to 09:00"), free);
+        assertTrue(free.contains("2.09:30 to 14:00"), free);
+        assertTrue(free.contains("3.17:00 to 24:00"), free);
+        assertTrue(controller.run("free 2021-03-13").contains("no free time"));
+        assertTrue(controller.run("event broken /at 2021-03-12 14:00 to 13:00").contains("Date is not input"));
+
+        controller.run("done 3");
+        assertTrue(controller.run("free 2021-03-12").contains("3.16:00 to 24:00"));
+
+        Controller restarted = new Controller(dataDir);
+        restarted.initialise();
+        assertTrue(restarted.run("conflicts 2021-03-12").contains("no overlapping events"));
+        assertTrue(restarted.run("list").contains("standup  (at: Mar 12 2021 09:00 to 09:30)"));
+    }
+
+    @Test
+    public void testEachEventIsIndexedOnce() throws IOException {
+        Path dataDir = Files.createTempDirectory("duke-events");
+        Controller controller = new Controller(dataDir);
+        controller.initialise();
+        controller.run("event review /at 2021-03-12 14:00 to 16:00");
+
+        Controller restarted = new Controller(dataDir);
+        restarted.initialise();
+        assertTrue(restarted.run("conflicts 2021-03-12").contains("no overlapping events"));
+        String added = restarted.run("event planning /at 2021-03-12 15:00 to 17:00");
+        assertEquals(1, added.split("review ").length - 1, added);
+        String conflicts = restarted.run("conflicts 2021-03-12");
+        assertTrue(conflicts.contains("1.[E][ ] review  (at: Mar 12 2021 14:00 to 16:00)"), conflicts);
+        assertEquals(1, conflicts.split("overlaps ").length - 1, conflicts);
+        assertFalse(conflicts.contains("2."), conflicts);
+    }
+}
@@ -0,0 +1,66 @@
+import duke.Controller;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeFlightRecorderTest {
+    @Test
+    public void testCommandsSavesLoadsAndFindsAreRecorded() throws Exception {
+        Configuration configuration;
+        try (Reader reader = new InputStreamReader(
+                DukeFlightRecorderTest.class.getResourceAsStream("/jfr/duke.jfc"), StandardCharsets.UTF_8)) {
+            configuration = Configuration.create(reader);
+        }
+        Path recordingFile = Files.createTempFile("duke", ".jfr");
+        try (Recording recording = new Recording(configuration)) {
+            recording.start();
+            Controller controller = new Controller(Files.createTempDirectory("duke-jfr"));
+            controller.initialise();
+            controller.run("todo read book");
+            controller.run("todo buy milk");
+            controller.run("find book");
+            controller.run("done 9");
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+
+        List<RecordedEvent> commands = ofType(events, "duke.Command");
+        assertEquals(4, commands.size());
+        assertEquals("ADD", commands.get(0).getString("type"));
+        assertEquals(14, commands.get(0).getInt("inputLength"));
+        assertEquals("ok", commands.get(0).getString("outcome"));
+        assertEquals("IndexOutOfBoundsException", commands.get(3).getString("outcome"));
+
+        List<RecordedEvent> finds = ofType(events, "duke.Find");
+        assertEquals(1, finds.size());
+        assertEquals("book", finds.get(0).getString("term"));
+        assertEquals(1, finds.get(0).getInt("matches"));
+        assertEquals(2, finds.get(0).getInt("scanned"));
+
+        List<RecordedEvent> saves = ofType(events, "duke.Save");
+        assertFalse(saves.isEmpty());
+        assertTrue(saves.get(saves.size() - 1).getLong("bytes") > 0);
+        assertEquals(1, ofType(events, "duke.Load").size());
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name))
+                .sorted((first, second) -> first.getStartTime().compareTo(second.getStartTime()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,165 @@
+import duke.Controller;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeInstanceTest {
+    private static final String READ_ONLY = "can only be viewed";
+    private static final String END_OF_REPLY = ".";
+
+    @Test
+    public void testReadOnlyInstanceSeesSavesOfOwnerInAnotherProcess() throws Exception {
+        Path dataDir = Files.createTempDirectory("duke-instances");
+        Process owner = launch("serve", dataDir.toString());
+        try (BufferedReader ownerOutput = reader(owner);
+                BufferedWriter ownerInput = writer(owner)) {
+            assertEquals("ready", ownerOutput.readLine());
+            Controller viewer = new Controller(dataDir);
+            assertTrue(viewer.initialise().contains(READ_ONLY));
+
+            send(ownerInput, ownerOutput, "todo written by owner");
+            String list = viewer.run("list");
+            assertTrue(list.contains("1 added, 0 changed, 0 removed"), list);
+            assertTrue(list.contains("written by owner"), list);
+
+            assertTrue(viewer.run("todo written by viewer").contains(READ_ONLY));
+            assertTrue(viewer.run("done 1").contains(READ_ONLY));
+            assertTrue(viewer.run("save-view mine find viewer").contains(READ_ONLY));
+            list = viewer.run("list");
+            assertFalse(list.contains("written by viewer"), list);
+            assertTrue(list.contains("[T][ ] written by owner"), list);
+
+            send(ownerInput, ownerOutput, "done 1");
+            assertTrue(viewer.run("list").contains("[T][X] written by owner"));
+
+            send(ownerInput, ownerOutput, "bye");
+            assertTrue(owner.waitFor(30, TimeUnit.SECONDS));
+            assertTrue(viewer.run("todo written by viewer").contains("Now you have 2 tasks"));
+            viewer.run("bye");
+        } finally {
+            owner.destroyForcibly();
+        }
+    }
+
+    @Test
+    public void testInstancesInSeveralProcessesNeverLoseTasks() throws Exception {
+        Path dataDir = Files.createTempDirectory("duke-instances");
+        int numInstances = 4;
+        int tasksPerInstance = 50;
+        ArrayList<Process> instances = new ArrayList<>();
+        for (int i = 0; i < numInstances; i++) {
+            instances.add(launch("hammer", dataDir.toString(), "instance" + i,
+                    Integer.toString(tasksPerInstance)));
+        }
+        try {
+            for (Process instance : instances) {
+                assertTrue(instance.waitFor(120, TimeUnit.SECONDS));
+                String output = new String(instance.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+                assertEquals(0, instance.exitValue(), output);
+            }
+        } finally {
+            for (Process instance : instances) {
+                instance.destroyForcibly();
+            }
+        }
+
+        Controller restarted = new Controller(dataDir);
+        restarted.initialise();
+        HashSet<String> expected = new HashSet<>();
+        for (int i = 0; i < numInstances; i++) {
+            for (int j = 0; j < tasksPerInstance; j++) {
+                expected.add("instance" + i + " task " + j);
+            }
+        }
+        ArrayList<String> saved = new ArrayList<>();
+        for (String line : restarted.run("list").split("\\R")) {
+            if (line.contains("[T][ ] ")) {
+                saved.add(line.substring(line.indexOf("[T][ ] ") + 7));
+            }
+        }
+        assertEquals(expected.size(), saved.size());
+        assertEquals(expected, new HashSet<>(saved));
+        restarted.run("bye");
+    }
+
+    /**
+     * Runs a Duke instance for the tests. "serve DATA_DIR" runs each line read from the standard
+     * input and replies with the output followed by a line containing only ".". "hammer DATA_DIR
+     * NAME COUNT" adds COUNT tasks, trying each again until this instance owns the data directory.
+     */
+    public static void main(String[] args) throws Exception {
+        Controller controller = new Controller(Paths.get(args[1]));
+        controller.initialise();
+        if (args[0].equals("serve")) {
+            BufferedReader input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            System.out.println("ready");
+            String line;
+            while ((line = input.readLine()) != null) {
+                System.out.println(controller.run(line));
+                System.out.println(END_OF_REPLY);
+                if (line.equals("bye")) {
+                    return;
+                }
+            }
+            return;
+        }
+        for (int i = 0; i < Integer.parseInt(args[3]); i++) {
+            String output = controller.run("todo " + args[2] + " task " + i);
+            while (output.contains(READ_ONLY)) {
+                Thread.sleep(2);
+                output = controller.run("todo " + args[2] + " task " + i);
+            }
+            if (!output.contains("Got it")) {
+                System.out.println(output);
+                System.exit(1);
+            }
+        }
+        controller.run("bye");
+    }
+
+    private static Process launch(String... args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(DukeInstanceTest.class.getName());
+        command.addAll(List.of(args));
+        return new ProcessBuilder(command).redirectErrorStream(true).start();
+    }
+
+    private static BufferedReader reader(Process process) {
+        return new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private static BufferedWriter writer(Process process) {
+        return new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    private static String send(BufferedWriter input, BufferedReader output, String line) throws IOException {
+        input.write(line);
+        input.newLine();
+        input.flush();
+        StringBuilder reply = new StringBuilder();
+        String replyLine;
+        while ((replyLine = output.readLine()) != null && !replyLine.equals(END_OF_REPLY)) {
+            reply.append(replyLine).append('\n');
+        }
+        return reply.toString();
+    }
+}
@@ -0,0 +1,76 @@
+import duke.exceptions.DukeCorruptedStorageException;
+import duke.exceptions.DukeEmptyListException;
+import duke.exceptions.DukeUnknownArgumentsException;
+import duke.storage.StorageDecoder;
+import duke.tasks.PriorityIndex;
+import duke.tasks.Task;
+import duke.tasks.TaskList;
+import duke.tasks.Todo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukePriorityTest {
+    @Test
+    public void testNext() throws DukeUnknownArgumentsException, DukeEmptyListException,
+            DukeCorruptedStorageException {
+        TaskList tasks = new TaskList();
+        tasks.run("todo water plants");
+        tasks.run("deadline tax return /by 2099-04-30 /p 2");
+        tasks.run("todo fix build /p 1");
+        tasks.run("deadline essay /p 2 /by 2099-03-01");
+        tasks.run("deadline report /by 2099-01-01");
+
+        String output = tasks.next("next 4");
+        assertTrue(output.contains("1.[T][ ] fix build (p1)"), output);
+        assertTrue(output.contains("2.[D][ ] essay  (p2) (by: Mar 01 2099)"), output);
+        assertTrue(output.contains("3.[D][ ] tax return  (p2) (by: Apr 30 2099)"), output);
+        assertTrue(output.contains("4.[D][ ] report  (by: Jan 01 2099)"), output);
+
+        tasks.done("done 3");
+        tasks.deleteTask("delete 4");
+        output = tasks.next("next");
+        assertTrue(output.contains("1.[D][ ] tax return  (p2)"), output);
+        assertEquals(1, output.split("\n").length - 1);
+
+        Task saved = tasks.getTasks().get(1);
+        assertEquals("D | 0 | tax return  | 2099-04-30 | priority:2", saved.data());
+        assertEquals(2, StorageDecoder.decodeTask(saved.data()).getPriority());
+    }
+
+    @Test
+    public void testIndexMatchesSortedOrder() {
+        Random random = new Random(37);
+        PriorityIndex index = new PriorityIndex();
+        ArrayList<Task> open = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (open.isEmpty() || random.nextInt(3) > 0) {
+                Task task = new Todo("task " + i);
+                task.setPriority(random.nextInt(6));
+                open.add(task);
+                index.onTaskAdded(0, task);
+            } else {
+                Task task = open.remove(random.nextInt(open.size()));
+                if (random.nextBoolean()) {
+                    task.done();
+                    index.onTaskUpdated(0, task);
+                } else {
+                    index.onTaskRemoved(0, task);
+                }
+            }
+        }
+        List<Task> expected = open.stream()
+                .sorted(Comparator.comparingInt(task -> task.hasPriority() ? task.getPriority() : 99))
+                .limit(50)
+                .collect(Collectors.toList());
+        assertEquals(open.size(), index.size());
+        assertEquals(expected, index.peek(50));
+    }
+}
@@ -0,0 +1,68 @@
+import duke.exceptions.DukeInvalidQueryException;
+import duke.exceptions.DukeNoDescriptionException;
+import duke.exceptions.DukeUnknownArgumentsException;
+import duke.tasks.Deadline;
+import duke.tasks.Event;
+import duke.tasks.Task;
+import duke.tasks.TaskList;
+import duke.tasks.Todo;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeQueryTest {
+    @Test
+    public void testQueryUsesMostSelectiveIndex() throws DukeNoDescriptionException, DukeInvalidQueryException,
+            DukeUnknownArgumentsException {
+        TaskList tasks = new TaskList();
+        ArrayList<Task> added = new ArrayList<>();
+        LocalDate start = LocalDate.parse("2021-01-01");
+        for (int i = 0; i < 3000; i++) {
+            Task task;
+            if (i % 3 == 0) {
+                task = new Todo("todo " + i);
+            } else if (i % 3 == 1) {
+                task = new Deadline(i % 100 == 1 ? "quarterly report " + i : "deadline " + i,
+                        start.plusDays(i % 365));
+            } else {
+                task = new Event("event " + i, start.plusDays(i % 365));
+            }
+            if (i % 4 == 0) {
+                task.done();
+            }
+            added.add(task);
+        }
+        tasks.addAll(added);
+
+        String output = tasks.query("query type=D and !done and date < 2021-03-01 and text~\"report\" "
+                + "order by date limit 5");
+        List<String> expected = added.stream()
+                .filter(task -> task instanceof Deadline && !task.isDone())
+                .filter(task -> task.getDate().isBefore(LocalDate.parse("2021-03-01")))
+                .filter(task -> task.getDescription().contains("report"))
+                .sorted(Comparator.comparing(Task::getDate))
+                .limit(5)
+                .map(Task::toString)
+                .collect(Collectors.toList());
+        assertEquals(expected.size(), output.split("\n").length - 2, output);
+        for (int i = 0; i < expected.size(); i++) {
+            assertTrue(output.contains((i + 1) + "." + expected.get(i)), output);
+        }
+        assertTrue(output.contains("using index on text~\"report\""), output);
+        assertTrue(output.contains("checked 10 of 3000 tasks"), output);
+
+        output = tasks.query("query date >= 2021-12-30 or done limit 3");
+        assertTrue(output.contains("checked 9 of 3000 tasks using scan"), output);
+        output = tasks.query("query type=E and date = 2021-01-03");
+        assertTrue(output.contains("index on 2021-01-03 <= date <= 2021-01-03"), output);
+        assertTrue(tasks.run("query date < tomorrow").contains("dates must be YYYY-MM-DD"));
+        assertTrue(tasks.run("query done order by size").contains("cannot order by 'size'"));
+    }
+}
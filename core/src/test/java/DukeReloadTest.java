@@ -0,0 +1,134 @@
+import duke.Controller;
+import duke.storage.Segment;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeReloadTest {
+    @Test
+    public void testEditsMadeOutsideDukeAreReloadedBeforeTheNextCommand() throws Exception {
+        Path dataDir = Files.createTempDirectory("duke-reload");
+        Controller controller = new Controller(dataDir);
+        controller.initialise();
+        controller.run("todo read book");
+        controller.run("todo return book #library");
+        controller.run("deadline essay /by 2021-03-12");
+        controller.run("done 2");
+
+        CountDownLatch edited = new CountDownLatch(1);
+        controller.startWatching(edited::countDown);
+        controller.run("todo water plants");
+        assertFalse(edited.await(300, TimeUnit.MILLISECONDS), "Duke's own saves are not edits");
+
+        Path segment = getSegment(dataDir);
+        List<String> lines = new ArrayList<>(Files.readAllLines(segment, StandardCharsets.UTF_8));
+        lines.set(0, "T | 0 | read two books");
+        lines.removeIf(line -> line.contains("essay"));
+        lines.add("T | 0 | buy milk");
+        Files.write(segment, lines, StandardCharsets.UTF_8);
+        assertTrue(edited.await(10, TimeUnit.SECONDS));
+
+        String output = controller.run("list");
+        assertTrue(output.contains("1 added, 1 changed, 1 removed"), output);
+        assertTrue(output.contains("read two books"), output);
+        assertTrue(output.contains("buy milk"), output);
+        assertFalse(output.contains("essay"), output);
+        assertTrue(output.contains("[T][X] return book"), output);
+        assertTrue(controller.run("filter #library").contains("return book"));
+        assertTrue(controller.run("reload").contains("no changes"));
+        controller.run("bye");
+
+        Controller restarted = new Controller(dataDir);
+        restarted.initialise();
+        String restartedList = restarted.run("list");
+        assertTrue(restartedList.contains("4.") && !restartedList.contains("5."), restartedList);
+        assertTrue(restartedList.contains("read two books"), restartedList);
+        assertTrue(restartedList.contains("buy milk"), restartedList);
+        assertFalse(restartedList.contains("essay"), restartedList);
+    }
+
+    @Test
+    public void testSavesAreHeldOffUntilEditsAreReloaded() throws Exception {
+        Path dataDir = Files.createTempDirectory("duke-reload");
+        Controller controller = new Controller(dataDir);
+        controller.initialise();
+        controller.run("todo read book");
+        CountDownLatch edited = new CountDownLatch(1);
+        controller.startWatching(edited::countDown);
+
+        Path segment = getSegment(dataDir);
+        Files.write(segment, List.of("T | 0 | read book", "T | 1 | written outside"), StandardCharsets.UTF_8);
+        assertTrue(edited.await(10, TimeUnit.SECONDS));
+
+        String output = controller.run("todo buy milk");
+        assertTrue(output.contains("1 added, 0 changed, 0 removed"), output);
+        assertTrue(output.contains("Now you have 3 tasks"), output);
+        List<String> saved = Files.readAllLines(segment, StandardCharsets.UTF_8);
+        assertEquals(3, saved.size());
+        assertTrue(saved.get(1).endsWith("T | 1 | written outside"), saved.toString());
+        controller.run("bye");
+    }
+
+    @Test
+    public void testRecordsAddedToSegmentsBeforeTheLastAreNotDuplicated() throws Exception {
+        Path dataDir = Files.createTempDirectory("duke-reload");
+        Controller controller = new Controller(dataDir);
+        controller.initialise();
+        ArrayList<String> inputs = new ArrayList<>();
+        for (int i = 1; i <= Segment.CAPACITY + 10; i++) {
+            inputs.add("todo task " + i);
+        }
+        controller.runBatch(inputs);
+
+        Path first = dataDir.resolve("segments").resolve("segment-00000.txt");
+        List<String> lines = new ArrayList<>(Files.readAllLines(first, StandardCharsets.UTF_8));
+        lines.add("T | 0 | added to a full segment");
+        Files.write(first, lines, StandardCharsets.UTF_8);
+        assertTrue(controller.run("reload").contains("1 added, 0 changed, 0 removed"));
+        controller.run("bye");
+
+        controller = new Controller(dataDir);
+        controller.initialise();
+        String output = controller.run("list");
+        assertTrue(output.contains("1035.") && !output.contains("1036."), output);
+        lines = new ArrayList<>(Files.readAllLines(first, StandardCharsets.UTF_8));
+        lines.set(0, "T | 0 | task 1 edited");
+        lines.subList(1, 3).clear();
+        lines.add("T | 0 | added to the first segment");
+        Files.write(first, lines, StandardCharsets.UTF_8);
+        assertTrue(controller.run("reload").contains("1 added, 1 changed, 2 removed"));
+        lines = new ArrayList<>(Files.readAllLines(first, StandardCharsets.UTF_8));
+        lines.add("T | 0 | added to the first segment again");
+        Files.write(first, lines, StandardCharsets.UTF_8);
+        assertTrue(controller.run("reload").contains("1 added, 0 changed, 0 removed"));
+        controller.run("bye");
+
+        Controller restarted = new Controller(dataDir);
+        restarted.initialise();
+        output = restarted.run("list");
+        assertTrue(output.contains("1035.") && !output.contains("1036."), output);
+        assertEquals(3, output.split("added to ").length - 1, output);
+        assertTrue(output.contains("task 1 edited") && !output.contains("task 3\n"), output);
+    }
+
+    private static Path getSegment(Path dataDir) throws Exception {
+        try (Stream<Path> files = Files.list(dataDir.resolve("segments"))) {
+            List<Path> segments = files.filter(file -> file.toString().endsWith(".txt"))
+                    .collect(Collectors.toList());
+            assertEquals(1, segments.size());
+            return segments.get(0);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+import duke.reminders.ReminderScheduler;
+import duke.tasks.Deadline;
+import duke.tasks.Task;
+import duke.tasks.TaskList;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DukeReminderTest {
+    @Test
+    public void testRemindersFireADayBeforeInDateOrder() throws Exception {
+        MovingClock clock = new MovingClock("2099-06-01T12:00:00Z");
+        ArrayList<String> reminded = new ArrayList<>();
+        ReminderScheduler scheduler = new ReminderScheduler(task -> reminded.add(task.getDescription().trim()), clock);
+        TaskList tasks = new TaskList();
+        tasks.run("deadline report /by 2099-06-05");
+        tasks.addListener(scheduler);
+        tasks.run("deadline slides /by 2099-06-03");
+        tasks.run("deadline taxes /by 2099-05-01");
+        tasks.run("deadline email /by 2099-06-02");
+        tasks.run("todo read book");
+        tasks.done("done 4");
+        assertEquals(2, scheduler.size());
+
+        scheduler.fireDue();
+        assertEquals(List.of(), reminded);
+        clock.set("2099-06-01T23:59:59Z");
+        scheduler.fireDue();
+        assertEquals(List.of(), reminded);
+        clock.set("2099-06-02T00:00:00Z");
+        scheduler.fireDue();
+        assertEquals(List.of("slides"), reminded);
+        clock.set("2099-06-10T00:00:00Z");
+        scheduler.fireDue();
+        scheduler.fireDue();
+        assertEquals(List.of("slides", "report"), reminded);
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void testRemovedAndResetTasksAreNotReminded() throws Exception {
+        MovingClock clock = new MovingClock("2099-06-01T12:00:00Z");
+        ArrayList<String> reminded = new ArrayList<>();
+        ReminderScheduler scheduler = new ReminderScheduler(task -> reminded.add(task.getDescription().trim()), clock);
+        TaskList tasks = new TaskList();
+        tasks.addListener(scheduler);
+        tasks.run("deadline slides /by 2099-06-03");
+        tasks.run("deadline report /by 2099-06-05");
+        tasks.deleteTask("delete 1");
+        assertEquals(1, scheduler.size());
+
+        Deadline reloaded = new Deadline("report", LocalDate.parse("2099-06-05"));
+        Deadline added = new Deadline("review", LocalDate.parse("2099-06-04"));
+        scheduler.onTasksReset(List.of(reloaded, added));
+        assertEquals(2, scheduler.size());
+        clock.set("2099-06-10T00:00:00Z");
+        scheduler.fireDue();
+        assertEquals(List.of("review", "report"), reminded);
+
+        scheduler.onTasksReset(List.of(reloaded, added));
+        scheduler.fireDue();
+        assertEquals(List.of("review", "report"), reminded);
+    }
+
+    @Test
+    public void testManyCancelledRemindersAreDropped() {
+        MovingClock clock = new MovingClock("2099-01-01T00:00:00Z");
+        ArrayList<Task> reminded = new ArrayList<>();
+        ReminderScheduler scheduler = new ReminderScheduler(reminded::add, clock);
+        ArrayList<Task> kept = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Deadline deadline = new Deadline("task " + i, LocalDate.parse("2099-02-01").plusDays(i));
+            scheduler.schedule(deadline);
+            if (i % 4 == 0) {
+                kept.add(deadline);
+            } else {
+                scheduler.cancel(deadline);
+            }
+        }
+        assertEquals(50, scheduler.size());
+
+        clock.set("2100-01-01T00:00:00Z");
+        scheduler.fireDue();
+        assertEquals(kept, reminded);
+        assertEquals(0, scheduler.size());
+    }
+
+    private static class MovingClock extends Clock {
+        private Instant now;
+
+        MovingClock(String now) {
+            set(now);
+        }
+
+        void set(String newNow) {
+            now = Instant.parse(newNow);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+import duke.Controller;
+import duke.replication.Follower;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeReplicationTest {
+    @Test
+    public void testFollowerAppliesPrimaryCommands() throws Exception {
+        Path spoolDir = Files.createTempDirectory("duke-spool");
+        Path primaryDir = Files.createTempDirectory("duke-primary");
+        Path followerDir = Files.createTempDirectory("duke-follower");
+
+        Controller primary = new Controller(primaryDir);
+        primary.initialise();
+        primary.startReplication(spoolDir);
+        primary.run("todo read book");
+        primary.run("deadline return book /by 2099-06-06");
+        primary.run("done 1");
+        primary.run("find book");
+        primary.run("todo buy milk");
+        primary.run("delete 3");
+
+        Follower follower = new Follower(spoolDir, followerDir);
+        follower.initialise();
+        assertEquals(6, follower.poll());
+        assertEquals(0, follower.poll());
+        assertEquals(segmentsOf(primaryDir), segmentsOf(followerDir));
+
+        primary.run("todo call mum");
+        Follower restarted = new Follower(spoolDir, followerDir);
+        restarted.initialise();
+        assertEquals(1, restarted.poll());
+        assertEquals(7, restarted.getAppliedSequence());
+        assertEquals(segmentsOf(primaryDir), segmentsOf(followerDir));
+    }
+
+    @Test
+    public void testFollowerLoadsSnapshotsOfChangesItCannotReplay() throws Exception {
+        Path spoolDir = Files.createTempDirectory("duke-spool");
+        Path primaryDir = Files.createTempDirectory("duke-primary");
+        Path followerDir = Files.createTempDirectory("duke-follower");
+        Path peerDir = Files.createTempDirectory("duke-peer");
+
+        Controller primary = new Controller(primaryDir);
+        primary.initialise();
+        primary.run("todo added before the log");
+        primary.startReplication(spoolDir);
+        Follower follower = new Follower(spoolDir, followerDir);
+        follower.initialise();
+        assertEquals(0, follower.poll());
+        assertEquals(segmentsOf(primaryDir), segmentsOf(followerDir));
+
+        Path csv = Files.createTempFile("duke-import", ".csv");
+        Files.write(csv, List.of("todo,false,imported task,,,,,"), StandardCharsets.UTF_8);
+        primary.run("import " + csv);
+        Files.delete(csv);
+        Controller peer = new Controller(peerDir);
+        peer.initialise();
+        peer.run("todo added to the peer");
+        peer.run("bye");
+        primary.run("sync " + peerDir);
+        String syncedPeer = segmentsOf(peerDir);
+
+        // The first snapshot entry loads the latest snapshot, which already has the sync.
+        assertEquals(1, follower.poll());
+        assertEquals(2, follower.getAppliedSequence());
+        assertEquals(segmentsOf(primaryDir), segmentsOf(followerDir));
+        assertEquals(syncedPeer, segmentsOf(peerDir));
+    }
+
+    @Test
+    public void testTasksArchivedOnStartReachRunningFollowers() throws Exception {
+        Path spoolDir = Files.createTempDirectory("duke-spool");
+        Path primaryDir = Files.createTempDirectory("duke-primary");
+        Path followerDir = Files.createTempDirectory("duke-follower");
+
+        Controller primary = new Controller(primaryDir);
+        primary.initialise();
+        primary.startReplication(spoolDir);
+        primary.run("deadline old essay /by 2000-01-01");
+        primary.run("done 1");
+        primary.run("todo water plants");
+        Follower follower = new Follower(spoolDir, followerDir);
+        follower.initialise();
+        assertEquals(3, follower.poll());
+        primary.run("bye");
+
+        Controller restarted = new Controller(primaryDir);
+        restarted.initialise();
+        restarted.startReplication(spoolDir);
+        assertEquals(1, follower.poll());
+        assertFalse(restarted.run("list").contains("old essay"));
+        assertEquals(segmentsOf(primaryDir), segmentsOf(followerDir));
+        assertEquals(Files.readString(primaryDir.resolve("archive.txt")),
+                Files.readString(followerDir.resolve("archive.txt")));
+    }
+
+    @Test
+    public void testEditsReloadedByThePrimaryReachFollowers() throws Exception {
+        Path spoolDir = Files.createTempDirectory("duke-spool");
+        Path primaryDir = Files.createTempDirectory("duke-primary");
+        Path followerDir = Files.createTempDirectory("duke-follower");
+
+        Controller primary = new Controller(primaryDir);
+        primary.initialise();
+        primary.startReplication(spoolDir);
+        primary.run("todo a");
+        primary.run("todo b");
+        Follower follower = new Follower(spoolDir, followerDir);
+        follower.initialise();
+        assertEquals(2, follower.poll());
+
+        Semaphore edited = new Semaphore(0);
+        primary.startWatching(edited::release);
+        Path segment = segmentFileOf(primaryDir);
+        Files.writeString(segment, "T | 0 | x" + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+        assertTrue(edited.tryAcquire(10, TimeUnit.SECONDS));
+        primary.run("todo c");
+        follower.poll();
+        assertEquals(segmentsOf(primaryDir), segmentsOf(followerDir));
+
+        edited.drainPermits();
+        Files.writeString(segment, "T | 0 | y" + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+        assertTrue(edited.tryAcquire(10, TimeUnit.SECONDS));
+        assertTrue(primary.run("reload").contains("1 added"));
+        follower.poll();
+        assertEquals(segmentsOf(primaryDir), segmentsOf(followerDir));
+        assertTrue(segmentsOf(followerDir).contains("T | 0 | y"));
+    }
+
+    private static Path segmentFileOf(Path dataDir) throws IOException {
+        try (Stream<Path> files = Files.list(dataDir.resolve("segments"))) {
+            return files.filter(file -> file.toString().endsWith(".txt")).findFirst().orElseThrow();
+        }
+    }
+
+    private static String segmentsOf(Path dataDir) throws IOException {
+        StringBuilder contents = new StringBuilder();
+        try (Stream<Path> files = Files.list(dataDir.resolve("segments")).sorted()) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                contents.append(file.getFileName()).append('\n').append(Files.readString(file));
+            }
+        }
+        return contents.toString();
+    }
+}
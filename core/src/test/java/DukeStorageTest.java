@@ -0,0 +1,124 @@
+import duke.Controller;
+import duke.exceptions.DukeCorruptedStorageException;
+import duke.storage.BlockCompression;
+import duke.storage.StorageDecoder;
+import duke.storage.StorageEncoder;
+import duke.tasks.Deadline;
+import duke.tasks.Event;
+import duke.tasks.Task;
+import duke.tasks.Todo;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeStorageTest {
+
+    @Test
+    public void testStorage() {
+        ArrayList<String> encodedFile = new ArrayList<>();
+        encodedFile.add("T | 0 | todo task not done");
+        encodedFile.add("T | 1 | todo task done");
+        encodedFile.add("D | 0 | deadline task not done | 2020-01-25");
+        encodedFile.add("D | 1 | deadline task done | 2020-01-20");
+        encodedFile.add("E | 0 | event task not done | 2020-02-20");
+        encodedFile.add("E | 1 | event task done | 2020-02-19");
+        ArrayList<Task> taskList = new ArrayList<>();
+        taskList.add(new Todo("todo task not done"));
+        Todo todo2 = new Todo("todo task done");
+        todo2.done();
+        taskList.add(todo2);
+        taskList.add(new Deadline("deadline task not done", LocalDate.parse("2020-01-25")));
+        Deadline deadline2 = new Deadline("deadline task done", LocalDate.parse("2020-01-20"));
+        deadline2.done();
+        taskList.add(deadline2);
+        taskList.add(new Event("event task not done", LocalDate.parse("2020-02-20")));
+        Event event2 = new Event("event task done", LocalDate.parse("2020-02-19"));
+        event2.done();
+        taskList.add(event2);
+        ArrayList<Task> decodedTasks = new ArrayList<>();
+
+        try {
+            decodedTasks = StorageDecoder.decodeSave(encodedFile);
+        } catch (DukeCorruptedStorageException e) {
+            assert false;
+        }
+
+        for (int i = 0; i < 6; i++) {
+            assertEquals(decodedTasks.get(i).toString(), taskList.get(i).toString());
+        }
+
+        String encodedTaskList = "";
+        for (String encode : encodedFile) {
+            encodedTaskList = encodedTaskList.concat(encode + "\n");
+        }
+
+        assertEquals(StorageEncoder.encodeTasks(taskList), encodedTaskList);
+    }
+
+    @Test
+    public void testSalvageDamagedRecords() {
+        ArrayList<Task> taskList = new ArrayList<>();
+        taskList.add(new Todo("first"));
+        taskList.add(new Deadline("second", LocalDate.parse("2020-01-25")));
+        taskList.add(new Event("third", LocalDate.parse("2020-02-20")));
+        String damagedRecord = StorageEncoder.encodeRecord(taskList.get(1)).replace("second", "sec0nd");
+        String save = StorageEncoder.encodeRecord(taskList.get(0)) + "\n"
+                + damagedRecord + "\n"
+                + "T | 0 | legacy task without checksum\n"
+                + "X | 0 | unknown task type\n"
+                + StorageEncoder.encodeRecord(taskList.get(2)) + "\n";
+
+        ArrayList<String> damagedRecords = new ArrayList<>();
+        ArrayList<Task> salvagedTasks = StorageDecoder.salvageSave(
+                new BufferedReader(new StringReader(save)), damagedRecords);
+
+        assertEquals(3, salvagedTasks.size());
+        assertEquals("[T][ ] first", salvagedTasks.get(0).toString());
+        assertEquals("[T][ ] legacy task without checksum", salvagedTasks.get(1).toString());
+        assertEquals("[E][ ] third (at: Feb 20 2020)", salvagedTasks.get(2).toString());
+        assertEquals(2, damagedRecords.size());
+        assertEquals(damagedRecord, damagedRecords.get(0));
+    }
+
+    @Test
+    public void testUnreadableSegmentIsCopiedToQuarantineBeforeItIsRewritten() throws Exception {
+        Path dataDir = Files.createTempDirectory("duke-salvage");
+        Path segment = dataDir.resolve("segments").resolve("segment-00000.txt");
+        Files.createDirectories(segment.getParent());
+        try (BufferedWriter writer = BlockCompression.newWriter(segment, true)) {
+            for (int i = 0; i < 1000; i++) {
+                writer.write(StorageEncoder.encodeRecord(new Todo("task number " + i
+                        + " of the salvage test, long enough for the segment to take two blocks")));
+                writer.write("\n");
+            }
+        }
+        byte[] bytes = Files.readAllBytes(segment);
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 10);
+        Files.write(segment, truncated);
+        Files.write(dataDir.resolve("manifest.txt"), List.of("segment-00000.txt"), StandardCharsets.UTF_8);
+
+        Controller controller = new Controller(dataDir);
+        controller.initialise();
+        String output = controller.run("list");
+        assertTrue(output.contains("task number 0 of") && !output.contains("task number 999 of"), output);
+        controller.run("bye");
+
+        Path copy = dataDir.resolve("quarantine").resolve("segment-00000.txt");
+        assertArrayEquals(truncated, Files.readAllBytes(copy));
+        String quarantined = Files.readString(dataDir.resolve("quarantine.txt"), StandardCharsets.UTF_8);
+        assertTrue(quarantined.contains("whole file copied to"), quarantined);
+    }
+}
@@ -0,0 +1,35 @@
+import duke.exceptions.DukeEmptyListException;
+import duke.exceptions.DukeUnknownArgumentsException;
+import duke.tasks.TaskList;
+import duke.tasks.TaskSummary;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DukeSummaryTest {
+    @Test
+    public void testSummary() throws DukeUnknownArgumentsException, DukeEmptyListException {
+        TaskList tasks = new TaskList();
+        tasks.run("todo a");
+        tasks.run("deadline b /by 2020-01-01");
+        tasks.run("deadline c /by 2099-01-01");
+        tasks.run("event d /at 2020-01-01");
+        TaskSummary summary = tasks.getSummary();
+        assertEquals(1, summary.getTodos(false));
+        assertEquals(2, summary.getDeadlines(false));
+        assertEquals(1, summary.getEvents(false));
+        assertEquals(1, summary.getOverdue());
+
+        tasks.done("done 2");
+        tasks.done("done 2");
+        assertEquals(1, summary.getDeadlines(true));
+        assertEquals(1, summary.getDeadlines(false));
+        assertEquals(0, summary.getOverdue());
+
+        tasks.deleteTask("delete 1");
+        tasks.deleteTask("delete 1");
+        assertEquals(0, summary.getTodos(false));
+        assertEquals(0, summary.getTotal(true));
+        assertEquals(2, summary.getTotal(false));
+    }
+}
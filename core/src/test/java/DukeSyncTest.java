@@ -0,0 +1,123 @@
+import duke.Controller;
+import org.junit.jupiter.api.Test;
+
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import duke.storage.Storage;
+import duke.tasks.Task;
+import duke.tasks.TaskList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeSyncTest {
+    @Test
+    public void testSyncMergesChangesFromBothSides() throws Exception {
+        Path laptopDir = Files.createTempDirectory("duke-laptop");
+        Path desktopDir = Files.createTempDirectory("duke-desktop");
+
+        Controller laptop = new Controller(laptopDir);
+        laptop.initialise();
+        laptop.run("todo read book");
+        laptop.run("todo buy milk");
+        laptop.run("deadline return book /by 2099-06-06");
+        laptop.run("sync " + desktopDir);
+        assertEquals(records(laptopDir), records(desktopDir));
+
+        Controller desktop = new Controller(desktopDir);
+        desktop.initialise();
+        desktop.run("list");
+        desktop.run("done 2");
+        desktop.run("todo call mum");
+        laptop.run("delete 2");
+        laptop.run("event party /at 2099-07-07");
+
+        String output = laptop.run("sync " + desktopDir);
+        assertTrue(output.contains("Here: 2 added, 1 removed. There: 1 added, 1 removed."), output);
+        List<String> expected = List.of("D | 0 | return book  | 2099-06-06", "E | 0 | party  | 2099-07-07",
+                "T | 0 | call mum", "T | 1 | read book");
+        assertEquals(expected, records(laptopDir));
+        assertEquals(expected, records(desktopDir));
+        assertTrue(laptop.run("sync " + desktopDir).contains("already in sync"));
+    }
+
+    @Test
+    public void testTasksAddedWithDependenciesOnBothSidesKeepTheirOwnDependencies() throws Exception {
+        Path laptopDir = Files.createTempDirectory("duke-laptop");
+        Path desktopDir = Files.createTempDirectory("duke-desktop");
+
+        Controller laptop = new Controller(laptopDir);
+        laptop.initialise();
+        laptop.run("todo build");
+        laptop.run("todo deploy after #1");
+        laptop.run("sync " + desktopDir);
+
+        Controller desktop = new Controller(desktopDir);
+        desktop.initialise();
+        desktop.run("todo test");
+        desktop.run("todo release after #3");
+        laptop.run("todo review");
+        laptop.run("todo ship after #3");
+
+        laptop.run("sync " + desktopDir);
+        assertEquals(records(laptopDir), records(desktopDir));
+        assertTrue(laptop.run("sync " + desktopDir).contains("already in sync"));
+
+        Controller synced = new Controller(laptopDir);
+        synced.initialise();
+        synced.run("list");
+        synced.run("done 6");
+        String output = synced.run("ready");
+        assertTrue(output.contains("release"), output);
+        assertFalse(output.contains("ship"), output);
+        assertFalse(output.contains("deploy"), output);
+    }
+
+    @Test
+    public void testDataDirectoriesOwnedByAnotherDukeAreNotSynced() throws Exception {
+        Path laptopDir = Files.createTempDirectory("duke-laptop");
+        Path desktopDir = Files.createTempDirectory("duke-desktop");
+        Controller laptop = new Controller(laptopDir);
+        laptop.initialise();
+        laptop.run("todo read book");
+
+        try (FileChannel channel = FileChannel.open(desktopDir.resolve("instance.lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                FileLock lock = channel.lock(16, 1, false)) {
+            String output = laptop.run("sync " + desktopDir);
+            assertTrue(output.contains("Another Duke is using data directory"), output);
+            assertFalse(Files.exists(desktopDir.resolve("manifest.txt")));
+            assertFalse(Files.exists(desktopDir.resolve("sync")));
+        }
+        laptop.run("bye");
+
+        try (FileChannel channel = FileChannel.open(laptopDir.resolve("instance.lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                FileLock lock = channel.lock(16, 1, false)) {
+            Controller readOnly = new Controller(laptopDir);
+            readOnly.initialise();
+            String output = readOnly.run("sync " + desktopDir);
+            assertTrue(output.contains("can only be viewed here"), output);
+            assertFalse(Files.exists(desktopDir.resolve("manifest.txt")));
+            assertFalse(Files.exists(laptopDir.resolve("sync")));
+            readOnly.run("bye");
+        }
+    }
+
+    private static List<String> records(Path dataDir) throws Exception {
+        ArrayList<String> records = new ArrayList<>();
+        for (Task task : new TaskList(Storage.open(dataDir)).getTasks()) {
+            records.add(task.data());
+        }
+        Collections.sort(records);
+        return records;
+    }
+}
@@ -0,0 +1,115 @@
+import duke.exceptions.DukeCorruptedStorageException;
+import duke.exceptions.DukeUnknownArgumentsException;
+import duke.storage.StorageDecoder;
+import duke.tags.RoaringBitmap;
+import duke.tasks.Task;
+import duke.tasks.TaskList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeTagTest {
+    @Test
+    public void testBitmapOperations() {
+        Random random = new Random(36);
+        RoaringBitmap first = new RoaringBitmap();
+        RoaringBitmap second = new RoaringBitmap();
+        BitSet firstExpected = new BitSet();
+        BitSet secondExpected = new BitSet();
+        for (int i = 0; i < 20000; i++) {
+            int dense = random.nextInt(8000);
+            int sparse = random.nextInt(1 << 20);
+            first.add(dense);
+            firstExpected.set(dense);
+            second.add(sparse);
+            secondExpected.set(sparse);
+            second.add(dense / 2);
+            secondExpected.set(dense / 2);
+        }
+        for (int i = 0; i < 3000; i++) {
+            int removed = random.nextInt(8000);
+            first.remove(removed);
+            firstExpected.clear(removed);
+        }
+
+        BitSet and = (BitSet) firstExpected.clone();
+        and.and(secondExpected);
+        BitSet or = (BitSet) firstExpected.clone();
+        or.or(secondExpected);
+        BitSet andNot = (BitSet) firstExpected.clone();
+        andNot.andNot(secondExpected);
+        assertEquals(firstExpected, toBitSet(first));
+        assertEquals(and, toBitSet(first.and(second)));
+        assertEquals(or, toBitSet(first.or(second)));
+        assertEquals(andNot, toBitSet(first.andNot(second)));
+        assertEquals(or.cardinality(), first.or(second).getCardinality());
+    }
+
+    @Test
+    public void testFilterAndSaveTags() throws DukeUnknownArgumentsException, DukeCorruptedStorageException {
+        TaskList tasks = new TaskList();
+        tasks.run("todo fix build #ci #urgent");
+        tasks.run("todo write docs #docs");
+        tasks.run("deadline release #ci /by 2099-01-01");
+        tasks.run("todo fix issue #123");
+        tasks.done("done 1");
+
+        String output = tasks.run("filter #ci & !#done");
+        assertTrue(output.contains("1.[D][ ] release #ci (by: Jan 01 2099)"), output);
+        assertEquals(1, output.split("\n").length - 1);
+        output = tasks.run("filter #urgent | (#docs & !#ci)");
+        assertTrue(output.contains("fix build #ci #urgent") && output.contains("write docs #docs"), output);
+        assertTrue(tasks.run("filter #ci &").contains("don't understand"));
+
+        List<Task> saved = tasks.getTasks();
+        assertEquals("T | 1 | fix build | tags:ci,urgent", saved.get(0).data());
+        assertEquals("T | 0 | fix issue #123", saved.get(3).data());
+        Task decoded = StorageDecoder.decodeTask(saved.get(2).data());
+        assertEquals(saved.get(2).data(), decoded.data());
+        assertEquals(List.of("ci"), decoded.getTags());
+    }
+
+    @Test
+    public void testIndexesStayInOrderAfterManyTasksAreRemoved() throws DukeCorruptedStorageException,
+            DukeUnknownArgumentsException {
+        TaskList tasks = new TaskList();
+        ArrayList<Task> added = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            added.add(StorageDecoder.decodeTask("T | 0 | task " + i + (i % 500 == 0 ? " | tags:keep" : "")));
+        }
+        tasks.addAll(added);
+        ArrayList<Task> removed = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            if (i % 500 != 0) {
+                removed.add(added.get(i));
+            }
+        }
+        tasks.removeAll(removed);
+        tasks.run("todo task new #keep");
+
+        String output = tasks.run("filter #keep");
+        assertEquals(8, output.split("\n").length, output);
+        assertTrue(output.indexOf("task 0 #keep") < output.indexOf("task 2500 #keep"), output);
+        assertTrue(output.indexOf("task 2500 #keep") < output.indexOf("task new #keep"), output);
+        output = tasks.run("query text~\"task 25\"");
+        assertTrue(output.contains("1.[T][ ] task 2500 #keep") && !output.contains("2."), output);
+        assertTrue(tasks.run("filter #missing").split("\n").length <= 2);
+    }
+
+    private static BitSet toBitSet(RoaringBitmap bitmap) {
+        BitSet bits = new BitSet();
+        ArrayList<Integer> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+        for (int i = 1; i < values.size(); i++) {
+            assertTrue(values.get(i - 1) < values.get(i));
+        }
+        values.forEach(bits::set);
+        return bits;
+    }
+}
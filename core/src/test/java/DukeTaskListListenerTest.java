@@ -0,0 +1,102 @@
+import duke.exceptions.DukeEmptyListException;
+import duke.exceptions.DukeUnknownArgumentsException;
+import duke.tasks.Task;
+import duke.tasks.TaskList;
+import duke.tasks.TaskListListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DukeTaskListListenerTest {
+    @Test
+    public void testEventsKeepViewInSync() throws DukeUnknownArgumentsException, DukeEmptyListException {
+        TaskList tasks = new TaskList();
+        tasks.run("todo a");
+        ArrayList<Task> view = new ArrayList<>();
+        ArrayList<String> events = new ArrayList<>();
+        tasks.addListener(new TaskListListener() {
+            @Override
+            public void onTaskAdded(int index, Task task) {
+                view.add(index, task);
+                events.add("added " + index);
+            }
+
+            @Override
+            public void onTaskRemoved(int index, Task task) {
+                view.remove(index);
+                events.add("removed " + index);
+            }
+
+            @Override
+            public void onTaskUpdated(int index, Task task) {
+                view.set(index, task);
+                events.add("updated " + index);
+            }
+
+            @Override
+            public void onTasksReset(List<Task> allTasks) {
+                view.clear();
+                view.addAll(allTasks);
+                events.add("reset");
+            }
+        });
+        tasks.run("todo b");
+        tasks.run("deadline c /by 2020-01-01");
+        tasks.done("done 2");
+        tasks.deleteTask("delete 1");
+        tasks.print();
+
+        assertEquals(List.of("reset", "added 1", "added 2", "updated 1", "removed 0", "reset"), events);
+        assertEquals(tasks.getTasks(), view);
+    }
+
+    @Test
+    public void testSortingOnlyReordersTheTasks() throws DukeUnknownArgumentsException, DukeEmptyListException {
+        TaskList tasks = new TaskList();
+        tasks.run("todo b");
+        tasks.run("todo a");
+        ArrayList<String> events = new ArrayList<>();
+        tasks.addListener(new TaskListListener() {
+            @Override
+            public void onTasksReset(List<Task> allTasks) {
+                events.add("reset " + allTasks.size());
+            }
+
+            @Override
+            public void onTasksReordered(List<Task> allTasks) {
+                events.add("reordered " + allTasks.get(0).getDescription());
+            }
+        });
+        tasks.print();
+
+        assertEquals(List.of("reset 2", "reordered a"), events);
+    }
+
+    @Test
+    public void testListenerAddedTwiceIsToldOfEachChangeOnce() throws DukeUnknownArgumentsException {
+        TaskList tasks = new TaskList();
+        ArrayList<String> events = new ArrayList<>();
+        TaskListListener listener = new TaskListListener() {
+            @Override
+            public void onTaskAdded(int index, Task task) {
+                events.add("added " + index);
+            }
+
+            @Override
+            public void onTasksReset(List<Task> allTasks) {
+                events.add("reset");
+            }
+        };
+        tasks.addListener(listener);
+        tasks.addListener(listener);
+        tasks.run("todo read book");
+        assertEquals(List.of("reset", "added 0"), events);
+
+        tasks.removeListener(listener);
+        tasks.run("todo read more");
+        assertEquals(List.of("reset", "added 0"), events);
+    }
+}
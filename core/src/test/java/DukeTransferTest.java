@@ -0,0 +1,128 @@
+import duke.Controller;
+import duke.tasks.Deadline;
+import duke.tasks.Event;
+import duke.tasks.Task;
+import duke.tasks.Todo;
+import duke.transfer.TaskExporter;
+import duke.transfer.TaskImporter;
+import duke.transfer.TransferFormat;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeTransferTest {
+
+    @Test
+    public void testTasksAreImportedAsTheyWereExported() throws Exception {
+        ArrayList<Task> tasks = new ArrayList<>();
+        Todo first = new Todo("buy milk, eggs and \"good\" bread");
+        first.setTags(List.of("shopping", "home"));
+        first.setPriority(2);
+        first.setId(1);
+        tasks.add(first);
+        Deadline second = new Deadline("essay; draft \\ final", LocalDate.parse("2021-03-12"));
+        second.setId(2);
+        second.setDependencies(List.of(1L));
+        second.done();
+        tasks.add(second);
+        Event third = new Event("party", LocalDate.parse("2021-04-01"));
+        third.setDependencies(List.of(1L, 2L));
+        tasks.add(third);
+
+        for (TransferFormat format : TransferFormat.values()) {
+            Path file = Files.createTempFile("duke-transfer", "." + format.getName());
+            assertEquals(3, TaskExporter.export(tasks, file, format));
+            ArrayList<Task> imported = new ArrayList<>();
+            TaskImporter.ImportResult result = TaskImporter.importTasks(file, format, imported::addAll);
+            assertEquals(3, result.getImported());
+            assertEquals(0, result.getSkipped());
+            for (int i = 0; i < tasks.size(); i++) {
+                assertEquals(tasks.get(i).data(), imported.get(i).data(), format.getName());
+            }
+        }
+    }
+
+    @Test
+    public void testMalformedRecordsAreSkipped() throws Exception {
+        Path csv = Files.createTempFile("duke-transfer", ".csv");
+        Files.write(csv, List.of(
+                "type,done,description,date,tags,priority,id,after",
+                "todo,false,first,,,,,",
+                "todo,false,a | b,,,,,",
+                "todo,false,\"two",
+                "lines\",,,,,",
+                "todo,false,bad tag,,#work,,,",
+                "todo,false,bad priority,,,-1,,",
+                "todo,false,bad id,,,,0,",
+                "deadline,false,bad date,2021-13-01,,,,",
+                "chore,false,unknown type,,,,,",
+                "todo,false,too few fields",
+                "todo,false,old format,",
+                "todo,true,last,,work,1,3,\"1,2\""), StandardCharsets.UTF_8);
+        ArrayList<Task> imported = new ArrayList<>();
+        TaskImporter.ImportResult result = TaskImporter.importTasks(csv, TransferFormat.CSV, imported::addAll);
+        assertEquals(3, result.getImported());
+        assertEquals(8, result.getSkipped());
+        assertEquals("T | 0 | first", imported.get(0).data());
+        assertEquals("T | 0 | old format", imported.get(1).data());
+        assertEquals("T | 1 | last | tags:work | priority:1 | id:3 | after:1,2", imported.get(2).data());
+
+        Path jsonl = Files.createTempFile("duke-transfer", ".jsonl");
+        Files.write(jsonl, List.of(
+                "{\"type\":\"todo\",\"done\":false,\"description\":\"two\\nlines\"}",
+                "{\"type\":\"todo\",\"done\":false,\"description\":\"after\",\"after\":\"x\"}",
+                "{\"type\":\"todo\"",
+                "{\"type\":\"todo\",\"done\":false,\"description\":\"fine\",\"priority\":3}"),
+                StandardCharsets.UTF_8);
+        imported.clear();
+        result = TaskImporter.importTasks(jsonl, TransferFormat.JSONL, imported::addAll);
+        assertEquals(1, result.getImported());
+        assertEquals(3, result.getSkipped());
+        assertEquals("T | 0 | fine | priority:3", imported.get(0).data());
+    }
+
+    @Test
+    public void testDescriptionsOverManyLinesAreQuotedInCsv() throws Exception {
+        Path csv = Files.createTempFile("duke-transfer", ".csv");
+        TaskExporter.export(List.of(new Todo("two\nlines"), new Todo("next")), csv, TransferFormat.CSV);
+        ArrayList<Task> imported = new ArrayList<>();
+        TaskImporter.ImportResult result = TaskImporter.importTasks(csv, TransferFormat.CSV, imported::addAll);
+        assertEquals(1, result.getSkipped());
+        assertEquals(1, imported.size());
+        assertEquals("T | 0 | next", imported.get(0).data());
+    }
+
+    @Test
+    public void testImportAddsNothingUnlessTheWholeFileIsRead() throws Exception {
+        Path dataDir = Files.createTempDirectory("duke-transfer");
+        Controller controller = new Controller(dataDir);
+        controller.initialise();
+        controller.run("todo read book");
+        controller.run("todo write essay after #1");
+
+        Path csv = dataDir.resolve("tasks.csv");
+        Files.write(csv, List.of("todo,false,first,,,,,", "todo,false,\"never closed,,,,,"),
+                StandardCharsets.UTF_8);
+        controller.run("import " + csv);
+        assertTrue(controller.run("list").contains("2.") && !controller.run("list").contains("3."));
+
+        controller.run("export " + csv);
+        String output = controller.run("import " + csv);
+        assertTrue(output.contains("Imported 2 tasks"), output);
+        controller.run("done 1");
+        String ready = controller.run("ready");
+        assertTrue(ready.contains("write essay") && ready.contains("read book"), ready);
+        controller.run("done 3");
+        ready = controller.run("ready");
+        assertEquals(2, ready.split("write essay", -1).length - 1, ready);
+        controller.run("bye");
+    }
+}
@@ -0,0 +1,42 @@
+import duke.Controller;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeViewTest {
+    @Test
+    public void testViewStaysCurrentAsTasksChange() throws IOException {
+        Path dataDir = Files.createTempDirectory("duke-views");
+        Controller controller = new Controller(dataDir);
+        controller.initialise();
+        controller.run("todo fix urgent bug");
+        controller.run("todo read book");
+        controller.run("deadline urgent report /by 2021-03-12");
+        assertTrue(controller.run("save-view urgent find urgent").contains("2 matching tasks"));
+
+        controller.run("todo call urgent meeting");
+        controller.run("done 1");
+        controller.run("delete 3");
+        String view = controller.run("view urgent");
+        assertTrue(view.contains("1.[T][X] fix urgent bug"), view);
+        assertTrue(view.contains("2.[T][ ] call urgent meeting"), view);
+        assertFalse(view.contains("report"), view);
+        assertFalse(view.contains("read book"), view);
+
+        controller.run("list");
+        assertTrue(controller.run("view urgent").contains("2.[T][X] fix urgent bug"));
+
+        Controller restarted = new Controller(dataDir);
+        restarted.initialise();
+        view = restarted.run("view urgent");
+        assertTrue(view.contains("fix urgent bug") && view.contains("call urgent meeting"), view);
+        assertTrue(restarted.run("view other").contains("there is no view named 'other'"));
+        assertTrue(restarted.run("save-view archived find --all urgent").contains("cannot search"));
+        assertTrue(restarted.run("save-view bad todo urgent").contains("must be a find command"));
+    }
+}
@@ -0,0 +1,76 @@
+import duke.Controller;
+import duke.exceptions.DukeCreateDirectoryException;
+import duke.exceptions.DukeCreateFileException;
+import duke.exceptions.DukeUnknownArgumentsException;
+import duke.exceptions.DukeWorkspaceException;
+import duke.storage.Storage;
+import duke.tasks.TaskList;
+import duke.workspaces.Workspace;
+import duke.workspaces.Workspaces;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeWorkspaceTest {
+    @Test
+    public void testWorkspacesKeepSeparateLists() throws IOException {
+        Path dataDir = Files.createTempDirectory("duke-workspaces");
+        Controller controller = new Controller(dataDir);
+        controller.initialise();
+        controller.run("todo read book");
+        assertTrue(controller.run("use work").contains("Now you have 0 tasks"));
+        controller.run("todo write report");
+        controller.run("todo review pull request");
+        assertTrue(controller.run("use default").contains("Now you have 1 tasks"));
+        assertTrue(controller.run("list").contains("read book"));
+        assertTrue(Files.isDirectory(dataDir.resolve("workspaces").resolve("work")));
+
+        String workspaces = controller.run("workspaces");
+        assertTrue(workspaces.contains("1.default (active)"), workspaces);
+        assertTrue(workspaces.contains("2.work (loaded)"), workspaces);
+        assertTrue(controller.run("use ../home").contains("Failed to use workspace"));
+        assertTrue(controller.run("useful notes").contains("I don't know what that means"));
+        assertTrue(controller.run("workspaces").contains("1.default (active)"));
+
+        Controller restarted = new Controller(dataDir);
+        restarted.initialise();
+        assertTrue(restarted.run("workspaces").contains("2.work"));
+        assertTrue(restarted.run("use work").contains("Now you have 2 tasks"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedWorkspaceIsSavedAndUnloaded() throws IOException,
+            DukeCreateDirectoryException, DukeCreateFileException, DukeWorkspaceException,
+            DukeUnknownArgumentsException {
+        Storage storage = Storage.open(Files.createTempDirectory("duke-workspaces"));
+        Workspace defaultWorkspace = new Workspace(Workspaces.DEFAULT_WORKSPACE, storage, new TaskList(storage));
+        Workspaces workspaces = new Workspaces(defaultWorkspace, 2);
+
+        Workspace work = workspaces.use("work");
+        work.getTasks().run("todo write report");
+        workspaces.use("home");
+        assertEquals(2, workspaces.getResidentCount());
+        assertFalse(workspaces.isResident(Workspaces.DEFAULT_WORKSPACE));
+        assertTrue(workspaces.isResident("work"));
+
+        workspaces.use("work");
+        workspaces.use("garden");
+        assertFalse(workspaces.isResident("home"));
+        assertSame(work, workspaces.use("work"));
+        assertEquals(2, workspaces.getEvictions());
+
+        workspaces.use("home");
+        Workspace reloaded = workspaces.use("garden");
+        assertFalse(workspaces.isResident("work"));
+        assertEquals(1, workspaces.use("work").getTasks().size());
+        assertSame(reloaded, workspaces.use("garden"));
+        assertEquals(6, workspaces.getLoads());
+    }
+}
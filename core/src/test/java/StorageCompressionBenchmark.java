@@ -0,0 +1,88 @@
+import duke.storage.BlockCompression;
+import duke.storage.StorageDecoder;
+import duke.storage.StorageEncoder;
+import duke.tasks.Deadline;
+import duke.tasks.Event;
+import duke.tasks.Task;
+import duke.tasks.Todo;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+/**
+ * Compares the plain text and block compressed save formats by file size, save time and load
+ * time. Run with: gradlew benchmark -Pbenchmark=StorageCompressionBenchmark
+ */
+public class StorageCompressionBenchmark {
+    private static final int[] SIZES = {1_000, 100_000, 1_000_000};
+    private static final int RUNS = 5;
+    private static final String[] WORDS = {"read", "book", "CS2103", "assignment", "project",
+        "meeting", "submit", "report", "review", "lecture", "tutorial", "quiz"};
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Files.createTempDirectory("duke-benchmark");
+        System.out.printf("%-10s %-6s %12s %8s %10s %10s%n", "tasks", "format", "bytes", "ratio",
+                "save ms", "load ms");
+        for (int size : SIZES) {
+            ArrayList<Task> tasks = createTasks(size);
+            long plainBytes = 0;
+            for (boolean isCompressed : new boolean[] {false, true}) {
+                Path file = dir.resolve(size + (isCompressed ? ".dkz" : ".txt"));
+                long saveNanos = Long.MAX_VALUE;
+                long loadNanos = Long.MAX_VALUE;
+                for (int run = 0; run < RUNS; run++) {
+                    long start = System.nanoTime();
+                    try (BufferedWriter writer = BlockCompression.newWriter(file, isCompressed)) {
+                        StorageEncoder.encodeTasks(tasks, writer);
+                    }
+                    saveNanos = Math.min(saveNanos, System.nanoTime() - start);
+                    start = System.nanoTime();
+                    try (BufferedReader reader = BlockCompression.newReader(file)) {
+                        if (StorageDecoder.decodeSave(reader).size() != size) {
+                            throw new AssertionError("Loaded wrong number of tasks");
+                        }
+                    }
+                    loadNanos = Math.min(loadNanos, System.nanoTime() - start);
+                }
+                long bytes = Files.size(file);
+                if (!isCompressed) {
+                    plainBytes = bytes;
+                }
+                System.out.printf("%-10d %-6s %12d %8.2f %10.1f %10.1f%n", size,
+                        isCompressed ? "block" : "plain", bytes, (double) plainBytes / bytes,
+                        saveNanos / 1e6, loadNanos / 1e6);
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    private static ArrayList<Task> createTasks(int size) {
+        ArrayList<Task> tasks = new ArrayList<>();
+        LocalDate start = LocalDate.parse("2021-01-01");
+        for (int i = 0; i < size; i++) {
+            String description = WORDS[i % WORDS.length] + " " + WORDS[(i * 7) % WORDS.length] + " " + i;
+            Task task;
+            switch (i % 3) {
+            case 0:
+                task = new Todo(description);
+                break;
+            case 1:
+                task = new Deadline(description, start.plusDays(i % 365));
+                break;
+            default:
+                task = new Event(description, start.plusDays(i % 730));
+                break;
+            }
+            if (i % 4 == 0) {
+                task.done();
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,88 @@
+import duke.tasks.Deadline;
+import duke.tasks.Event;
+import duke.tasks.Task;
+import duke.tasks.Todo;
+import duke.transfer.TaskExporter;
+import duke.transfer.TaskImporter;
+import duke.transfer.TransferFormat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the throughput of exporting and importing 1M tasks in each format. The imported tasks
+ * are counted and dropped, so the peak heap shows the memory used by the import itself.
+ * Run with: gradlew benchmark -Pbenchmark=TransferBenchmark
+ */
+public class TransferBenchmark {
+    private static final int RECORDS = 1_000_000;
+    private static final LocalDate START = LocalDate.parse("2021-01-01");
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Files.createTempDirectory("duke-transfer");
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.out.printf("%-6s %10s %14s %14s %14s%n", "format", "MB", "export rec/s", "import rec/s",
+                "import peak MB");
+        for (TransferFormat format : TransferFormat.values()) {
+            Path file = dir.resolve("tasks." + format.getName());
+            long start = System.nanoTime();
+            TaskExporter.export(new GeneratedTasks(), file, format);
+            double exportSeconds = (System.nanoTime() - start) / 1e9;
+
+            System.gc();
+            long baseline = memory.getHeapMemoryUsage().getUsed();
+            AtomicLong peak = new AtomicLong(baseline);
+            AtomicLong imported = new AtomicLong();
+            start = System.nanoTime();
+            TaskImporter.importTasks(file, format, batch -> {
+                imported.addAndGet(batch.size());
+                peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+            });
+            double importSeconds = (System.nanoTime() - start) / 1e9;
+            if (imported.get() != RECORDS) {
+                throw new AssertionError("Imported " + imported.get() + " tasks");
+            }
+            System.out.printf("%-6s %10.1f %14.0f %14.0f %14.1f%n", format.getName(),
+                    Files.size(file) / 1e6, RECORDS / exportSeconds, RECORDS / importSeconds,
+                    (peak.get() - baseline) / 1e6);
+            Files.delete(file);
+        }
+        Files.delete(dir);
+    }
+
+    /**
+     * Generates the tasks as they are exported, so the benchmark does not hold 1M tasks.
+     */
+    private static class GeneratedTasks extends AbstractList<Task> {
+        @Override
+        public Task get(int i) {
+            String description = "task " + i + " for project " + (i % 97);
+            Task task;
+            switch (i % 3) {
+            case 0:
+                task = new Todo(description);
+                break;
+            case 1:
+                task = new Deadline(description, START.plusDays(i % 365));
+                break;
+            default:
+                task = new Event(description, START.plusDays(i % 730));
+                break;
+            }
+            if (i % 4 == 0) {
+                task.done();
+            }
+            return task;
+        }
+
+        @Override
+        public int size() {
+            return RECORDS;
+        }
+    }
+}
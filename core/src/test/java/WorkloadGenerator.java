@@ -0,0 +1,143 @@
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates a stream of user inputs with a configurable mix of commands. Descriptions are made
+ * from a small vocabulary of verbs, objects and projects, with tags and priorities on some tasks,
+ * so find and the indexes see the kind of text users type. The generator keeps track of how many
+ * tasks its inputs leave in the list, so done and delete always refer to a task in the list.
+ */
+public class WorkloadGenerator {
+    private static final String[] VERBS = {"review", "write", "fix", "call", "buy", "read", "plan",
+        "book", "email", "update", "clean", "prepare", "submit", "pay", "check"};
+    private static final String[] OBJECTS = {"report", "pull request", "groceries", "dentist",
+        "slides", "invoice", "flight", "budget", "essay", "tests", "garden", "taxes", "notes",
+        "release", "meeting agenda", "book chapter", "kitchen", "insurance", "build", "proposal"};
+    private static final String[] PROJECTS = {"billing", "onboarding", "cs2103", "home", "q3",
+        "website", "thesis", "family", "mobile app", "conference"};
+    private static final String[] TAGS = {"#work", "#home", "#urgent", "#ci", "#school", "#errand"};
+    private static final String[] TIMES = {"09:00", "10:30", "13:00", "14:00", "15:30", "17:00"};
+
+    /**
+     * Represents the kinds of commands in a workload.
+     */
+    public enum Kind {
+        TODO, DEADLINE, EVENT, DONE, DELETE, LIST, FIND
+    }
+
+    private final Random random;
+    private final Kind[] kinds;
+    private final int[] cumulativeWeights;
+    private final LocalDate firstDate;
+    private int size;
+
+    /**
+     * Constructs a WorkloadGenerator.
+     * @param mix weight of each kind of command; kinds that are missing are not generated.
+     * @param seed seed of the random numbers, so a workload can be replayed.
+     * @param size number of tasks in the list the inputs are run on.
+     * @param firstDate earliest date of deadlines and events.
+     */
+    public WorkloadGenerator(Map<Kind, Integer> mix, long seed, int size, LocalDate firstDate) {
+        random = new Random(seed);
+        kinds = mix.keySet().toArray(new Kind[0]);
+        cumulativeWeights = new int[kinds.length];
+        int total = 0;
+        for (int i = 0; i < kinds.length; i++) {
+            total += mix.get(kinds[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("The mix has no commands");
+        }
+        this.size = size;
+        this.firstDate = firstDate;
+    }
+
+    /**
+     * Parses a mix such as "todo=30,done=20,list=1".
+     * @param text kinds and their weights, separated by commas.
+     * @return weight of each kind of command.
+     */
+    public static Map<Kind, Integer> parseMix(String text) {
+        EnumMap<Kind, Integer> mix = new EnumMap<>(Kind.class);
+        for (String entry : text.split(",")) {
+            String[] parts = entry.trim().split("=");
+            mix.put(Kind.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the next input of the workload. Done and delete become adds while the list is empty.
+     * @return the next user input.
+     */
+    public String next() {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int i = 0;
+        while (cumulativeWeights[i] <= pick) {
+            i++;
+        }
+        return next(kinds[i]);
+    }
+
+    /**
+     * Returns an input of the kind.
+     * @param kind kind of the command.
+     * @return the user input.
+     */
+    public String next(Kind kind) {
+        if (size == 0 && (kind == Kind.DONE || kind == Kind.DELETE)) {
+            kind = Kind.TODO;
+        }
+        switch (kind) {
+        case TODO:
+            size++;
+            return withPriority("todo " + description());
+        case DEADLINE:
+            size++;
+            return withPriority("deadline " + description() + " /by " + date());
+        case EVENT:
+            size++;
+            String event = "event " + description() + " /at " + date();
+            return withPriority(random.nextBoolean() ? event : event + " " + pick(TIMES));
+        case DONE:
+            return "done " + (1 + random.nextInt(size));
+        case DELETE:
+            return "delete " + (1 + random.nextInt(size--));
+        case LIST:
+            return "list";
+        default:
+            return "find " + pick(OBJECTS);
+        }
+    }
+
+    private String description() {
+        StringBuilder description = new StringBuilder(pick(VERBS)).append(' ').append(pick(OBJECTS));
+        if (random.nextInt(3) == 0) {
+            description.append(" for ").append(pick(PROJECTS));
+        }
+        if (random.nextInt(4) == 0) {
+            description.append(' ').append(pick(TAGS));
+        }
+        return description.toString();
+    }
+
+    private String withPriority(String input) {
+        return random.nextInt(5) == 0 ? input + " /p " + (1 + random.nextInt(3)) : input;
+    }
+
+    private String date() {
+        return firstDate.plusDays(random.nextInt(365)).toString();
+    }
+
+    private String pick(String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+}
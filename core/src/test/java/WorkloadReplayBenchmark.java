@@ -0,0 +1,145 @@
+import duke.Controller;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replays generated workloads through Controller.run on a temporary data directory while the list
+ * grows, and reports for each list size the commands run per second, the p50/p99/p999 latency of
+ * one command, the bytes written and how much the heap has grown since the start. The list is
+ * grown to each size with batches of adds, which are not measured, and then the workload is
+ * replayed one command at a time.
+ * Run with: gradlew benchmark -Pbenchmark=WorkloadReplayBenchmark
+ *     -PbenchmarkArgs="--mix todo=25,done=25,list=1 --sizes 1000,10000 --commands 5000 --seed 42"
+ */
+public class WorkloadReplayBenchmark {
+    private static final String DEFAULT_MIX = "todo=25,deadline=10,event=10,done=25,delete=10,list=1,find=19";
+    private static final String DEFAULT_SIZES = "1000,10000,100000,1000000";
+    private static final int DEFAULT_COMMANDS = 5_000;
+    private static final int WARM_UP_COMMANDS = 20_000;
+    private static final int GROWTH_BATCH = 1000;
+    private static final WorkloadGenerator.Kind[] ADD_KINDS = {WorkloadGenerator.Kind.TODO,
+        WorkloadGenerator.Kind.DEADLINE, WorkloadGenerator.Kind.EVENT};
+    private static final Path PROC_IO = Paths.get("/proc/self/io");
+
+    public static void main(String[] args) throws Exception {
+        String mixText = DEFAULT_MIX;
+        String sizesText = DEFAULT_SIZES;
+        int commands = DEFAULT_COMMANDS;
+        long seed = 42;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+            case "--mix":
+                mixText = args[i + 1];
+                break;
+            case "--sizes":
+                sizesText = args[i + 1];
+                break;
+            case "--commands":
+                commands = Integer.parseInt(args[i + 1]);
+                break;
+            case "--seed":
+                seed = Long.parseLong(args[i + 1]);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        Map<WorkloadGenerator.Kind, Integer> mix = WorkloadGenerator.parseMix(mixText);
+        LocalDate firstDate = LocalDate.now().plusDays(1);
+
+        replay(newController(), new WorkloadGenerator(mix, seed, 0, firstDate), WARM_UP_COMMANDS);
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baselineHeap = memory.getHeapMemoryUsage().getUsed();
+        Controller controller = newController();
+        WorkloadGenerator generator = new WorkloadGenerator(mix, seed, 0, firstDate);
+        System.out.println("mix: " + mixText + ", " + commands + " commands per size");
+        System.out.printf("%9s %9s %10s %10s %10s %10s %12s %10s%n", "size", "tasks", "cmd/s",
+                "p50 us", "p99 us", "p999 us", "MB written", "heap MB");
+        for (String sizeText : sizesText.split(",")) {
+            int size = Integer.parseInt(sizeText.trim());
+            grow(controller, generator, size);
+            long writtenBefore = bytesWritten();
+            long start = System.nanoTime();
+            long[] latencies = replay(controller, generator, commands);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long written = bytesWritten() - writtenBefore;
+            System.gc();
+            long heap = memory.getHeapMemoryUsage().getUsed() - baselineHeap;
+            System.out.printf("%9d %9d %10.0f %10.1f %10.1f %10.1f %12s %10.1f%n", size,
+                    generator.getSize(), commands / seconds, percentile(latencies, 0.50),
+                    percentile(latencies, 0.99), percentile(latencies, 0.999),
+                    written < 0 ? "n/a" : String.format("%.1f", written / 1e6), heap / 1e6);
+        }
+    }
+
+    private static Controller newController() throws IOException {
+        Controller controller = new Controller(Files.createTempDirectory("duke-workload"));
+        controller.addReminderListener(reminder -> { });
+        controller.initialise();
+        return controller;
+    }
+
+    /**
+     * Adds tasks in batches until the list has the size. Each batch is saved once.
+     */
+    private static void grow(Controller controller, WorkloadGenerator generator, int size) {
+        List<String> batch = new ArrayList<>(GROWTH_BATCH);
+        int added = 0;
+        while (generator.getSize() < size) {
+            batch.add(generator.next(ADD_KINDS[added++ % ADD_KINDS.length]));
+            if (batch.size() == GROWTH_BATCH || generator.getSize() == size) {
+                controller.runBatch(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Runs the commands one at a time and returns the latency of each, in nanoseconds.
+     */
+    private static long[] replay(Controller controller, WorkloadGenerator generator, int commands) {
+        long[] latencies = new long[commands];
+        for (int i = 0; i < commands; i++) {
+            String input = generator.next();
+            long start = System.nanoTime();
+            controller.run(input);
+            latencies[i] = System.nanoTime() - start;
+        }
+        return latencies;
+    }
+
+    private static double percentile(long[] latencies, double fraction) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e3;
+    }
+
+    /**
+     * Returns the bytes this process has written so far, as counted by Linux, or -1 elsewhere.
+     */
+    private static long bytesWritten() {
+        try {
+            for (String line : Files.readAllLines(PROC_IO)) {
+                if (line.startsWith("wchar:")) {
+                    return Long.parseLong(line.substring("wchar:".length()).trim());
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Bytes written are not reported on this platform.
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,84 @@
+package duke.gui;
+
+import java.io.IOException;
+
+import duke.Controller;
+import duke.dispatch.CommandServer;
+import javafx.application.Application;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Scene;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.HBox;
+import javafx.stage.Stage;
+
+/**
+ * A GUI for duke.gui.Duke using FXML.
+ */
+public class Duke extends Application {
+    private static Stage stage;
+    private final Controller controller = new Controller();
+    private CommandServer server;
+
+    @Override
+    public void start(Stage stage) {
+        try {
+            FXMLLoader fxmlLoader = new FXMLLoader(Duke.class.getResource("/view/MainWindow.fxml"));
+            AnchorPane ap = fxmlLoader.load();
+            TaskPane taskPane = new TaskPane();
+            taskPane.prefHeightProperty().bind(ap.heightProperty());
+            Scene scene = new Scene(new HBox(ap, taskPane));
+            this.stage = stage;
+            stage.setOnCloseRequest(e -> handleExit());
+            stage.setTitle("duke.gui.Duke");
+            stage.setScene(scene);
+            stage.setResizable(false);
+            controller.addTaskListListener(taskPane);
+            MainWindow mainWindow = fxmlLoader.getController();
+            mainWindow.setController(controller);
+            startServer(mainWindow);
+            stage.show();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Starts a CommandServer sharing the dispatcher of the main window if the "duke.server.port"
+     * system property is set, so local clients can submit inputs while the GUI is open. Its token
+     * is written to the data directory of the Controller.
+     */
+    private void startServer(MainWindow mainWindow) {
+        Integer port = Integer.getInteger(CommandServer.PORT_PROPERTY);
+        if (port == null || controller.getDataDir() == null) {
+            return;
+        }
+        try {
+            server = CommandServer.start(mainWindow.getDispatcher(), port, controller.getDataDir());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Closes the CommandServer, if one was started, when the application exits, which also
+     * deletes its token from the data directory.
+     */
+    @Override
+    public void stop() {
+        if (server == null) {
+            return;
+        }
+        try {
+            server.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Quits the Duke GUI application.
+     */
+    public static void handleExit() {
+        stage.close();
+    }
+}
@@ -0,0 +1,149 @@
+package duke.gui;
+
+import java.io.IOException;
+import java.util.List;
+
+import duke.Controller;
+import duke.autocomplete.SuggestionWorker;
+import duke.dispatch.CommandDispatcher;
+import duke.ui.Message;
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.Button;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.image.Image;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+
+/**
+ * Controller for controller.gui.MainWindow. Provides the layout for the other controls.
+ */
+public class MainWindow extends AnchorPane {
+    @FXML
+    private ScrollPane scrollPane;
+    @FXML
+    private VBox dialogContainer;
+    @FXML
+    private TextField userInput;
+    @FXML
+    private Button sendButton;
+
+    private static final int MAX_SUGGESTIONS = 8;
+
+    private CommandDispatcher dispatcher;
+    private SuggestionWorker suggestionWorker;
+    private final ContextMenu suggestionMenu = new ContextMenu();
+
+    private Image userImage = new Image(this.getClass().getResourceAsStream("/images/DaUser.png"));
+    private Image dukeImage = new Image(this.getClass().getResourceAsStream("/images/DaDuke.png"));
+
+    /**
+     * Initializes the GUI application for Duke.
+     */
+    @FXML
+    public void initialize() {
+        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+        scrollPane.setFitToHeight(true);
+        userInput.textProperty().addListener((observable, oldInput, input) -> {
+            if (suggestionWorker != null) {
+                suggestionWorker.update(input);
+            }
+        });
+        userInput.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB && !suggestionMenu.getItems().isEmpty()) {
+                suggestionMenu.getItems().get(0).fire();
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Initializes the Controller for the GUI application, and shows starting message if Duke
+     * application is started correctly. Inputs are then run on the Controller by a
+     * CommandDispatcher, so other input sources can share it with the GUI. The save files are
+     * watched, and edits made to them outside Duke are reloaded and shown. Inputs are completed
+     * as they are typed, on a thread of their own.
+     * @param controller controller for the logic of the Duke application for the GUI application.
+     */
+    public void setController(Controller controller) {
+        controller.addReminderListener(reminder -> Platform.runLater(() ->
+                dialogContainer.getChildren().add(DialogBox.getDukeDialog(reminder, dukeImage))));
+        String response = controller.initialise();
+        dialogContainer.getChildren().addAll(
+                DialogBox.getDukeDialog(response, dukeImage)
+        );
+        suggestionWorker = new SuggestionWorker(controller.startAutocomplete(), MAX_SUGGESTIONS,
+                (input, suggestions) -> Platform.runLater(() -> showSuggestions(input, suggestions)));
+        dispatcher = new CommandDispatcher(controller);
+        try {
+            controller.startWatching(this::reloadSaveFiles);
+        } catch (IOException e) {
+            // Edits made outside Duke are then only seen after a restart or the reload command.
+        }
+    }
+
+    /**
+     * Reloads the save files after they were edited outside Duke and shows which tasks changed.
+     * The reload is run by the dispatcher, so no command runs while the edits are reconciled.
+     */
+    private void reloadSaveFiles() {
+        dispatcher.submit("reload").thenAccept(response -> Platform.runLater(() ->
+                dialogContainer.getChildren().add(DialogBox.getDukeDialog(response, dukeImage))));
+    }
+
+    /**
+     * Shows the suggestions below the user input, unless more was typed since they were computed.
+     * Choosing a suggestion, or pressing Tab for the first one, replaces the user input with it.
+     */
+    private void showSuggestions(String input, List<String> suggestions) {
+        if (!input.equals(userInput.getText())) {
+            return;
+        }
+        if (suggestions.isEmpty()) {
+            suggestionMenu.getItems().clear();
+            suggestionMenu.hide();
+            return;
+        }
+        suggestionMenu.getItems().clear();
+        for (String suggestion : suggestions) {
+            MenuItem item = new MenuItem(suggestion);
+            item.setMnemonicParsing(false);
+            item.setOnAction(event -> {
+                userInput.setText(suggestion);
+                userInput.positionCaret(suggestion.length());
+            });
+            suggestionMenu.getItems().add(item);
+        }
+        if (!suggestionMenu.isShowing()) {
+            suggestionMenu.show(userInput, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    public CommandDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * Creates two dialog boxes, one echoing user input and the other containing controller.gui.
+     * Duke's reply and then appends them to the dialog container. The reply is added once the
+     * dispatcher has run the input. Clears the user input after submitting.
+     */
+    @FXML
+    private void handleUserInput() {
+        String input = userInput.getText();
+        dialogContainer.getChildren().add(DialogBox.getUserDialog(Message.getUserInput(input), userImage));
+        dispatcher.submit(input).thenAccept(response -> Platform.runLater(() -> {
+            dialogContainer.getChildren().add(DialogBox.getDukeDialog(response, dukeImage));
+            if (response.equals(Message.getByeMsg())) {
+                Duke.handleExit();
+            }
+        }));
+        userInput.clear();
+    }
+}
@@ -0,0 +1,71 @@
+package duke.gui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.tasks.Task;
+import duke.tasks.TaskListListener;
+import javafx.application.Platform;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+
+/**
+ * A live view of the TaskList shown next to the dialog. The rows are patched as the TaskList
+ * changes, so a command only updates the rows it changed instead of re-rendering the whole list.
+ */
+public class TaskPane extends ListView<Task> implements TaskListListener {
+    private static final double WIDTH = 300;
+
+    /**
+     * Constructs an empty TaskPane, which is filled when it is added as a listener of a TaskList.
+     */
+    public TaskPane() {
+        setPrefWidth(WIDTH);
+        setFocusTraversable(false);
+        setCellFactory(listView -> new TaskCell());
+    }
+
+    @Override
+    public void onTaskAdded(int index, Task task) {
+        runOnFxThread(() -> getItems().add(index, task));
+    }
+
+    @Override
+    public void onTaskRemoved(int index, Task task) {
+        runOnFxThread(() -> getItems().remove(index));
+    }
+
+    @Override
+    public void onTaskUpdated(int index, Task task) {
+        runOnFxThread(() -> getItems().set(index, task));
+    }
+
+    @Override
+    public void onTasksReset(List<Task> tasks) {
+        ArrayList<Task> snapshot = new ArrayList<>(tasks);
+        runOnFxThread(() -> getItems().setAll(snapshot));
+    }
+
+    private static void runOnFxThread(Runnable update) {
+        if (Platform.isFxApplicationThread()) {
+            update.run();
+        } else {
+            Platform.runLater(update);
+        }
+    }
+
+    /**
+     * Shows a task with its index in the TaskList.
+     */
+    private static class TaskCell extends ListCell<Task> {
+        @Override
+        protected void updateItem(Task task, boolean isEmpty) {
+            super.updateItem(task, isEmpty);
+            if (isEmpty || task == null) {
+                setText(null);
+            } else {
+                setText((getIndex() + 1) + "." + task);
+            }
+        }
+    }
+}
@@ -1,9 +0,0 @@
-package duke.commands;
-
-/**
- * BasicCommandType contains basic commands that do not require additional inputs apart from
- * command type and without a date input.
- */
-public enum BasicCommandType {
-    DONE, LIST, DELETE, ADD
-}